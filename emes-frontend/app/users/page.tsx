@@ -68,6 +68,7 @@ export default function UsersPage() {
       createdAt: new Date(now.getTime() - (i % 365) * 24 * 60 * 60 * 1000).toISOString(),
       createdBy: 'admin',
       updatedAt: new Date(now.getTime() - (i % 30) * 24 * 60 * 60 * 1000).toISOString(),
+      version: 0,
     }));
   };
 
@@ -106,6 +107,7 @@ export default function UsersPage() {
         lastLoginAt: item.lastLoginAt,
         createdAt: item.createdAt,
         updatedAt: item.updatedAt,
+        version: item.version,
       }));
 
       setDummyData(mappedData);
@@ -188,9 +190,7 @@ export default function UsersPage() {
     }
 
     try {
-      await Promise.all(
-        selectedUsers.map(user => userService.deleteUser(user.userId))
-      );
+      await userService.deleteUsers(selectedUsers.map(user => user.userId));
       await refresh();
       dataTableRef.current.clearSelection();
     } catch (error) {
@@ -224,9 +224,7 @@ export default function UsersPage() {
     }
 
     try {
-      await Promise.all(
-        users.map(user => userService.deleteUser(user.userId))
-      );
+      await userService.deleteUsers(users.map(user => user.userId));
       await refresh();
     } catch (error) {
       console.error('Bulk delete error:', error);
@@ -14,6 +14,8 @@ import {
   Table,
 } from 'lucide-react';
 import { cn } from '@/lib/utils';
+import { menusApi } from '@/lib/api/menus';
+import type { MenuTreeItem } from '@/types/entities/menu';
 
 interface SubMenuItem {
   title: string;
@@ -27,7 +29,34 @@ interface MenuItem {
   children?: SubMenuItem[];
 }
 
-const menuItems: MenuItem[] = [
+const iconMap: Record<string, LucideIcon> = {
+  Users,
+  ShieldCheck,
+  Key,
+  FileText,
+  LayoutDashboard,
+  Table,
+};
+
+/**
+ * 서버 메뉴 트리 → 사이드바 항목 (2단계까지 표시)
+ */
+function toMenuItems(tree: MenuTreeItem[]): MenuItem[] {
+  return tree.map((menu) => ({
+    title: menu.menuName,
+    icon: (menu.icon && iconMap[menu.icon]) || FileText,
+    href: menu.children.length === 0 ? menu.menuPath : undefined,
+    children:
+      menu.children.length > 0
+        ? menu.children
+            .filter((child) => child.menuPath)
+            .map((child) => ({ title: child.menuName, href: child.menuPath as string }))
+        : undefined,
+  }));
+}
+
+/** 서버 메뉴가 없을 때 사용하는 기본 메뉴 */
+const defaultMenuItems: MenuItem[] = [
   {
     title: '대시보드',
     href: '/',
@@ -75,6 +104,24 @@ const menuItems: MenuItem[] = [
 
 export function Sidebar() {
   const pathname = usePathname();
+  const [menuItems, setMenuItems] = useState<MenuItem[]>(defaultMenuItems);
+
+  useEffect(() => {
+    let cancelled = false;
+    menusApi
+      .getMyMenus()
+      .then((response) => {
+        if (!cancelled && response.success && response.data.length > 0) {
+          setMenuItems(toMenuItems(response.data));
+        }
+      })
+      .catch(() => {
+        // 조회 실패 시 기본 메뉴 유지
+      });
+    return () => {
+      cancelled = true;
+    };
+  }, []);
 
   const getInitialOpenMenus = (): Record<string, boolean> => {
     const openMenus: Record<string, boolean> = {};
@@ -104,7 +151,7 @@ export function Sidebar() {
         }
       }
     });
-  }, [pathname]);
+  }, [pathname, menuItems]);
 
   const handleToggle = (title: string) => {
     setOpenMenus((prev) => ({
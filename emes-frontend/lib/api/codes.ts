@@ -1,3 +1,4 @@
+import { apiClient } from './client';
 import { createCrudApi } from './base';
 import {
   createFilterMapper,
@@ -9,7 +10,9 @@ import type {
   CodeCreateRequest,
   CodeUpdateRequest,
   CodeSearchParams,
+  CodeBundle,
 } from '@/types/entities/code';
+import type { ApiResponse } from '@/types/api';
 
 const CODES_BASE = '/admin/codes';
 
@@ -26,10 +29,23 @@ const baseApi = createCrudApi<
 
 /**
  * 기초코드 관리 API
- * 기본 CRUD 작업만 제공
+ * 기본 CRUD + 드롭다운용 일괄 조회
  */
 export const codesApi = {
   ...baseApi,
+
+  /**
+   * 기초코드 일괄 조회 (서버 메모리 스냅샷)
+   * 응답에 ETag 가 있으므로 브라우저가 재검증하고, 변경이 없으면 304 로 캐시 사용
+   * @param groups 그룹 코드 목록 (비우면 전체)
+   * @param tree true 면 계층 트리
+   */
+  getBundle: async (groups: string[] = [], tree = false) => {
+    const response = await apiClient.get<ApiResponse<CodeBundle>>('/codes', {
+      params: { groups: groups.length > 0 ? groups.join(',') : undefined, tree },
+    });
+    return response.data;
+  },
 };
 
 /**
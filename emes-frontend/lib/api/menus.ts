@@ -0,0 +1,16 @@
+import { apiClient } from './client';
+import type { ApiResponse } from '@/types/api';
+import type { MenuTreeItem } from '@/types/entities/menu';
+
+/**
+ * 메뉴 API
+ */
+export const menusApi = {
+  /**
+   * 로그인 사용자의 메뉴 트리 (역할 조합별로 서버에서 미리 계산된 트리)
+   */
+  getMyMenus: async () => {
+    const response = await apiClient.get<ApiResponse<MenuTreeItem[]>>('/menus/me');
+    return response.data;
+  },
+};
@@ -9,6 +9,7 @@ import type {
   PageResponse,
   User,
   UserCreateRequest,
+  UserImportJob,
   UserUpdateRequest,
   UserSearchParams,
 } from '@/types/api';
@@ -83,6 +84,38 @@ export const usersApi = {
     );
     return response.data;
   },
+
+  // Export users (CSV / XLSX, same filters as getUsers)
+  exportUsers: async (
+    params: Omit<UserSearchParams, 'page' | 'size' | 'cursor' | 'withTotal'> = {},
+    format: 'csv' | 'xlsx' = 'csv'
+  ) => {
+    const response = await apiClient.get<Blob>(`${USERS_BASE}/export`, {
+      params: { ...params, format },
+      responseType: 'blob',
+    });
+    return response.data;
+  },
+
+  // Import users (CSV / JSON upload, processed as an async job)
+  importUsers: async (file: File) => {
+    const formData = new FormData();
+    formData.append('file', file);
+    const response = await apiClient.post<ApiResponse<UserImportJob>>(
+      `${USERS_BASE}/import`,
+      formData,
+      { headers: { 'Content-Type': 'multipart/form-data' } }
+    );
+    return response.data;
+  },
+
+  // Get import job status
+  getImportJob: async (jobId: string) => {
+    const response = await apiClient.get<ApiResponse<UserImportJob>>(
+      `${USERS_BASE}/import/${jobId}`
+    );
+    return response.data;
+  },
 };
 
 /**
@@ -5,7 +5,8 @@ import type {
   UserCreateRequest,
   UserUpdateRequest,
   ApiResponse,
-  PageResponse
+  PageResponse,
+  UserBulkResult
 } from '@/types/api';
 
 /**
@@ -125,6 +126,41 @@ export class UserService {
     return response.data;
   }
 
+  /**
+   * 일괄 삭제 (선택한 사용자를 한 번의 요청으로 처리)
+   * @param userIds 사용자 ID 목록
+   * @returns 건별 결과
+   */
+  public async deleteUsers(userIds: number[]): Promise<ApiResponse<UserBulkResult>> {
+    return this.bulk('delete', userIds);
+  }
+
+  /**
+   * 일괄 잠금 / 잠금 해제
+   * @param userIds 사용자 ID 목록
+   * @param locked 잠금 여부
+   */
+  public async setAccountsLocked(userIds: number[], locked: boolean): Promise<ApiResponse<UserBulkResult>> {
+    return this.bulk(locked ? 'lock' : 'unlock', userIds);
+  }
+
+  /**
+   * 일괄 활성 / 비활성
+   * @param userIds 사용자 ID 목록
+   * @param enabled 활성 여부
+   */
+  public async setUsersEnabled(userIds: number[], enabled: boolean): Promise<ApiResponse<UserBulkResult>> {
+    return this.bulk(enabled ? 'enable' : 'disable', userIds);
+  }
+
+  private async bulk(action: string, userIds: number[]): Promise<ApiResponse<UserBulkResult>> {
+    const response = await apiClient.post<ApiResponse<UserBulkResult>>(
+      `${this.basePath}/bulk/${action}`,
+      { userIds }
+    );
+    return response.data;
+  }
+
   /**
    * 비밀번호 재설정
    * @param userId 사용자 ID
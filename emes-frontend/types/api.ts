@@ -10,10 +10,12 @@ export interface PageResponse<T> {
   content: T[];
   pageNumber: number;
   pageSize: number;
-  totalElements: number;
-  totalPages: number;
+  totalElements?: number; // withTotal=false 또는 커서 페이징에서 withTotal 미지정 시 생략
+  totalPages?: number;
   first: boolean;
   last: boolean;
+  hasNext: boolean;
+  nextCursor?: string;
 }
 
 export interface ErrorResponse {
@@ -61,6 +63,7 @@ export interface User {
   createdBy: string;
   updatedAt?: string;
   updatedBy?: string;
+  version: number;
 }
 
 export interface UserCreateRequest {
@@ -82,6 +85,18 @@ export interface UserUpdateRequest {
   position?: string;
   enabled?: boolean;
   accountLocked?: boolean;
+  /** 조회 시 받은 version (필수, 다른 사용자가 먼저 수정했으면 409) */
+  version: number;
+}
+
+export type UserBulkOutcome = 'UPDATED' | 'UNCHANGED' | 'NOT_FOUND';
+
+export interface UserBulkResult {
+  requested: number;
+  updated: number;
+  unchanged: number;
+  notFound: number;
+  results: { userId: number; outcome: UserBulkOutcome }[];
 }
 
 export interface UserSearchParams {
@@ -96,4 +111,27 @@ export interface UserSearchParams {
   size?: number;
   sortBy?: string;
   sortDirection?: 'asc' | 'desc';
+  cursor?: string;
+  withTotal?: boolean;
+}
+
+export interface UserImportError {
+  rowNumber: number;
+  username?: string;
+  message: string;
+}
+
+export interface UserImportJob {
+  jobId: string;
+  filename?: string;
+  status: 'PENDING' | 'RUNNING' | 'COMPLETED' | 'FAILED';
+  message?: string;
+  totalRows: number;
+  processedRows: number;
+  successCount: number;
+  failureCount: number;
+  createdAt: string;
+  startedAt?: string;
+  finishedAt?: string;
+  errors: UserImportError[];
 }
@@ -93,3 +93,41 @@ export interface CodeSearchParams extends BaseSearchParams {
   /** 활성 여부 필터 */
   isActive?: boolean;
 }
+
+/**
+ * 기초코드 일괄 조회 항목 (GET /codes)
+ * tree=true 로 조회하면 children 에 하위 코드 포함
+ */
+export interface CodeItem {
+  codeId: number;
+  code: string;
+  codeName: string;
+  codeValue?: string;
+  description?: string;
+  parentCode?: string;
+  level: number;
+  sortOrder: number;
+  attribute1?: string;
+  attribute2?: string;
+  attribute3?: string;
+  children?: CodeItem[];
+}
+
+/**
+ * 기초코드 그룹 (일괄 조회 응답)
+ */
+export interface CodeGroupBundle {
+  groupCode: string;
+  groupName: string;
+  description?: string;
+  codes: CodeItem[];
+}
+
+/**
+ * 기초코드 일괄 조회 응답
+ * version 은 서버 스냅샷 버전 (ETag 와 동일)
+ */
+export interface CodeBundle {
+  version: string;
+  groups: Record<string, CodeGroupBundle>;
+}
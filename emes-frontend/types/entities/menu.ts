@@ -0,0 +1,31 @@
+/**
+ * 메뉴 트리 항목 타입 (GET /menus/me)
+ */
+export interface MenuTreeItem {
+  /** 메뉴 ID */
+  menuId: number;
+
+  /** 메뉴 코드 */
+  menuCode: string;
+
+  /** 메뉴명 */
+  menuName: string;
+
+  /** 메뉴 유형 (FOLDER, PAGE, ACTION) */
+  menuType: string;
+
+  /** URL 경로 */
+  menuPath?: string;
+
+  /** 컴포넌트 경로 */
+  componentPath?: string;
+
+  /** 아이콘 이름 (lucide-react) */
+  icon?: string;
+
+  /** 정렬 순서 */
+  sortOrder: number;
+
+  /** 하위 메뉴 */
+  children: MenuTreeItem[];
+}
@@ -15,9 +15,9 @@ GO
 -- 사용자 테이블
 CREATE TABLE TB_CORE_USER (
     user_id BIGINT PRIMARY KEY IDENTITY(1,1),
-    username NVARCHAR(50) NOT NULL UNIQUE,
+    username NVARCHAR(50) NOT NULL CONSTRAINT UQ_TB_CORE_USER_username UNIQUE,
     password NVARCHAR(255) NOT NULL,
-    email NVARCHAR(100) NOT NULL UNIQUE,
+    email NVARCHAR(100) NOT NULL CONSTRAINT UQ_TB_CORE_USER_email UNIQUE,  -- 이름으로 중복 항목 판별 (UserService)
     full_name NVARCHAR(100) NOT NULL,
     phone NVARCHAR(20),
     department NVARCHAR(100),
@@ -32,12 +32,19 @@ CREATE TABLE TB_CORE_USER (
     updated_by BIGINT,
     updated_at DATETIME2,
     deleted_at DATETIME2,
-    version INT NOT NULL DEFAULT 0  -- Optimistic Locking
+    version INT NOT NULL DEFAULT 0,  -- Optimistic Locking
+    row_ver ROWVERSION  -- 검색 색인 동기화 (INSERT / UPDATE 마다 자동 증가, DB 직접 수정 포함)
 );
 
 CREATE INDEX IX_TB_CORE_USER_username ON TB_CORE_USER(username) WHERE deleted_at IS NULL;
 CREATE INDEX IX_TB_CORE_USER_email ON TB_CORE_USER(email) WHERE deleted_at IS NULL;
 CREATE INDEX IX_TB_CORE_USER_is_active ON TB_CORE_USER(is_active);
+-- Keyset 페이징용 정렬 인덱스 (정렬 키 + user_id)
+CREATE INDEX IX_TB_CORE_USER_created_at ON TB_CORE_USER(created_at, user_id) WHERE deleted_at IS NULL;
+CREATE INDEX IX_TB_CORE_USER_full_name ON TB_CORE_USER(full_name, user_id) WHERE deleted_at IS NULL;
+CREATE INDEX IX_TB_CORE_USER_department ON TB_CORE_USER(department, user_id) WHERE deleted_at IS NULL;
+-- 검색 색인 변경분 조회용
+CREATE INDEX IX_TB_CORE_USER_row_ver ON TB_CORE_USER(row_ver);
 
 -- 사용자 그룹 테이블
 CREATE TABLE TB_CORE_USER_GROUP (
@@ -259,9 +266,22 @@ CREATE INDEX IX_TB_CORE_MENU_ROLE_role_id ON TB_CORE_MENU_ROLE(role_id);
 -- 5. 감사 로그 테이블
 -- ===================================================================
 
--- 감사 로그 테이블 (파티셔닝 필수)
+-- 감사 로그 월별 파티션 함수 / 스키마 (log_date 기준, RANGE RIGHT: 경계값 = 매월 1일)
+-- 최초 경계는 생성 월 1일 (이전 구간인 1번 파티션은 항상 비어 있도록 유지)
+-- 이후 월 경계는 AuditPartitionManager 가 미리 추가(SPLIT)하고, 보관 기간이 지난 월은 SWITCH 후 MERGE
+DECLARE @audit_first_boundary NVARCHAR(10) = CONVERT(NVARCHAR(10), DATEFROMPARTS(YEAR(GETDATE()), MONTH(GETDATE()), 1), 23);
+DECLARE @audit_partition_sql NVARCHAR(MAX) =
+    N'CREATE PARTITION FUNCTION PF_AUDIT_LOG_MONTHLY (DATETIME2) AS RANGE RIGHT FOR VALUES (''' + @audit_first_boundary + N''')';
+EXEC sp_executesql @audit_partition_sql;
+GO
+
+CREATE PARTITION SCHEME PS_AUDIT_LOG_MONTHLY
+AS PARTITION PF_AUDIT_LOG_MONTHLY ALL TO ([PRIMARY]);
+GO
+
+-- 감사 로그 테이블 (log_date 월별 파티션, 클러스터 키 = (log_date, log_id))
 CREATE TABLE TB_CORE_AUDIT_LOG (
-    log_id BIGINT PRIMARY KEY IDENTITY(1,1),
+    log_id BIGINT IDENTITY(1,1) NOT NULL,
     log_date DATETIME2 NOT NULL DEFAULT GETDATE(),  -- 파티션 키
     user_id BIGINT,
     username NVARCHAR(50),
@@ -279,13 +299,51 @@ CREATE TABLE TB_CORE_AUDIT_LOG (
     is_success BIT NOT NULL DEFAULT 1,
     error_message NVARCHAR(MAX),
     session_id NVARCHAR(100),
-    created_at DATETIME2 NOT NULL DEFAULT GETDATE()
+    created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT PK_TB_CORE_AUDIT_LOG PRIMARY KEY CLUSTERED (log_date, log_id)
+) ON PS_AUDIT_LOG_MONTHLY(log_date);
+
+-- 파티션 정렬 인덱스 (SWITCH 가능하도록 모두 같은 파티션 스키마)
+CREATE INDEX IX_TB_CORE_AUDIT_LOG_user_id ON TB_CORE_AUDIT_LOG(user_id, log_date) ON PS_AUDIT_LOG_MONTHLY(log_date);
+CREATE INDEX IX_TB_CORE_AUDIT_LOG_action_type ON TB_CORE_AUDIT_LOG(action_type, log_date) ON PS_AUDIT_LOG_MONTHLY(log_date);
+CREATE INDEX IX_TB_CORE_AUDIT_LOG_resource ON TB_CORE_AUDIT_LOG(resource_type, resource_id) ON PS_AUDIT_LOG_MONTHLY(log_date);
+
+-- 감사 로그 파티션 SWITCH 대상 (보관 기간이 지난 월을 옮긴 뒤 비움, 구조/인덱스가 원본과 같아야 함)
+CREATE TABLE TB_CORE_AUDIT_LOG_SWITCH (
+    log_id BIGINT IDENTITY(1,1) NOT NULL,
+    log_date DATETIME2 NOT NULL DEFAULT GETDATE(),
+    user_id BIGINT,
+    username NVARCHAR(50),
+    ip_address NVARCHAR(45),
+    user_agent NVARCHAR(500),
+    action_type NVARCHAR(50) NOT NULL,
+    resource_type NVARCHAR(100),
+    resource_id NVARCHAR(100),
+    method NVARCHAR(10),
+    endpoint NVARCHAR(500),
+    request_params NVARCHAR(MAX),
+    response_status INT,
+    response_message NVARCHAR(MAX),
+    execution_time_ms INT,
+    is_success BIT NOT NULL DEFAULT 1,
+    error_message NVARCHAR(MAX),
+    session_id NVARCHAR(100),
+    created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+    CONSTRAINT PK_TB_CORE_AUDIT_LOG_SWITCH PRIMARY KEY CLUSTERED (log_date, log_id)
+) ON [PRIMARY];
+
+CREATE INDEX IX_TB_CORE_AUDIT_LOG_SWITCH_user_id ON TB_CORE_AUDIT_LOG_SWITCH(user_id, log_date);
+CREATE INDEX IX_TB_CORE_AUDIT_LOG_SWITCH_action_type ON TB_CORE_AUDIT_LOG_SWITCH(action_type, log_date);
+CREATE INDEX IX_TB_CORE_AUDIT_LOG_SWITCH_resource ON TB_CORE_AUDIT_LOG_SWITCH(resource_type, resource_id);
+
+-- 예약 작업 잠금 (여러 서버 중 한 대만 실행, locked_until 이 지나면 다른 서버가 가져감)
+CREATE TABLE TB_CORE_JOB_LOCK (
+    lock_name NVARCHAR(100) NOT NULL PRIMARY KEY,  -- 예: AUDIT_ARCHIVE
+    locked_by NVARCHAR(200) NOT NULL,
+    locked_at DATETIME2 NOT NULL,
+    locked_until DATETIME2 NOT NULL
 );
-
-CREATE INDEX IX_TB_CORE_AUDIT_LOG_log_date ON TB_CORE_AUDIT_LOG(log_date);
-CREATE INDEX IX_TB_CORE_AUDIT_LOG_user_id ON TB_CORE_AUDIT_LOG(user_id);
-CREATE INDEX IX_TB_CORE_AUDIT_LOG_action_type ON TB_CORE_AUDIT_LOG(action_type);
-CREATE INDEX IX_TB_CORE_AUDIT_LOG_resource ON TB_CORE_AUDIT_LOG(resource_type, resource_id);
+GO
 
 -- ===================================================================
 -- 6. 다국어 지원 테이블
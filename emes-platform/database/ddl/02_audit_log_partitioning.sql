@@ -0,0 +1,101 @@
+SET QUOTED_IDENTIFIER ON;
+SET ANSI_NULLS ON;
+GO
+
+-- ===================================================================
+-- EMES Platform - 감사 로그 파티셔닝 전환 스크립트
+-- Database: MS SQL Server
+-- 01_core_tables.sql 1.0.0 으로 생성된 기존 DB 용 (TB_CORE_AUDIT_LOG 를 월별 파티션 테이블로 전환)
+-- 신규 설치는 01_core_tables.sql 에 포함되어 있으므로 실행 불필요
+-- ===================================================================
+
+-- 1. 파티션 함수 / 스키마 (기존 데이터의 최초 월부터 현재 월까지 경계 생성)
+IF NOT EXISTS (SELECT 1 FROM sys.partition_functions WHERE name = 'PF_AUDIT_LOG_MONTHLY')
+BEGIN
+    DECLARE @first_month DATE = (SELECT DATEFROMPARTS(YEAR(MIN(log_date)), MONTH(MIN(log_date)), 1) FROM TB_CORE_AUDIT_LOG);
+    DECLARE @current_month DATE = DATEFROMPARTS(YEAR(GETDATE()), MONTH(GETDATE()), 1);
+    IF @first_month IS NULL OR @first_month > @current_month
+        SET @first_month = @current_month;
+
+    DECLARE @boundaries NVARCHAR(MAX) = N'';
+    DECLARE @month DATE = @first_month;
+    WHILE @month <= @current_month
+    BEGIN
+        SET @boundaries = @boundaries + CASE WHEN @boundaries = N'' THEN N'' ELSE N', ' END
+            + N'''' + CONVERT(NVARCHAR(10), @month, 23) + N'''';
+        SET @month = DATEADD(MONTH, 1, @month);
+    END
+
+    DECLARE @sql NVARCHAR(MAX) =
+        N'CREATE PARTITION FUNCTION PF_AUDIT_LOG_MONTHLY (DATETIME2) AS RANGE RIGHT FOR VALUES (' + @boundaries + N')';
+    EXEC sp_executesql @sql;
+END
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.partition_schemes WHERE name = 'PS_AUDIT_LOG_MONTHLY')
+    CREATE PARTITION SCHEME PS_AUDIT_LOG_MONTHLY
+    AS PARTITION PF_AUDIT_LOG_MONTHLY ALL TO ([PRIMARY]);
+GO
+
+-- 2. 클러스터 키를 (log_date, log_id) 로 바꾸면서 파티션 스키마로 이동
+IF NOT EXISTS (SELECT 1 FROM sys.key_constraints
+               WHERE parent_object_id = OBJECT_ID('TB_CORE_AUDIT_LOG') AND name = 'PK_TB_CORE_AUDIT_LOG')
+BEGIN
+    DROP INDEX IF EXISTS IX_TB_CORE_AUDIT_LOG_log_date ON TB_CORE_AUDIT_LOG;
+    DROP INDEX IF EXISTS IX_TB_CORE_AUDIT_LOG_user_id ON TB_CORE_AUDIT_LOG;
+    DROP INDEX IF EXISTS IX_TB_CORE_AUDIT_LOG_action_type ON TB_CORE_AUDIT_LOG;
+    DROP INDEX IF EXISTS IX_TB_CORE_AUDIT_LOG_resource ON TB_CORE_AUDIT_LOG;
+
+    DECLARE @pk_name NVARCHAR(128) = (SELECT name FROM sys.key_constraints
+                                      WHERE parent_object_id = OBJECT_ID('TB_CORE_AUDIT_LOG') AND type = 'PK');
+    IF @pk_name IS NOT NULL
+    BEGIN
+        DECLARE @drop_pk NVARCHAR(MAX) = N'ALTER TABLE TB_CORE_AUDIT_LOG DROP CONSTRAINT ' + QUOTENAME(@pk_name);
+        EXEC sp_executesql @drop_pk;
+    END
+
+    ALTER TABLE TB_CORE_AUDIT_LOG
+        ADD CONSTRAINT PK_TB_CORE_AUDIT_LOG PRIMARY KEY CLUSTERED (log_date, log_id)
+        ON PS_AUDIT_LOG_MONTHLY(log_date);
+
+    CREATE INDEX IX_TB_CORE_AUDIT_LOG_user_id ON TB_CORE_AUDIT_LOG(user_id, log_date) ON PS_AUDIT_LOG_MONTHLY(log_date);
+    CREATE INDEX IX_TB_CORE_AUDIT_LOG_action_type ON TB_CORE_AUDIT_LOG(action_type, log_date) ON PS_AUDIT_LOG_MONTHLY(log_date);
+    CREATE INDEX IX_TB_CORE_AUDIT_LOG_resource ON TB_CORE_AUDIT_LOG(resource_type, resource_id) ON PS_AUDIT_LOG_MONTHLY(log_date);
+END
+GO
+
+-- 3. SWITCH 대상 테이블
+IF OBJECT_ID('TB_CORE_AUDIT_LOG_SWITCH') IS NULL
+BEGIN
+    CREATE TABLE TB_CORE_AUDIT_LOG_SWITCH (
+        log_id BIGINT IDENTITY(1,1) NOT NULL,
+        log_date DATETIME2 NOT NULL DEFAULT GETDATE(),
+        user_id BIGINT,
+        username NVARCHAR(50),
+        ip_address NVARCHAR(45),
+        user_agent NVARCHAR(500),
+        action_type NVARCHAR(50) NOT NULL,
+        resource_type NVARCHAR(100),
+        resource_id NVARCHAR(100),
+        method NVARCHAR(10),
+        endpoint NVARCHAR(500),
+        request_params NVARCHAR(MAX),
+        response_status INT,
+        response_message NVARCHAR(MAX),
+        execution_time_ms INT,
+        is_success BIT NOT NULL DEFAULT 1,
+        error_message NVARCHAR(MAX),
+        session_id NVARCHAR(100),
+        created_at DATETIME2 NOT NULL DEFAULT GETDATE(),
+        CONSTRAINT PK_TB_CORE_AUDIT_LOG_SWITCH PRIMARY KEY CLUSTERED (log_date, log_id)
+    ) ON [PRIMARY];
+
+    CREATE INDEX IX_TB_CORE_AUDIT_LOG_SWITCH_user_id ON TB_CORE_AUDIT_LOG_SWITCH(user_id, log_date);
+    CREATE INDEX IX_TB_CORE_AUDIT_LOG_SWITCH_action_type ON TB_CORE_AUDIT_LOG_SWITCH(action_type, log_date);
+    CREATE INDEX IX_TB_CORE_AUDIT_LOG_SWITCH_resource ON TB_CORE_AUDIT_LOG_SWITCH(resource_type, resource_id);
+END
+GO
+
+-- ===================================================================
+-- Script Complete
+-- ===================================================================
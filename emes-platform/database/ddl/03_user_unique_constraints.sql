@@ -0,0 +1,50 @@
+SET QUOTED_IDENTIFIER ON;
+SET ANSI_NULLS ON;
+GO
+
+-- ===================================================================
+-- EMES Platform - 사용자 UNIQUE 제약 이름 지정 스크립트
+-- Database: MS SQL Server
+-- 01_core_tables.sql 1.0.0 으로 생성된 기존 DB 용 (자동 생성된 UQ__ 이름을 고정 이름으로 변경)
+-- 사용자 생성 / 수정 시 제약 이름으로 사용자명 / 이메일 중복을 구분함
+-- 신규 설치는 01_core_tables.sql 에 포함되어 있으므로 실행 불필요
+-- ===================================================================
+
+DECLARE @column SYSNAME;
+DECLARE @target SYSNAME;
+DECLARE @current SYSNAME;
+DECLARE @old NVARCHAR(300);
+
+DECLARE constraint_cursor CURSOR LOCAL FAST_FORWARD FOR
+    SELECT column_name, target_name
+    FROM (VALUES (N'username', N'UQ_TB_CORE_USER_username'),
+                 (N'email', N'UQ_TB_CORE_USER_email')) v (column_name, target_name);
+
+OPEN constraint_cursor;
+FETCH NEXT FROM constraint_cursor INTO @column, @target;
+WHILE @@FETCH_STATUS = 0
+BEGIN
+    -- 해당 컬럼 하나로만 구성된 UNIQUE 제약
+    SELECT @current = kc.name
+    FROM sys.key_constraints kc
+    INNER JOIN sys.index_columns ic ON ic.object_id = kc.parent_object_id AND ic.index_id = kc.unique_index_id
+    INNER JOIN sys.columns c ON c.object_id = ic.object_id AND c.column_id = ic.column_id
+    WHERE kc.parent_object_id = OBJECT_ID(N'TB_CORE_USER')
+      AND kc.type = 'UQ'
+      AND c.name = @column
+      AND (SELECT COUNT(*) FROM sys.index_columns x
+           WHERE x.object_id = kc.parent_object_id AND x.index_id = kc.unique_index_id) = 1;
+
+    IF @current IS NOT NULL AND @current <> @target
+    BEGIN
+        SET @old = N'dbo.' + QUOTENAME(@current);
+        EXEC sp_rename @old, @target, N'OBJECT';
+        PRINT N'Renamed ' + @current + N' to ' + @target;
+    END
+
+    SET @current = NULL;
+    FETCH NEXT FROM constraint_cursor INTO @column, @target;
+END
+CLOSE constraint_cursor;
+DEALLOCATE constraint_cursor;
+GO
@@ -0,0 +1,21 @@
+SET QUOTED_IDENTIFIER ON;
+SET ANSI_NULLS ON;
+GO
+
+-- ===================================================================
+-- EMES Platform - 예약 작업 잠금 테이블 추가 스크립트
+-- Database: MS SQL Server
+-- 기존 DB 용 (감사 로그 아카이브를 여러 서버 중 한 대만 실행하도록 잠금 행 사용)
+-- 신규 설치는 01_core_tables.sql 에 포함되어 있으므로 실행 불필요
+-- ===================================================================
+
+IF OBJECT_ID('TB_CORE_JOB_LOCK', 'U') IS NULL
+BEGIN
+    CREATE TABLE TB_CORE_JOB_LOCK (
+        lock_name NVARCHAR(100) NOT NULL PRIMARY KEY,  -- 예: AUDIT_ARCHIVE
+        locked_by NVARCHAR(200) NOT NULL,
+        locked_at DATETIME2 NOT NULL,
+        locked_until DATETIME2 NOT NULL
+    );
+END
+GO
@@ -0,0 +1,23 @@
+SET QUOTED_IDENTIFIER ON;
+SET ANSI_NULLS ON;
+GO
+
+-- ===================================================================
+-- EMES Platform - 사용자 행 버전 컬럼 추가 스크립트
+-- Database: MS SQL Server
+-- 기존 DB 용 (서버별 사용자 검색 색인이 다른 서버 / DB 직접 변경분을 row_ver 로 조회하여 반영)
+-- 신규 설치는 01_core_tables.sql 에 포함되어 있으므로 실행 불필요
+-- ===================================================================
+
+IF COL_LENGTH('TB_CORE_USER', 'row_ver') IS NULL
+BEGIN
+    ALTER TABLE TB_CORE_USER ADD row_ver ROWVERSION;
+END
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes
+               WHERE object_id = OBJECT_ID('TB_CORE_USER') AND name = 'IX_TB_CORE_USER_row_ver')
+BEGIN
+    CREATE INDEX IX_TB_CORE_USER_row_ver ON TB_CORE_USER(row_ver);
+END
+GO
@@ -0,0 +1,31 @@
+SET QUOTED_IDENTIFIER ON;
+SET ANSI_NULLS ON;
+GO
+
+-- ===================================================================
+-- EMES Platform - 사용자 Keyset 페이징 인덱스 추가 스크립트
+-- Database: MS SQL Server
+-- 기존 DB 용 (사용자 목록 커서 페이징의 정렬 키 + user_id 인덱스, 미적용 시 페이지마다 정렬 스캔)
+-- 신규 설치는 01_core_tables.sql 에 포함되어 있으므로 실행 불필요
+-- ===================================================================
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes
+               WHERE object_id = OBJECT_ID('TB_CORE_USER') AND name = 'IX_TB_CORE_USER_created_at')
+BEGIN
+    CREATE INDEX IX_TB_CORE_USER_created_at ON TB_CORE_USER(created_at, user_id) WHERE deleted_at IS NULL;
+END
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes
+               WHERE object_id = OBJECT_ID('TB_CORE_USER') AND name = 'IX_TB_CORE_USER_full_name')
+BEGIN
+    CREATE INDEX IX_TB_CORE_USER_full_name ON TB_CORE_USER(full_name, user_id) WHERE deleted_at IS NULL;
+END
+GO
+
+IF NOT EXISTS (SELECT 1 FROM sys.indexes
+               WHERE object_id = OBJECT_ID('TB_CORE_USER') AND name = 'IX_TB_CORE_USER_department')
+BEGIN
+    CREATE INDEX IX_TB_CORE_USER_department ON TB_CORE_USER(department, user_id) WHERE deleted_at IS NULL;
+END
+GO
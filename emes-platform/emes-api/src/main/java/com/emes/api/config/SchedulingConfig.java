@@ -0,0 +1,13 @@
+package com.emes.api.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Scheduling Configuration
+ * 각 모듈의 @Scheduled 작업 활성화 (Refresh Token 저장/만료 정리 등)
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,69 @@
+package com.emes.api.config;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+
+/**
+ * Virtual Thread Configuration (spring.threads.virtual.enabled=true)
+ * Tomcat 요청 처리, 비동기 응답(applicationTaskExecutor), @Scheduled 작업은 Spring Boot 가 가상 스레드로 실행
+ * 이 설정은 JDBC 동시 사용 수를 세마포어로 제한 (스레드 수가 풀 크기를 훨씬 넘으므로)
+ *
+ * - 최대 동시 사용 수: emes.datasource.max-concurrency (기본값 Hikari maximum-pool-size)
+ * - 대기 시간: emes.datasource.acquire-timeout-ms (기본값 Hikari connection-timeout)
+ * - 메트릭: emes.datasource.permits.available / waiting
+ * - 고정(pinning) 확인: -Djdk.tracePinnedThreads=short
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(prefix = "spring.threads.virtual", name = "enabled", havingValue = "true")
+public class VirtualThreadConfig {
+
+    @Bean
+    @ConditionalOnProperty(prefix = "emes.datasource.concurrency-limit", name = "enabled", havingValue = "true", matchIfMissing = true)
+    public static BeanPostProcessor concurrencyLimitedDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitedDataSource) {
+                    return bean;
+                }
+
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                long poolTimeout = environment.getProperty("spring.datasource.hikari.connection-timeout", Long.class, 30000L);
+                int maxConcurrency = environment.getProperty("emes.datasource.max-concurrency", Integer.class, poolSize);
+                long acquireTimeout = environment.getProperty("emes.datasource.acquire-timeout-ms", Long.class, poolTimeout);
+
+                log.info("Virtual threads enabled: JDBC concurrency limited to {} for '{}'", maxConcurrency, beanName);
+                return new ConcurrencyLimitedDataSource(dataSource, maxConcurrency, acquireTimeout);
+            }
+        };
+    }
+
+    /**
+     * 세마포어 메트릭 (DataSource 후처리 시점에는 MeterRegistry 를 만들지 않도록 별도 등록)
+     */
+    @Bean
+    public MeterBinder concurrencyLimitedDataSourceMetrics(ObjectProvider<DataSource> dataSources) {
+        return registry -> dataSources.orderedStream()
+                .filter(ConcurrencyLimitedDataSource.class::isInstance)
+                .map(ConcurrencyLimitedDataSource.class::cast)
+                .findFirst()
+                .ifPresent(dataSource -> {
+                    Gauge.builder("emes.datasource.permits.available", dataSource, ConcurrencyLimitedDataSource::getAvailablePermits)
+                            .description("JDBC connection permits available")
+                            .register(registry);
+                    Gauge.builder("emes.datasource.permits.waiting", dataSource, ConcurrencyLimitedDataSource::getWaitingThreads)
+                            .description("Threads waiting for a JDBC connection permit")
+                            .register(registry);
+                });
+    }
+}
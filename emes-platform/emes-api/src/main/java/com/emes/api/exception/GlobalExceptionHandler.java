@@ -4,7 +4,10 @@ import com.emes.core.common.exception.BusinessException;
 import com.emes.core.common.exception.ErrorCode;
 import com.emes.core.common.exception.ErrorResponse;
 import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.MessageSource;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -18,11 +21,15 @@ import java.util.UUID;
 
 /**
  * Global Exception Handler
+ * ErrorCode 메시지는 MessageSource 의 "error.{code}" 키로 지역화 (없으면 ErrorCode 기본 메시지)
  */
 @Slf4j
 @RestControllerAdvice
+@RequiredArgsConstructor
 public class GlobalExceptionHandler {
 
+    private final MessageSource messageSource;
+
     /**
      * 비즈니스 예외 처리
      */
@@ -35,6 +42,7 @@ public class GlobalExceptionHandler {
 
         ErrorResponse errorResponse = ErrorResponse.of(
                 ex.getErrorCode(),
+                localize(ex.getErrorCode()),
                 request.getRequestURI()
         );
 
@@ -80,6 +88,7 @@ public class GlobalExceptionHandler {
 
         ErrorResponse errorResponse = ErrorResponse.of(
                 ErrorCode.INTERNAL_SERVER_ERROR,
+                localize(ErrorCode.INTERNAL_SERVER_ERROR),
                 request.getRequestURI()
         );
 
@@ -87,4 +96,12 @@ public class GlobalExceptionHandler {
                 .status(HttpStatus.INTERNAL_SERVER_ERROR)
                 .body(errorResponse);
     }
+
+    /**
+     * 요청 로케일의 에러 메시지
+     */
+    private String localize(ErrorCode errorCode) {
+        return messageSource.getMessage("error." + errorCode.getCode(), null,
+                errorCode.getMessage(), LocaleContextHolder.getLocale());
+    }
 }
@@ -0,0 +1,135 @@
+package com.emes.benchmarks;
+
+import com.emes.core.admin.dto.user.UserResponse;
+import com.emes.core.admin.service.UserService;
+import com.emes.core.domain.model.Permission;
+import com.emes.core.domain.model.User;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 벤치마크 공용 테스트 데이터 (DB 없이 메모리에서 생성)
+ */
+public final class BenchmarkFixtures {
+
+    /** JWT 서명 키 (application.yml 기본값과 같은 길이) */
+    public static final String JWT_SECRET =
+            "your-256-bit-secret-key-change-this-in-production-minimum-32-characters-required";
+
+    private static final String[] RESOURCES = {"USER", "ROLE", "MENU", "CODE", "GROUP", "AUDIT", "MESSAGE", "PERMISSION"};
+    private static final String[] ACTIONS = {"READ", "WRITE", "DELETE", "EXPORT"};
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+
+    /** UserService.convertToResponse (private, 의존성 없이 호출하도록 빈 UserService 에 바인딩) */
+    private static final MethodHandle CONVERT_TO_RESPONSE;
+
+    static {
+        try {
+            UserService userService = new UserService(null, null, null, null, null);
+            CONVERT_TO_RESPONSE = MethodHandles.privateLookupIn(UserService.class, MethodHandles.lookup())
+                    .findVirtual(UserService.class, "convertToResponse",
+                            MethodType.methodType(UserResponse.class, User.class))
+                    .bindTo(userService);
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    private BenchmarkFixtures() {
+    }
+
+    /**
+     * 권한 목록 (USER_READ, USER_WRITE ... 이후 RESOURCE{n}_{ACTION})
+     */
+    public static List<Permission> permissions(int count) {
+        List<Permission> permissions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            int resourceIndex = i / ACTIONS.length;
+            String resource = resourceIndex < RESOURCES.length ? RESOURCES[resourceIndex] : "RESOURCE" + resourceIndex;
+            String action = ACTIONS[i % ACTIONS.length];
+            permissions.add(Permission.builder()
+                    .permissionId((long) i + 1)
+                    .permissionCode(resource + "_" + action)
+                    .permissionName(resource + " " + action)
+                    .resource(resource)
+                    .action(action)
+                    .isActive(true)
+                    .build());
+        }
+        return permissions;
+    }
+
+    /**
+     * 사용자 권한 (ROLE_USER, ROLE_ADMIN + 앞에서부터 permissionCount 개의 권한 코드)
+     */
+    public static List<GrantedAuthority> authorities(List<Permission> permissions, int permissionCount) {
+        List<GrantedAuthority> authorities = new ArrayList<>(permissionCount + 2);
+        authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
+        authorities.add(new SimpleGrantedAuthority("ROLE_ADMIN"));
+        for (int i = 0; i < permissionCount && i < permissions.size(); i++) {
+            authorities.add(new SimpleGrantedAuthority(permissions.get(i).getPermissionCode()));
+        }
+        return authorities;
+    }
+
+    /**
+     * 사용자 목록 (모든 컬럼 채움)
+     */
+    public static List<User> users(int count) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            users.add(user(i + 1L));
+        }
+        return users;
+    }
+
+    public static User user(long userId) {
+        LocalDateTime createdAt = BASE_TIME.plusMinutes(userId);
+        User user = new User();
+        user.setUserId(userId);
+        user.setUsername("user" + userId);
+        user.setPassword("$2a$10$7EqJtq98hPqEX7fNZaFWoOhi5BwNnSRrA1y6x9QkH0e4BDqfJKZ2u");
+        user.setEmail("user" + userId + "@emes.com");
+        user.setFullName("사용자 " + userId);
+        user.setPhone("010-1234-" + String.format("%04d", userId % 10_000));
+        user.setDepartment("생산관리팀");
+        user.setPosition("선임");
+        user.setIsActive(true);
+        user.setIsLocked(false);
+        user.setFailedLoginAttempts(0);
+        user.setLastLoginAt(createdAt.plusDays(30));
+        user.setPasswordChangedAt(createdAt.plusDays(1));
+        user.setCreatedBy(1L);
+        user.setCreatedAt(createdAt);
+        user.setUpdatedBy(1L);
+        user.setUpdatedAt(createdAt.plusDays(2));
+        user.setVersion(3);
+        return user;
+    }
+
+    /**
+     * 운영 코드와 같은 경로로 User → UserResponse 변환
+     */
+    public static UserResponse toResponse(User user) {
+        try {
+            return (UserResponse) CONVERT_TO_RESPONSE.invokeExact(user);
+        } catch (Throwable e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    public static List<UserResponse> userResponses(int count) {
+        List<UserResponse> responses = new ArrayList<>(count);
+        for (User user : users(count)) {
+            responses.add(toResponse(user));
+        }
+        return responses;
+    }
+}
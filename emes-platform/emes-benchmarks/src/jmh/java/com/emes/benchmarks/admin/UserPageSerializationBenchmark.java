@@ -0,0 +1,72 @@
+package com.emes.benchmarks.admin;
+
+import com.emes.benchmarks.BenchmarkFixtures;
+import com.emes.core.admin.dto.user.UserResponse;
+import com.emes.core.common.dto.ApiResponse;
+import com.emes.core.common.dto.PageResponse;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 사용자 목록 응답 ApiResponse&lt;PageResponse&lt;UserResponse&gt;&gt; JSON 직렬화
+ *
+ * - writeToStream: 응답 스트림에 바로 기록 (MappingJackson2HttpMessageConverter 경로)
+ * - writeValueAsBytes: 전체 본문을 메모리에 만든 뒤 기록 (캐시 / 버퍼링 경로)
+ * ObjectMapper 는 application.yml 의 spring.jackson 설정과 같게 구성
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class UserPageSerializationBenchmark {
+
+    @Param({"20", "1000", "100000"})
+    public int rows;
+
+    private ObjectMapper objectMapper;
+    private ApiResponse<PageResponse<UserResponse>> response;
+    private final OutputStream sink = OutputStream.nullOutputStream();
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        objectMapper = JsonMapper.builder()
+                .addModule(new JavaTimeModule())
+                .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+                .disable(SerializationFeature.FAIL_ON_EMPTY_BEANS)
+                .disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES)
+                .serializationInclusion(JsonInclude.Include.NON_NULL)
+                .defaultTimeZone(TimeZone.getTimeZone("Asia/Seoul"))
+                .build();
+
+        List<UserResponse> content = BenchmarkFixtures.userResponses(rows);
+        response = ApiResponse.success(PageResponse.of(content, 0, rows, rows * 10L));
+    }
+
+    @Benchmark
+    public void writeToStream() throws IOException {
+        objectMapper.writeValue(sink, response);
+    }
+
+    @Benchmark
+    public byte[] writeValueAsBytes() throws IOException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+}
@@ -0,0 +1,54 @@
+package com.emes.benchmarks.admin;
+
+import com.emes.benchmarks.BenchmarkFixtures;
+import com.emes.core.admin.dto.user.UserResponse;
+import com.emes.core.domain.model.User;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * UserService.convertToResponse (User → UserResponse)
+ * 단건 변환과 목록 조회 한 페이지 분량 변환
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class UserResponseMappingBenchmark {
+
+    @Param({"20", "1000"})
+    public int rows;
+
+    private User user;
+    private List<User> users;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        user = BenchmarkFixtures.user(1L);
+        users = BenchmarkFixtures.users(rows);
+    }
+
+    @Benchmark
+    public UserResponse convertOne() {
+        return BenchmarkFixtures.toResponse(user);
+    }
+
+    @Benchmark
+    public List<UserResponse> convertPage() {
+        List<UserResponse> responses = new ArrayList<>(users.size());
+        for (User u : users) {
+            responses.add(BenchmarkFixtures.toResponse(u));
+        }
+        return responses;
+    }
+}
@@ -0,0 +1,64 @@
+package com.emes.benchmarks.security;
+
+import com.emes.core.security.jwt.JwtAuthenticationToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.util.Collection;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JWT auth 클레임 문자열 → GrantedAuthority 목록 (JwtAuthenticationToken.parseAuthorities)
+ * 패키지 전용 메서드이므로 MethodHandle 로 호출 (static final 이라 JIT 인라인됨)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AuthorityParsingBenchmark {
+
+    private static final MethodHandle PARSE_AUTHORITIES;
+
+    static {
+        try {
+            PARSE_AUTHORITIES = MethodHandles.privateLookupIn(JwtAuthenticationToken.class, MethodHandles.lookup())
+                    .findStatic(JwtAuthenticationToken.class, "parseAuthorities",
+                            MethodType.methodType(Collection.class, String.class));
+        } catch (ReflectiveOperationException e) {
+            throw new ExceptionInInitializerError(e);
+        }
+    }
+
+    /** 클레임에 담긴 권한 수 */
+    @Param({"1", "10", "100"})
+    public int authorityCount;
+
+    private String authorities;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        StringJoiner joiner = new StringJoiner(",");
+        joiner.add("ROLE_USER");
+        for (int i = 1; i < authorityCount; i++) {
+            joiner.add("RESOURCE" + i + "_READ");
+        }
+        authorities = joiner.toString();
+    }
+
+    @Benchmark
+    @SuppressWarnings("unchecked")
+    public Collection<? extends GrantedAuthority> parseAuthorities() throws Throwable {
+        return (Collection<? extends GrantedAuthority>) PARSE_AUTHORITIES.invokeExact(authorities);
+    }
+}
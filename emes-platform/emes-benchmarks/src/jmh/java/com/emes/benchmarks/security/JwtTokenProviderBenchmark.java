@@ -0,0 +1,72 @@
+package com.emes.benchmarks.security;
+
+import com.emes.benchmarks.BenchmarkFixtures;
+import com.emes.core.domain.model.Permission;
+import com.emes.core.security.jwt.JwtTokenProvider;
+import com.emes.core.security.permission.PermissionRegistry;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.Authentication;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtTokenProvider 발급 / 검증 / Authentication 변환
+ *
+ * - verifiedCacheSize = 0: 매 호출 서명 검증 + Claims 파싱 (최초 요청 / 캐시 미적중)
+ * - verifiedCacheSize = 10000: 검증 캐시 적중 (같은 토큰으로 반복 요청)
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtTokenProviderBenchmark {
+
+    private static final int REGISTRY_SIZE = 200;
+
+    /** 사용자가 가진 권한 코드 수 (ROLE_* 2개 별도) */
+    @Param({"10", "100"})
+    public int permissionCount;
+
+    @Param({"0", "10000"})
+    public long verifiedCacheSize;
+
+    private JwtTokenProvider tokenProvider;
+    private Authentication authentication;
+    private String token;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        List<Permission> permissions = BenchmarkFixtures.permissions(REGISTRY_SIZE);
+        PermissionRegistry permissionRegistry = new PermissionRegistry(() -> permissions);
+        tokenProvider = new JwtTokenProvider(permissionRegistry, BenchmarkFixtures.JWT_SECRET,
+                3600, 604800, verifiedCacheSize);
+
+        authentication = new UsernamePasswordAuthenticationToken("admin", null,
+                BenchmarkFixtures.authorities(permissions, permissionCount));
+        token = tokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public String createAccessToken() {
+        return tokenProvider.createAccessToken(authentication);
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return tokenProvider.validateToken(token);
+    }
+
+    @Benchmark
+    public Authentication getAuthentication() {
+        return tokenProvider.getAuthentication(token);
+    }
+}
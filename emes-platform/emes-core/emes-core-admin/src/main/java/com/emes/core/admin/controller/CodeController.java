@@ -0,0 +1,53 @@
+package com.emes.core.admin.controller;
+
+import com.emes.core.admin.dto.code.CodeBundleResponse;
+import com.emes.core.admin.service.CodeService;
+import com.emes.core.common.dto.ApiResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.List;
+
+/**
+ * 기초코드 조회 API Controller (화면 드롭다운 등)
+ * 메모리 스냅샷에서 응답하며, 스냅샷 버전을 ETag 로 사용하여 변경이 없으면 304
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/codes")
+@RequiredArgsConstructor
+public class CodeController {
+
+    private final CodeService codeService;
+
+    /**
+     * 기초코드 일괄 조회
+     * groups 미지정 시 전체 그룹, tree=true 면 계층 트리
+     * 예: GET /api/v1/codes?groups=ORDER_STATUS,UNIT&tree=false
+     */
+    @GetMapping
+    public ResponseEntity<ApiResponse<CodeBundleResponse>> getCodes(
+            @RequestParam(required = false) List<String> groups,
+            @RequestParam(defaultValue = "false") boolean tree,
+            WebRequest webRequest) {
+
+        CodeService.Snapshot snapshot = codeService.current();
+        String eTag = "\"" + snapshot.getVersion() + "\"";
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        CodeBundleResponse response = codeService.getCodes(snapshot, groups, tree);
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response));
+    }
+}
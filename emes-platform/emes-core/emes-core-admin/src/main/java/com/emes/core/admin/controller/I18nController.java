@@ -0,0 +1,67 @@
+package com.emes.core.admin.controller;
+
+import com.emes.core.admin.service.DatabaseMessageSource;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.StringUtils;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
+
+import java.util.Locale;
+
+/**
+ * 다국어 메시지 API Controller
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/i18n")
+@RequiredArgsConstructor
+public class I18nController {
+
+    private final DatabaseMessageSource messageSource;
+
+    /**
+     * 로케일 / 카테고리별 메시지 번들 (프론트엔드 라벨 등)
+     * 미리 만들어 둔 본문을 그대로 반환하며, Accept-Encoding 에 gzip 이 있으면 압축본 사용
+     * ETag 가 같으면 304 (압축본은 -gz 가 붙은 별도 ETag)
+     * 예: GET /api/v1/i18n/messages?locale=ko_KR&category=UI
+     */
+    @GetMapping("/messages")
+    public ResponseEntity<byte[]> getMessages(
+            @RequestParam(required = false) String locale,
+            @RequestParam(required = false) String category,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WebRequest webRequest) {
+
+        Locale requested = StringUtils.hasText(locale)
+                ? DatabaseMessageSource.parseLocale(locale)
+                : LocaleContextHolder.getLocale();
+        DatabaseMessageSource.MessageBundle bundle =
+                messageSource.getBundle(requested, StringUtils.hasText(category) ? category : null);
+
+        boolean gzip = acceptEncoding != null && acceptEncoding.contains("gzip");
+        String eTag = gzip ? bundle.getGzipETag() : bundle.getETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .varyBy(HttpHeaders.ACCEPT_ENCODING)
+                .contentType(MediaType.APPLICATION_JSON);
+        if (gzip) {
+            return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(bundle.getGzip());
+        }
+        return response.body(bundle.getJson());
+    }
+}
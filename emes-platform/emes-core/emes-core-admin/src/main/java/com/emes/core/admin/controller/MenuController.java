@@ -0,0 +1,45 @@
+package com.emes.core.admin.controller;
+
+import com.emes.core.admin.dto.menu.MenuTreeResponse;
+import com.emes.core.admin.service.MenuService;
+import com.emes.core.common.dto.ApiResponse;
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.List;
+
+/**
+ * 메뉴 API Controller
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/menus")
+@RequiredArgsConstructor
+public class MenuController {
+
+    private final MenuService menuService;
+
+    /**
+     * 로그인 사용자의 메뉴 트리 (사이드바)
+     */
+    @GetMapping("/me")
+    public ResponseEntity<ApiResponse<List<MenuTreeResponse>>> getMyMenus() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            throw new BusinessException(ErrorCode.UNAUTHORIZED);
+        }
+
+        List<MenuTreeResponse> response = menuService.getMenuTree(authentication.getName());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
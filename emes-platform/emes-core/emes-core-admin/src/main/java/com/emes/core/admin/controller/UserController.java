@@ -1,16 +1,33 @@
 package com.emes.core.admin.controller;
 
 import com.emes.core.admin.dto.user.*;
+import com.emes.core.admin.service.DummyUserService;
+import com.emes.core.admin.service.UserExportService;
+import com.emes.core.admin.service.UserImportService;
 import com.emes.core.admin.service.UserService;
 import com.emes.core.common.dto.ApiResponse;
 import com.emes.core.common.dto.PageResponse;
+import com.emes.core.search.dto.UserSearchIndexStatus;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 
 /**
  * 사용자 관리 API Controller
@@ -21,13 +38,19 @@ import org.springframework.web.bind.annotation.*;
 @RequiredArgsConstructor
 public class UserController {
 
+    private static final String XLSX_CONTENT_TYPE = "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet";
+    private static final DateTimeFormatter EXPORT_FILE_TIMESTAMP = DateTimeFormatter.ofPattern("yyyyMMddHHmmss");
+
     private final UserService userService;
+    private final UserExportService userExportService;
+    private final UserImportService userImportService;
+    private final DummyUserService dummyUserService;
 
     /**
      * 사용자 생성
      */
     @PostMapping
-    @PreAuthorize("hasAuthority('USER_CREATE')")
+    @PreAuthorize("@permission.has('USER_CREATE')")
     public ResponseEntity<ApiResponse<UserResponse>> createUser(
             @Valid @RequestBody UserCreateRequest request) {
         log.info("Create user request: {}", request.getUsername());
@@ -39,22 +62,34 @@ public class UserController {
 
     /**
      * 사용자 조회
+     * 강한 ETag(user_id + version + 마지막 로그인 일시) 를 내려주며, If-None-Match 가 같으면 ETag 구성 컬럼만 조회하고 304
      */
     @GetMapping("/{userId}")
-    @PreAuthorize("hasAuthority('USER_READ')")
+    @PreAuthorize("@permission.has('USER_READ')")
     public ResponseEntity<ApiResponse<UserResponse>> getUser(
-            @PathVariable Long userId) {
+            @PathVariable Long userId,
+            WebRequest webRequest) {
         log.info("Get user request: {}", userId);
 
+        if (webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null
+                && webRequest.checkNotModified(userService.getUserETag(userId))) {
+            return null;
+        }
+
         UserResponse response = userService.getUser(userId);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(UserService.eTag(response.getUserId(), response.getVersion(), response.getLastLoginAt()))
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResponse.success(response));
     }
 
     /**
      * 사용자 목록 조회 (검색 + 페이징)
+     * cursor 지정 시 Keyset 페이징 (이전 응답의 nextCursor 전달)
+     * withTotal=false 시 전체 건수 조회 생략 (커서 페이징은 withTotal=true 로 지정한 경우에만 조회)
      */
     @GetMapping
-    @PreAuthorize("hasAuthority('USER_READ')")
+    @PreAuthorize("@permission.has('USER_READ')")
     public ResponseEntity<ApiResponse<PageResponse<UserResponse>>> searchUsers(
             @RequestParam(required = false) String username,
             @RequestParam(required = false) String email,
@@ -66,9 +101,11 @@ public class UserController {
             @RequestParam(defaultValue = "0") Integer page,
             @RequestParam(defaultValue = "20") Integer size,
             @RequestParam(defaultValue = "createdAt") String sortBy,
-            @RequestParam(defaultValue = "desc") String sortDirection) {
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(required = false) Boolean withTotal) {
 
-        log.info("Search users request - page: {}, size: {}", page, size);
+        log.info("Search users request - page: {}, size: {}, cursor: {}", page, size, cursor != null);
 
         UserSearchRequest searchRequest = UserSearchRequest.builder()
                 .username(username)
@@ -82,31 +119,136 @@ public class UserController {
                 .size(size)
                 .sortBy(sortBy)
                 .sortDirection(sortDirection)
+                .cursor(cursor)
+                .withTotal(withTotal)
                 .build();
 
         PageResponse<UserResponse> response = userService.searchUsers(searchRequest);
         return ResponseEntity.ok(ApiResponse.success(response));
     }
 
+    /**
+     * 사용자 내보내기 (검색 조건 동일, CSV / XLSX 스트리밍)
+     * XLSX 는 행 수 확인이 끝난 뒤 다운로드 헤더를 지정하므로, 행 수 초과 시 일반 오류 응답으로 반환
+     */
+    @GetMapping("/export")
+    @PreAuthorize("@permission.has('USER_READ')")
+    public void exportUsers(
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String email,
+            @RequestParam(required = false) String displayName,
+            @RequestParam(required = false) String department,
+            @RequestParam(required = false) String position,
+            @RequestParam(required = false) Boolean enabled,
+            @RequestParam(required = false) Boolean accountLocked,
+            @RequestParam(defaultValue = "createdAt") String sortBy,
+            @RequestParam(defaultValue = "desc") String sortDirection,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletResponse response) throws IOException {
+
+        log.info("Export users request - format: {}", format);
+
+        UserSearchRequest searchRequest = UserSearchRequest.builder()
+                .username(username)
+                .email(email)
+                .displayName(displayName)
+                .department(department)
+                .position(position)
+                .enabled(enabled)
+                .accountLocked(accountLocked)
+                .sortBy(sortBy)
+                .sortDirection(sortDirection)
+                .build();
+
+        boolean xlsx = "xlsx".equalsIgnoreCase(format);
+        String filename = "users_" + LocalDateTime.now().format(EXPORT_FILE_TIMESTAMP) + (xlsx ? ".xlsx" : ".csv");
+
+        Runnable downloadHeaders = () -> {
+            response.setContentType(xlsx ? XLSX_CONTENT_TYPE : "text/csv;charset=UTF-8");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                    ContentDisposition.attachment().filename(filename, StandardCharsets.UTF_8).build().toString());
+        };
+
+        if (xlsx) {
+            userExportService.exportXlsx(searchRequest, response.getOutputStream(), downloadHeaders);
+        } else {
+            downloadHeaders.run();
+            userExportService.exportCsv(searchRequest, response.getOutputStream());
+        }
+    }
+
+    /**
+     * 사용자 일괄 등록 (CSV / JSON 업로드, 비동기 작업으로 처리)
+     * CSV 헤더: username,password,email,displayName,phoneNumber,department,position,enabled
+     * JSON: 사용자 생성 요청 객체 배열
+     */
+    @PostMapping(value = "/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("@permission.has('USER_CREATE')")
+    public ResponseEntity<ApiResponse<UserImportJobResponse>> importUsers(
+            @RequestParam("file") MultipartFile file) {
+        log.info("Import users request: {}", file.getOriginalFilename());
+
+        UserImportJobResponse response = userImportService.submit(file);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 일괄 등록 작업 상태 조회 (진행률 + 행 단위 오류)
+     */
+    @GetMapping("/import/{jobId}")
+    @PreAuthorize("@permission.has('USER_CREATE')")
+    public ResponseEntity<ApiResponse<UserImportJobResponse>> getImportJob(
+            @PathVariable String jobId) {
+        UserImportJobResponse response = userImportService.getJob(jobId);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 검색 색인 상태 조회
+     */
+    @GetMapping("/search-index")
+    @PreAuthorize("@permission.has('USER_READ')")
+    public ResponseEntity<ApiResponse<UserSearchIndexStatus>> getSearchIndexStatus() {
+        UserSearchIndexStatus response = userService.getSearchIndexStatus();
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 검색 색인 전체 재구축 (비동기)
+     */
+    @PostMapping("/search-index/rebuild")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
+    public ResponseEntity<ApiResponse<UserSearchIndexStatus>> rebuildSearchIndex() {
+        log.info("Rebuild user search index request");
+
+        UserSearchIndexStatus response = userService.rebuildSearchIndex();
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResponse.success(response));
+    }
+
     /**
      * 사용자 수정
+     * version 은 필수 (없으면 400), 현재 버전과 다르면 409 (U009), 응답에 새 ETag 포함
      */
     @PutMapping("/{userId}")
-    @PreAuthorize("hasAuthority('USER_UPDATE')")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
     public ResponseEntity<ApiResponse<UserResponse>> updateUser(
             @PathVariable Long userId,
             @Valid @RequestBody UserUpdateRequest request) {
         log.info("Update user request: {}", userId);
 
         UserResponse response = userService.updateUser(userId, request);
-        return ResponseEntity.ok(ApiResponse.success(response));
+        return ResponseEntity.ok()
+                .eTag(UserService.eTag(response.getUserId(), response.getVersion(), response.getLastLoginAt()))
+                .body(ApiResponse.success(response));
     }
 
     /**
      * 사용자 삭제
      */
     @DeleteMapping("/{userId}")
-    @PreAuthorize("hasAuthority('USER_DELETE')")
+    @PreAuthorize("@permission.has('USER_DELETE')")
     public ResponseEntity<ApiResponse<Void>> deleteUser(
             @PathVariable Long userId) {
         log.info("Delete user request: {}", userId);
@@ -119,7 +261,7 @@ public class UserController {
      * 비밀번호 변경
      */
     @PatchMapping("/{userId}/password")
-    @PreAuthorize("hasAuthority('USER_UPDATE')")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
     public ResponseEntity<ApiResponse<Void>> changePassword(
             @PathVariable Long userId,
             @Valid @RequestBody PasswordChangeRequest request) {
@@ -133,7 +275,7 @@ public class UserController {
      * 계정 잠금
      */
     @PatchMapping("/{userId}/lock")
-    @PreAuthorize("hasAuthority('USER_UPDATE')")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
     public ResponseEntity<ApiResponse<Void>> lockAccount(
             @PathVariable Long userId) {
         log.info("Lock account request: {}", userId);
@@ -146,7 +288,7 @@ public class UserController {
      * 계정 잠금 해제
      */
     @PatchMapping("/{userId}/unlock")
-    @PreAuthorize("hasAuthority('USER_UPDATE')")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
     public ResponseEntity<ApiResponse<Void>> unlockAccount(
             @PathVariable Long userId) {
         log.info("Unlock account request: {}", userId);
@@ -155,45 +297,106 @@ public class UserController {
         return ResponseEntity.ok(ApiResponse.success(null));
     }
 
+    /**
+     * 계정 일괄 잠금
+     * 선택한 사용자를 IN 목록 단위 한 문장으로 처리하고 건별 결과 반환 (UPDATED / UNCHANGED / NOT_FOUND)
+     */
+    @PostMapping("/bulk/lock")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
+    public ResponseEntity<ApiResponse<UserBulkResultResponse>> lockAccounts(
+            @Valid @RequestBody UserBulkRequest request) {
+        log.info("Bulk lock request: {} users", request.getUserIds().size());
+
+        UserBulkResultResponse response = userService.setAccountLockBulk(request.getUserIds(), true);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 계정 일괄 잠금 해제
+     */
+    @PostMapping("/bulk/unlock")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
+    public ResponseEntity<ApiResponse<UserBulkResultResponse>> unlockAccounts(
+            @Valid @RequestBody UserBulkRequest request) {
+        log.info("Bulk unlock request: {} users", request.getUserIds().size());
+
+        UserBulkResultResponse response = userService.setAccountLockBulk(request.getUserIds(), false);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 일괄 활성화
+     */
+    @PostMapping("/bulk/enable")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
+    public ResponseEntity<ApiResponse<UserBulkResultResponse>> enableUsers(
+            @Valid @RequestBody UserBulkRequest request) {
+        log.info("Bulk enable request: {} users", request.getUserIds().size());
+
+        UserBulkResultResponse response = userService.setEnabledBulk(request.getUserIds(), true);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 일괄 비활성화
+     */
+    @PostMapping("/bulk/disable")
+    @PreAuthorize("@permission.has('USER_UPDATE')")
+    public ResponseEntity<ApiResponse<UserBulkResultResponse>> disableUsers(
+            @Valid @RequestBody UserBulkRequest request) {
+        log.info("Bulk disable request: {} users", request.getUserIds().size());
+
+        UserBulkResultResponse response = userService.setEnabledBulk(request.getUserIds(), false);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
+    /**
+     * 사용자 일괄 삭제 (Soft Delete, 본문이 필요하므로 POST)
+     */
+    @PostMapping("/bulk/delete")
+    @PreAuthorize("@permission.has('USER_DELETE')")
+    public ResponseEntity<ApiResponse<UserBulkResultResponse>> deleteUsers(
+            @Valid @RequestBody UserBulkRequest request) {
+        log.info("Bulk delete request: {} users", request.getUserIds().size());
+
+        UserBulkResultResponse response = userService.deleteUsersBulk(request.getUserIds());
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+
     /**
      * 대용량 더미 데이터 생성 (테스트용)
      * @param count 생성할 더미 데이터 개수 (기본값: 10000, 최대: 10000000)
      */
     @GetMapping("/dummy")
-    @PreAuthorize("hasAuthority('USER_READ')")
+    @PreAuthorize("@permission.has('USER_READ')")
     public ResponseEntity<ApiResponse<java.util.List<UserResponse>>> getDummyUsers(
             @RequestParam(defaultValue = "10000") Integer count) {
         log.info("Generate dummy users request: count={}", count);
 
-        // 최대 1000만개로 제한
-        int actualCount = Math.min(count, 10_000_000);
-
-        java.util.List<UserResponse> dummyUsers = new java.util.ArrayList<>(actualCount);
-        java.time.LocalDateTime now = java.time.LocalDateTime.now();
-        String[] departments = {"개발팀", "기획팀", "디자인팀", "영업팀", "인사팀", "재무팀", "생산팀", "품질팀"};
-        String[] positions = {"사원", "대리", "과장", "차장", "부장", "이사"};
-
-        for (int i = 1; i <= actualCount; i++) {
-            dummyUsers.add(UserResponse.builder()
-                    .userId((long) i)
-                    .username("user" + i)
-                    .email("user" + i + "@example.com")
-                    .displayName("테스트사용자" + i)
-                    .phoneNumber("010-" + String.format("%04d", i % 10000) + "-" + String.format("%04d", (i / 10000) % 10000))
-                    .department(departments[i % departments.length])
-                    .position(positions[i % positions.length])
-                    .enabled(i % 10 != 0) // 10% 비활성
-                    .accountLocked(i % 50 == 0) // 2% 잠금
-                    .lastLoginAt(now.minusDays(i % 30))
-                    .passwordChangedAt(now.minusDays(i % 90))
-                    .createdAt(now.minusDays(i % 365))
-                    .createdBy("admin")
-                    .updatedAt(now.minusDays(i % 30))
-                    .updatedBy("admin")
-                    .build());
-        }
+        java.util.List<UserResponse> dummyUsers = dummyUserService.createDummyUsers(count);
 
-        log.info("Generated {} dummy users", actualCount);
+        log.info("Generated {} dummy users", dummyUsers.size());
         return ResponseEntity.ok(ApiResponse.success(dummyUsers));
     }
+
+    /**
+     * 대용량 더미 데이터 스트리밍 (테스트용)
+     * 생성 즉시 응답에 기록하므로 건수와 무관하게 힙 사용량 일정
+     * @param count 생성할 더미 데이터 개수 (기본값: 10000, 최대: 10000000)
+     * @param format ndjson (줄 단위 JSON) 또는 json (청크 전송 JSON 배열)
+     */
+    @GetMapping("/dummy/stream")
+    @PreAuthorize("@permission.has('USER_READ')")
+    public ResponseEntity<StreamingResponseBody> streamDummyUsers(
+            @RequestParam(defaultValue = "10000") Integer count,
+            @RequestParam(defaultValue = "ndjson") String format) {
+        log.info("Stream dummy users request: count={}, format={}", count, format);
+
+        boolean ndjson = !"json".equalsIgnoreCase(format);
+        StreamingResponseBody body = outputStream -> dummyUserService.writeDummyUsers(count, ndjson, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(ndjson ? MediaType.APPLICATION_NDJSON : MediaType.APPLICATION_JSON)
+                .body(body);
+    }
 }
@@ -0,0 +1,23 @@
+package com.emes.core.admin.dto.code;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 기초코드 일괄 조회 응답 DTO
+ * version 은 코드 스냅샷 버전 (ETag 와 동일 값)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeBundleResponse {
+
+    private String version;
+    /** 그룹 코드별 응답 (요청 순서, 없는 그룹은 제외) */
+    private Map<String, CodeGroupResponse> groups;
+}
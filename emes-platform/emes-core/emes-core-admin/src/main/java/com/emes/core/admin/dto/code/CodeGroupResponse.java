@@ -0,0 +1,23 @@
+package com.emes.core.admin.dto.code;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 코드 그룹 응답 DTO (그룹 정보 + 코드 목록 또는 최상위 코드 트리)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeGroupResponse {
+
+    private String groupCode;
+    private String groupName;
+    private String description;
+    private List<CodeResponse> codes;
+}
@@ -0,0 +1,34 @@
+package com.emes.core.admin.dto.code;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 기초코드 응답 DTO
+ * 목록 형태에서는 children 이 없고(null), 트리 형태에서는 하위 코드를 children 에 담음
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class CodeResponse {
+
+    private Long codeId;
+    private String code;
+    private String codeName;
+    private String codeValue;
+    private String description;
+    private String parentCode;
+    private Integer level;
+    private Integer sortOrder;
+    private String attribute1;
+    private String attribute2;
+    private String attribute3;
+    private List<CodeResponse> children;
+}
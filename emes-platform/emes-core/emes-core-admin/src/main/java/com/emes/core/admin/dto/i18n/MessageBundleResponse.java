@@ -0,0 +1,24 @@
+package com.emes.core.admin.dto.i18n;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.Map;
+
+/**
+ * 다국어 메시지 번들 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MessageBundleResponse {
+
+    private String locale;
+    /** 카테고리 (전체면 null) */
+    private String category;
+    /** 메시지 키 → 메시지 (키 순 정렬, 기본 로케일 → 언어 → 로케일 순으로 덮어씀) */
+    private Map<String, String> messages;
+}
@@ -0,0 +1,28 @@
+package com.emes.core.admin.dto.menu;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 메뉴 트리 응답 DTO (사이드바)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class MenuTreeResponse {
+
+    private Long menuId;
+    private String menuCode;
+    private String menuName;
+    private String menuType;
+    private String menuPath;
+    private String componentPath;
+    private String icon;
+    private Integer sortOrder;
+    private List<MenuTreeResponse> children;
+}
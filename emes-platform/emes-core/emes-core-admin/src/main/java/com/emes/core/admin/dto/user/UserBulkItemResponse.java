@@ -0,0 +1,19 @@
+package com.emes.core.admin.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 처리 건별 결과 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkItemResponse {
+
+    private Long userId;
+    private UserBulkOutcome outcome;
+}
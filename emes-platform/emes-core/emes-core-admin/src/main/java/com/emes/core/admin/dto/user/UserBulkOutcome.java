@@ -0,0 +1,16 @@
+package com.emes.core.admin.dto.user;
+
+/**
+ * 사용자 일괄 처리 건별 결과
+ */
+public enum UserBulkOutcome {
+
+    /** 변경됨 */
+    UPDATED,
+
+    /** 이미 요청한 상태라 변경 없음 */
+    UNCHANGED,
+
+    /** 없거나 삭제된 사용자 */
+    NOT_FOUND
+}
@@ -0,0 +1,24 @@
+package com.emes.core.admin.dto.user;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 처리 요청 DTO (잠금 / 잠금 해제 / 활성 / 비활성 / 삭제)
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkRequest {
+
+    @NotEmpty(message = "User IDs are required")
+    @Size(max = 10000, message = "User IDs must not exceed 10000")
+    private List<Long> userIds;
+}
@@ -0,0 +1,25 @@
+package com.emes.core.admin.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 사용자 일괄 처리 결과 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserBulkResultResponse {
+
+    private int requested;
+    private int updated;
+    private int unchanged;
+    private int notFound;
+    /** 요청 순서대로 건별 결과 (중복 ID 는 한 번만) */
+    private List<UserBulkItemResponse> results;
+}
@@ -0,0 +1,20 @@
+package com.emes.core.admin.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 일괄 등록 행 오류 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportErrorResponse {
+
+    private long rowNumber;
+    private String username;
+    private String message;
+}
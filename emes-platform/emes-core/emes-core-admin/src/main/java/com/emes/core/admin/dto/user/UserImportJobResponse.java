@@ -0,0 +1,32 @@
+package com.emes.core.admin.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 사용자 일괄 등록 작업 상태 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserImportJobResponse {
+
+    private String jobId;
+    private String filename;
+    private String status;          // PENDING, RUNNING, COMPLETED, FAILED
+    private String message;
+    private long totalRows;
+    private long processedRows;
+    private long successCount;
+    private long failureCount;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private List<UserImportErrorResponse> errors;
+}
@@ -31,4 +31,5 @@ public class UserResponse {
     private String createdBy;
     private LocalDateTime updatedAt;
     private String updatedBy;
+    private Integer version;
 }
@@ -0,0 +1,61 @@
+package com.emes.core.admin.dto.user;
+
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import com.emes.core.common.util.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 사용자 검색 커서 (Keyset 페이징)
+ * 마지막 행의 정렬 키 + user_id 를 담아 다음 페이지 조회 시작점으로 사용
+ */
+@Getter
+@AllArgsConstructor
+public class UserSearchCursor {
+
+    private static final int FIELD_COUNT = 4;
+
+    private final String sortBy;
+    private final String sortDirection;
+    private final String sortValue;
+    private final Long userId;
+
+    /**
+     * createdAt 정렬일 때 정렬 키를 LocalDateTime 으로 반환
+     */
+    public LocalDateTime getSortValueAsDateTime() {
+        if (sortValue == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(sortValue);
+        } catch (DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+    }
+
+    /**
+     * 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        return CursorCodec.encode(Arrays.asList(sortBy, sortDirection, sortValue, String.valueOf(userId)));
+    }
+
+    /**
+     * 토큰 디코딩
+     */
+    public static UserSearchCursor decode(String token) {
+        List<String> values = CursorCodec.decode(token, FIELD_COUNT);
+        try {
+            return new UserSearchCursor(values.get(0), values.get(1), values.get(2), Long.valueOf(values.get(3)));
+        } catch (NumberFormatException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+    }
+}
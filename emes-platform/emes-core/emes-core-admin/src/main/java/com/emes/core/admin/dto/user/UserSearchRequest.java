@@ -27,4 +27,10 @@ public class UserSearchRequest {
     private Integer size = 20;
     private String sortBy = "createdAt";
     private String sortDirection = "desc";
+
+    // 커서(Keyset) 페이징 토큰 (지정 시 page 대신 사용)
+    private String cursor;
+
+    // 전체 건수 조회 여부 (false 이면 hasNext 만 반환, 미지정 시 OFFSET 페이징은 조회 / 커서 페이징은 생략)
+    private Boolean withTotal;
 }
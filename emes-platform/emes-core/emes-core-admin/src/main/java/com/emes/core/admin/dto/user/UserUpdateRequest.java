@@ -1,6 +1,7 @@
 package com.emes.core.admin.dto.user;
 
 import jakarta.validation.constraints.Email;
+import jakarta.validation.constraints.NotNull;
 import jakarta.validation.constraints.Size;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -34,4 +35,8 @@ public class UserUpdateRequest {
     private Boolean enabled;
 
     private Boolean accountLocked;
+
+    /** 조회 시 받은 version (필수, 그 사이 다른 수정이 있으면 충돌) */
+    @NotNull(message = "Version is required")
+    private Integer version;
 }
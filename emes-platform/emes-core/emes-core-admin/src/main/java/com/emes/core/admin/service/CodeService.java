@@ -0,0 +1,278 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.code.CodeBundleResponse;
+import com.emes.core.admin.dto.code.CodeGroupResponse;
+import com.emes.core.admin.dto.code.CodeResponse;
+import com.emes.core.domain.event.CodeChangedEvent;
+import com.emes.core.domain.mapper.CodeMapper;
+import com.emes.core.domain.model.Code;
+import com.emes.core.domain.model.CodeGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 기초코드 서비스 (메모리 스냅샷)
+ * 활성 코드 전체를 그룹별 목록 / 트리로 미리 만들어 두고 조회는 DB 를 거치지 않음
+ *
+ * - 기동 시 로드, 변경 이벤트 수신 시 다시 로드
+ * - 다른 서버에서의 변경은 refresh-interval-ms 마다 체크섬을 비교하여 반영
+ * - 새 스냅샷을 모두 만든 뒤 한 번에 교체하므로 조회 중에는 항상 하나의 일관된 버전만 보임
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CodeService {
+
+    private final CodeMapper codeMapper;
+
+    private volatile Snapshot snapshot;
+    private volatile String changeToken;
+    /** 다시 로드 직렬화 (DB 조회 중 가상 스레드가 캐리어에 고정되지 않도록 synchronized 대신 사용) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * 현재 스냅샷 (최초 호출 시 로드)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        return current != null ? current : reload();
+    }
+
+    /**
+     * 기초코드 일괄 조회
+     * @param groupCodes 조회할 그룹 코드 (비어 있으면 전체)
+     * @param tree       true 면 계층 트리, false 면 목록
+     */
+    public CodeBundleResponse getCodes(Snapshot snapshot, Collection<String> groupCodes, boolean tree) {
+        Map<String, CodeGroupResponse> source = tree ? snapshot.treeGroups : snapshot.flatGroups;
+
+        Map<String, CodeGroupResponse> groups;
+        if (groupCodes == null || groupCodes.isEmpty()) {
+            groups = source;
+        } else {
+            groups = new LinkedHashMap<>();
+            for (String groupCode : groupCodes) {
+                CodeGroupResponse group = source.get(groupCode);
+                if (group != null) {
+                    groups.put(groupCode, group);
+                }
+            }
+        }
+
+        return CodeBundleResponse.builder()
+                .version(snapshot.version)
+                .groups(groups)
+                .build();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        reload();
+    }
+
+    /**
+     * 코드 변경 시 다시 로드 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onCodeChanged(CodeChangedEvent event) {
+        reload();
+    }
+
+    /**
+     * 다른 서버에서의 변경 확인 (체크섬이 바뀐 경우만 다시 로드)
+     */
+    @Scheduled(fixedDelayString = "${emes.code.refresh-interval-ms:30000}",
+            initialDelayString = "${emes.code.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        try {
+            if (!Objects.equals(codeMapper.selectChangeToken(), changeToken)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check code changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 스냅샷 다시 로드
+     */
+    public Snapshot reload() {
+        reloadLock.lock();
+        try {
+            // 변경 토큰을 먼저 읽어 로드 도중 변경분은 다음 확인 때 반영
+            String token = codeMapper.selectChangeToken();
+            List<CodeGroup> codeGroups = codeMapper.selectActiveGroups();
+            List<Code> codes = codeMapper.selectActiveCodes();
+
+            Snapshot loaded = new Snapshot(codeGroups, codes);
+            snapshot = loaded;
+            changeToken = token;
+            log.info("Code snapshot loaded: {} groups, {} codes (version {})", codeGroups.size(), codes.size(), loaded.version);
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 기초코드 스냅샷 (불변)
+     */
+    public static final class Snapshot {
+
+        private final String version;
+        private final Map<String, CodeGroupResponse> flatGroups;
+        private final Map<String, CodeGroupResponse> treeGroups;
+
+        private Snapshot(List<CodeGroup> codeGroups, List<Code> codes) {
+            // 1. 그룹별 코드 분류 (조회 순서 = level, sort_order, code)
+            Map<Long, List<Code>> codesByGroup = new HashMap<>();
+            for (Code code : codes) {
+                codesByGroup.computeIfAbsent(code.getGroupId(), id -> new ArrayList<>()).add(code);
+            }
+
+            // 2. 그룹별 목록 / 트리 생성
+            Map<String, CodeGroupResponse> flat = new LinkedHashMap<>();
+            Map<String, CodeGroupResponse> tree = new LinkedHashMap<>();
+            for (CodeGroup codeGroup : codeGroups) {
+                List<Code> groupCodes = codesByGroup.getOrDefault(codeGroup.getGroupId(), List.of());
+                flat.put(codeGroup.getGroupCode(), toGroupResponse(codeGroup, buildList(groupCodes)));
+                tree.put(codeGroup.getGroupCode(), toGroupResponse(codeGroup, buildTree(groupCodes)));
+            }
+
+            this.flatGroups = Collections.unmodifiableMap(flat);
+            this.treeGroups = Collections.unmodifiableMap(tree);
+            this.version = computeVersion(codeGroups, codes);
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * 목록 형태 (parentCode 로 상위 코드 표시)
+         */
+        private static List<CodeResponse> buildList(List<Code> codes) {
+            Map<Long, String> codeById = new HashMap<>();
+            for (Code code : codes) {
+                codeById.put(code.getCodeId(), code.getCode());
+            }
+
+            List<CodeResponse> result = new ArrayList<>(codes.size());
+            for (Code code : codes) {
+                result.add(toCodeResponse(code, codeById.get(code.getParentCodeId()), null));
+            }
+            return List.copyOf(result);
+        }
+
+        /**
+         * 트리 형태 (상위 코드가 없거나 비활성이면 최상위로 취급)
+         */
+        private static List<CodeResponse> buildTree(List<Code> codes) {
+            Map<Long, Code> codeById = new HashMap<>();
+            Map<Long, List<Code>> childrenByParent = new HashMap<>();
+            for (Code code : codes) {
+                codeById.put(code.getCodeId(), code);
+            }
+
+            List<Code> roots = new ArrayList<>();
+            for (Code code : codes) {
+                if (code.getParentCodeId() != null && codeById.containsKey(code.getParentCodeId())) {
+                    childrenByParent.computeIfAbsent(code.getParentCodeId(), id -> new ArrayList<>()).add(code);
+                } else {
+                    roots.add(code);
+                }
+            }
+
+            List<CodeResponse> result = new ArrayList<>(roots.size());
+            for (Code root : roots) {
+                result.add(toTreeNode(root, null, childrenByParent));
+            }
+            return List.copyOf(result);
+        }
+
+        private static CodeResponse toTreeNode(Code code, String parentCode, Map<Long, List<Code>> childrenByParent) {
+            List<Code> children = childrenByParent.getOrDefault(code.getCodeId(), List.of());
+            List<CodeResponse> childNodes = new ArrayList<>(children.size());
+            for (Code child : children) {
+                childNodes.add(toTreeNode(child, code.getCode(), childrenByParent));
+            }
+            return toCodeResponse(code, parentCode, List.copyOf(childNodes));
+        }
+
+        private static CodeResponse toCodeResponse(Code code, String parentCode, List<CodeResponse> children) {
+            return CodeResponse.builder()
+                    .codeId(code.getCodeId())
+                    .code(code.getCode())
+                    .codeName(code.getCodeName())
+                    .codeValue(code.getCodeValue())
+                    .description(code.getDescription())
+                    .parentCode(parentCode)
+                    .level(code.getLevel())
+                    .sortOrder(code.getSortOrder())
+                    .attribute1(code.getAttribute1())
+                    .attribute2(code.getAttribute2())
+                    .attribute3(code.getAttribute3())
+                    .children(children)
+                    .build();
+        }
+
+        private static CodeGroupResponse toGroupResponse(CodeGroup codeGroup, List<CodeResponse> codes) {
+            return CodeGroupResponse.builder()
+                    .groupCode(codeGroup.getGroupCode())
+                    .groupName(codeGroup.getGroupName())
+                    .description(codeGroup.getDescription())
+                    .codes(codes)
+                    .build();
+        }
+
+        /**
+         * 내용 기반 버전 (서버가 달라도 같은 데이터면 같은 값 → ETag 로 사용)
+         */
+        private static String computeVersion(List<CodeGroup> codeGroups, List<Code> codes) {
+            try {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                for (CodeGroup g : codeGroups) {
+                    update(digest, "G", g.getGroupId(), g.getGroupCode(), g.getGroupName(), g.getDescription(),
+                            g.getSortOrder());
+                }
+                for (Code c : codes) {
+                    update(digest, "C", c.getCodeId(), c.getGroupId(), c.getCode(), c.getCodeName(), c.getCodeValue(),
+                            c.getDescription(), c.getParentCodeId(), c.getLevel(), c.getSortOrder(),
+                            c.getAttribute1(), c.getAttribute2(), c.getAttribute3());
+                }
+                byte[] hash = Arrays.copyOf(digest.digest(), 12);
+                return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        private static void update(MessageDigest digest, Object... values) {
+            for (Object value : values) {
+                digest.update(String.valueOf(value).getBytes(StandardCharsets.UTF_8));
+                digest.update((byte) 0x1F);
+            }
+            digest.update((byte) '\n');
+        }
+    }
+}
@@ -0,0 +1,364 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.i18n.MessageBundleResponse;
+import com.emes.core.common.dto.ApiResponse;
+import com.emes.core.domain.mapper.I18nMessageMapper;
+import com.emes.core.domain.model.I18nMessage;
+import com.emes.core.domain.model.I18nMessageSummary;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.support.AbstractMessageSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.MessageFormat;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * TB_CORE_I18N_MESSAGE 기반 MessageSource
+ * 로케일별 메시지를 불변 Map 으로 메모리에 두고 조회 시 DB 를 거치지 않음
+ *
+ * - 조회 순서: 요청 로케일(ko_KR) → 언어(ko) → 기본 로케일 → 기본 언어
+ * - refresh-interval-ms 마다 updated_at 기준 변경분만 읽어 새 스냅샷으로 교체 (조회는 잠금 없음)
+ * - 행이 삭제되었거나 키가 바뀌어 행 수가 맞지 않으면 전체 다시 로드
+ * - 번들(로케일 / 카테고리)은 스냅샷마다 한 번만 JSON / gzip 으로 만들어 재사용
+ *
+ * 컨텍스트 초기화 초기에 생성되므로 Mapper 등은 처음 사용할 때 가져옴
+ */
+@Slf4j
+@Component("messageSource")
+public class DatabaseMessageSource extends AbstractMessageSource {
+
+    private static final Snapshot EMPTY = new Snapshot(Map.of(), 0, null);
+
+    private final ObjectProvider<I18nMessageMapper> i18nMessageMapperProvider;
+    private final ObjectProvider<ObjectMapper> objectMapperProvider;
+    private final Locale defaultLocale;
+
+    private volatile Snapshot snapshot;
+    /** 스냅샷 교체 직렬화 */
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    public DatabaseMessageSource(ObjectProvider<I18nMessageMapper> i18nMessageMapperProvider,
+                                 ObjectProvider<ObjectMapper> objectMapperProvider,
+                                 @Value("${emes.i18n.default-locale:ko_KR}") String defaultLocale) {
+        this.i18nMessageMapperProvider = i18nMessageMapperProvider;
+        this.objectMapperProvider = objectMapperProvider;
+        this.defaultLocale = parseLocale(defaultLocale);
+    }
+
+    @Override
+    protected String resolveCodeWithoutArguments(String code, Locale locale) {
+        Entry entry = current().find(code, lookupChain(locale));
+        return entry != null ? entry.value : null;
+    }
+
+    @Override
+    protected MessageFormat resolveCode(String code, Locale locale) {
+        Snapshot current = current();
+        List<String> chain = lookupChain(locale);
+        Entry entry = current.find(code, chain);
+        if (entry == null) {
+            return null;
+        }
+        // MessageFormat 은 스냅샷에 캐시 (AbstractMessageSource 가 format 시 동기화)
+        return current.formats.computeIfAbsent(chain.get(0) + '\u001F' + code,
+                k -> createMessageFormat(entry.value, locale));
+    }
+
+    /**
+     * 로케일 / 카테고리 번들 (스냅샷이 바뀌기 전까지 같은 객체 반환)
+     * @param category null 이면 전체
+     */
+    public MessageBundle getBundle(Locale locale, String category) {
+        Snapshot current = current();
+        List<String> chain = lookupChain(locale);
+        return current.bundles.computeIfAbsent(chain.get(0) + '\u001F' + Objects.toString(category, ""),
+                k -> buildBundle(current, chain, category));
+    }
+
+    /**
+     * 변경분 반영
+     */
+    @Scheduled(fixedDelayString = "${emes.i18n.refresh-interval-ms:30000}",
+            initialDelayString = "${emes.i18n.refresh-interval-ms:30000}")
+    public void refresh() {
+        try {
+            I18nMessageMapper mapper = i18nMessageMapperProvider.getObject();
+            I18nMessageSummary summary = mapper.selectSummary();
+            Snapshot current = snapshot;
+            if (current == null || current.lastModifiedAt == null) {
+                if (current == null || summary.getRowCount() != current.rowCount) {
+                    reload();
+                }
+                return;
+            }
+
+            if (summary.getLastModifiedAt() != null && !summary.getLastModifiedAt().equals(current.lastModifiedAt)) {
+                current = applyDelta(current, mapper.selectModifiedSince(current.lastModifiedAt));
+            }
+            if (summary.getRowCount() != current.rowCount) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh i18n messages: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 다시 로드
+     */
+    public void reload() {
+        updateLock.lock();
+        try {
+            List<I18nMessage> messages = i18nMessageMapperProvider.getObject().selectAll();
+
+            Map<String, Map<String, Entry>> byLocale = new HashMap<>();
+            LocalDateTime lastModifiedAt = null;
+            for (I18nMessage message : messages) {
+                byLocale.computeIfAbsent(normalize(message.getLocale()), k -> new HashMap<>())
+                        .put(message.getMessageKey(), Entry.of(message));
+                lastModifiedAt = max(lastModifiedAt, message.getModifiedAt());
+            }
+
+            snapshot = Snapshot.of(byLocale, lastModifiedAt);
+            log.info("I18n messages loaded: {} rows, locales {}", messages.size(), byLocale.keySet());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 변경된 로케일의 Map 만 복사하여 새 스냅샷 생성 (나머지 로케일은 공유)
+     */
+    private Snapshot applyDelta(Snapshot base, List<I18nMessage> changes) {
+        updateLock.lock();
+        try {
+            if (snapshot != base) {
+                return snapshot;
+            }
+
+            Map<String, Map<String, Entry>> byLocale = new HashMap<>(base.messages);
+            Set<String> copied = new HashSet<>();
+            LocalDateTime lastModifiedAt = base.lastModifiedAt;
+            for (I18nMessage message : changes) {
+                String locale = normalize(message.getLocale());
+                if (copied.add(locale)) {
+                    byLocale.put(locale, new HashMap<>(byLocale.getOrDefault(locale, Map.of())));
+                }
+                byLocale.get(locale).put(message.getMessageKey(), Entry.of(message));
+                lastModifiedAt = max(lastModifiedAt, message.getModifiedAt());
+            }
+
+            Snapshot updated = Snapshot.of(byLocale, lastModifiedAt);
+            snapshot = updated;
+            log.debug("I18n messages updated: {} rows in {}", changes.size(), copied);
+            return updated;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        try {
+            reload();
+            return snapshot;
+        } catch (Exception e) {
+            // DB 를 사용할 수 없으면 기본 메시지 사용 (다음 refresh 에서 다시 시도)
+            log.warn("Failed to load i18n messages: {}", e.getMessage());
+            return EMPTY;
+        }
+    }
+
+    /**
+     * 조회 로케일 순서 (앞쪽 우선, 중복 제외)
+     */
+    private List<String> lookupChain(Locale locale) {
+        List<String> chain = new ArrayList<>(4);
+        if (locale != null) {
+            addIfAbsent(chain, locale.toString());
+            addIfAbsent(chain, locale.getLanguage());
+        }
+        addIfAbsent(chain, defaultLocale.toString());
+        addIfAbsent(chain, defaultLocale.getLanguage());
+        return chain;
+    }
+
+    private MessageBundle buildBundle(Snapshot current, List<String> chain, String category) {
+        // 1. 낮은 우선순위부터 덮어쓰기 (키 순 정렬로 같은 데이터면 같은 바이트)
+        Map<String, String> merged = new TreeMap<>();
+        for (int i = chain.size() - 1; i >= 0; i--) {
+            for (Map.Entry<String, Entry> e : current.messages.getOrDefault(chain.get(i), Map.of()).entrySet()) {
+                Entry entry = e.getValue();
+                if (entry.active && (category == null || category.equals(entry.category))) {
+                    merged.put(e.getKey(), entry.value);
+                }
+            }
+        }
+
+        // 2. 직렬화 / 압축 (timestamp 없이 직렬화하여 서버가 달라도 같은 ETag)
+        MessageBundleResponse bundle = MessageBundleResponse.builder()
+                .locale(chain.get(0))
+                .category(category)
+                .messages(merged)
+                .build();
+        ApiResponse<MessageBundleResponse> body = ApiResponse.<MessageBundleResponse>builder()
+                .success(true)
+                .message("Success")
+                .data(bundle)
+                .build();
+        try {
+            byte[] json = objectMapperProvider.getObject().writeValueAsBytes(body);
+            return new MessageBundle(eTag(json), json, gzip(json));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize message bundle", e);
+        }
+    }
+
+    private static String eTag(byte[] json) {
+        try {
+            byte[] hash = Arrays.copyOf(MessageDigest.getInstance("SHA-256").digest(json), 12);
+            return "\"" + Base64.getUrlEncoder().withoutPadding().encodeToString(hash) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private static byte[] gzip(byte[] json) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(json.length / 4 + 64);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(json);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    /**
+     * ko-KR / ko_KR 모두 ko_KR 로
+     */
+    public static Locale parseLocale(String value) {
+        return Locale.forLanguageTag(value.trim().replace('_', '-'));
+    }
+
+    private static String normalize(String locale) {
+        return parseLocale(locale).toString();
+    }
+
+    private static void addIfAbsent(List<String> chain, String locale) {
+        if (!locale.isEmpty() && !chain.contains(locale)) {
+            chain.add(locale);
+        }
+    }
+
+    private static LocalDateTime max(LocalDateTime left, LocalDateTime right) {
+        if (left == null) {
+            return right;
+        }
+        return right != null && right.isAfter(left) ? right : left;
+    }
+
+    /**
+     * 미리 만들어 둔 번들 응답 본문
+     */
+    @Getter
+    public static final class MessageBundle {
+
+        private final String eTag;
+        /** 압축본 ETag (본문 바이트가 다르므로 원본과 구분, 강한 ETag 유지) */
+        private final String gzipETag;
+        private final byte[] json;
+        private final byte[] gzip;
+
+        private MessageBundle(String eTag, byte[] json, byte[] gzip) {
+            this.eTag = eTag;
+            this.gzipETag = eTag.substring(0, eTag.length() - 1) + "-gz\"";
+            this.json = json;
+            this.gzip = gzip;
+        }
+    }
+
+    private static final class Entry {
+
+        private final String value;
+        private final String category;
+        private final boolean active;
+
+        private Entry(String value, String category, boolean active) {
+            this.value = value;
+            this.category = category;
+            this.active = active;
+        }
+
+        private static Entry of(I18nMessage message) {
+            return new Entry(message.getMessageValue(), message.getCategory(), Boolean.TRUE.equals(message.getIsActive()));
+        }
+    }
+
+    /**
+     * 메시지 스냅샷 (Map 은 교체 후 수정하지 않음)
+     */
+    private static final class Snapshot {
+
+        /** 로케일 → 메시지 키 → 메시지 (비활성 포함, 행 수 비교용) */
+        private final Map<String, Map<String, Entry>> messages;
+        private final long rowCount;
+        private final LocalDateTime lastModifiedAt;
+        private final Map<String, MessageFormat> formats = new ConcurrentHashMap<>();
+        private final Map<String, MessageBundle> bundles = new ConcurrentHashMap<>();
+
+        private Snapshot(Map<String, Map<String, Entry>> messages, long rowCount, LocalDateTime lastModifiedAt) {
+            this.messages = messages;
+            this.rowCount = rowCount;
+            this.lastModifiedAt = lastModifiedAt;
+        }
+
+        private static Snapshot of(Map<String, Map<String, Entry>> byLocale, LocalDateTime lastModifiedAt) {
+            Map<String, Map<String, Entry>> messages = new HashMap<>();
+            long rowCount = 0;
+            for (Map.Entry<String, Map<String, Entry>> e : byLocale.entrySet()) {
+                messages.put(e.getKey(), Collections.unmodifiableMap(e.getValue()));
+                rowCount += e.getValue().size();
+            }
+            return new Snapshot(Collections.unmodifiableMap(messages), rowCount, lastModifiedAt);
+        }
+
+        private Entry find(String code, List<String> chain) {
+            for (String locale : chain) {
+                Entry entry = messages.getOrDefault(locale, Map.of()).get(code);
+                if (entry != null && entry.active) {
+                    return entry;
+                }
+            }
+            return null;
+        }
+    }
+}
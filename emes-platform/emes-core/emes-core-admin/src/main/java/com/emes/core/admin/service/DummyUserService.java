@@ -0,0 +1,119 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.user.UserResponse;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 대용량 더미 사용자 데이터 생성 서비스 (프론트엔드 부하 테스트용)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DummyUserService {
+
+    public static final int MAX_COUNT = 10_000_000;
+
+    private static final int FLUSH_INTERVAL = 1_000;
+    private static final String[] DEPARTMENTS = {"개발팀", "기획팀", "디자인팀", "영업팀", "인사팀", "재무팀", "생산팀", "품질팀"};
+    private static final String[] POSITIONS = {"사원", "대리", "과장", "차장", "부장", "이사"};
+
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 더미 사용자 목록 생성 (전체를 메모리에 적재)
+     */
+    public List<UserResponse> createDummyUsers(int count) {
+        int actualCount = Math.min(count, MAX_COUNT);
+        LocalDateTime now = LocalDateTime.now();
+
+        List<UserResponse> dummyUsers = new ArrayList<>(actualCount);
+        for (int i = 1; i <= actualCount; i++) {
+            dummyUsers.add(createDummyUser(i, now));
+        }
+        return dummyUsers;
+    }
+
+    /**
+     * 더미 사용자를 생성 즉시 출력 스트림에 기록 (힙 사용량 일정)
+     * 소켓 버퍼가 가득 차면 write 가 블로킹되어 클라이언트 수신 속도에 맞춰 생성 속도가 조절됨
+     * @param ndjson true: 줄 단위 JSON (NDJSON), false: 청크 전송되는 JSON 배열
+     */
+    public void writeDummyUsers(int count, boolean ndjson, OutputStream outputStream) throws IOException {
+        int actualCount = Math.min(count, MAX_COUNT);
+        LocalDateTime now = LocalDateTime.now();
+
+        try (JsonGenerator generator = objectMapper.createGenerator(outputStream)) {
+            generator.configure(JsonGenerator.Feature.AUTO_CLOSE_TARGET, false);
+            generator.setRootValueSeparator(null);
+
+            if (!ndjson) {
+                generator.writeStartArray();
+            }
+            for (int i = 1; i <= actualCount; i++) {
+                generator.writeObject(createDummyUser(i, now));
+                if (ndjson) {
+                    generator.writeRaw('\n');
+                }
+                if (i % FLUSH_INTERVAL == 0) {
+                    generator.flush();
+                }
+            }
+            if (!ndjson) {
+                generator.writeEndArray();
+            }
+        }
+
+        log.info("Streamed {} dummy users", actualCount);
+    }
+
+    /**
+     * 더미 사용자 1건 생성
+     */
+    private UserResponse createDummyUser(int i, LocalDateTime now) {
+        return UserResponse.builder()
+                .userId((long) i)
+                .username("user" + i)
+                .email("user" + i + "@example.com")
+                .displayName("테스트사용자" + i)
+                .phoneNumber(formatPhoneNumber(i))
+                .department(DEPARTMENTS[i % DEPARTMENTS.length])
+                .position(POSITIONS[i % POSITIONS.length])
+                .enabled(i % 10 != 0) // 10% 비활성
+                .accountLocked(i % 50 == 0) // 2% 잠금
+                .lastLoginAt(now.minusDays(i % 30))
+                .passwordChangedAt(now.minusDays(i % 90))
+                .createdAt(now.minusDays(i % 365))
+                .createdBy("admin")
+                .updatedAt(now.minusDays(i % 30))
+                .updatedBy("admin")
+                .build();
+    }
+
+    /**
+     * 010-XXXX-XXXX 형식 전화번호 (String.format 대신 직접 zero-padding)
+     */
+    private String formatPhoneNumber(int i) {
+        StringBuilder sb = new StringBuilder(13).append("010-");
+        appendZeroPadded(sb, i % 10000);
+        sb.append('-');
+        appendZeroPadded(sb, (i / 10000) % 10000);
+        return sb.toString();
+    }
+
+    private void appendZeroPadded(StringBuilder sb, int value) {
+        if (value < 1000) sb.append('0');
+        if (value < 100) sb.append('0');
+        if (value < 10) sb.append('0');
+        sb.append(value);
+    }
+}
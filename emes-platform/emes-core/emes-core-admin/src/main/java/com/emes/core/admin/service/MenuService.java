@@ -0,0 +1,375 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.menu.MenuTreeResponse;
+import com.emes.core.domain.event.MenuChangedEvent;
+import com.emes.core.domain.event.RolePermissionChangedEvent;
+import com.emes.core.domain.mapper.MenuMapper;
+import com.emes.core.domain.model.Menu;
+import com.emes.core.domain.model.MenuRole;
+import com.emes.core.security.group.GroupHierarchyIndex;
+import com.emes.core.security.permission.RolePermissionCache;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 메뉴 트리 서비스
+ * 메뉴 구조와 역할별 메뉴 집합(비트셋)을 메모리에 두고, 역할 조합별로 완성된 트리를 캐시
+ *
+ * - 다중 역할 사용자는 역할 비트셋을 OR 하여 메모리에서 병합 (상위 폴더는 자동 포함)
+ * - required_permission 이 있는 메뉴는 역할 조합의 권한에 포함될 때만 표시
+ * - 메뉴-역할 매핑 변경 시 해당 역할만 다시 조회하고 그 역할이 포함된 트리만 제거
+ * - 메뉴 구조 변경 시 구조와 매핑을 다시 로드하고 트리 캐시 전체 제거
+ * - 이벤트 없이 DB 에서 직접 / 다른 서버에서 바뀐 경우는 refresh-interval-ms 마다 체크섬을 비교하여 반영
+ */
+@Slf4j
+@Service
+public class MenuService {
+
+    private static final String FOLDER = "FOLDER";
+
+    private final MenuMapper menuMapper;
+    private final GroupHierarchyIndex groupHierarchyIndex;
+    private final RolePermissionCache rolePermissionCache;
+    private final int maxCachedTrees;
+
+    private volatile State state;
+    private volatile String changeToken;
+    /** 구조 / 매핑 다시 로드 직렬화 */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+    /** 역할 ID 오름차순 목록 → 트리 */
+    private final Map<List<Long>, List<MenuTreeResponse>> treeCache = new ConcurrentHashMap<>();
+    /** 무효화 세대 (조립 도중 무효화된 트리가 캐시에 남지 않도록 비교) */
+    private final AtomicLong generation = new AtomicLong();
+
+    public MenuService(MenuMapper menuMapper,
+                       GroupHierarchyIndex groupHierarchyIndex,
+                       RolePermissionCache rolePermissionCache,
+                       @Value("${emes.menu.max-cached-trees:1000}") int maxCachedTrees) {
+        this.menuMapper = menuMapper;
+        this.groupHierarchyIndex = groupHierarchyIndex;
+        this.rolePermissionCache = rolePermissionCache;
+        this.maxCachedTrees = maxCachedTrees;
+    }
+
+    /**
+     * 사용자 메뉴 트리 (그룹 상속을 포함한 사용자 역할 조합 기준)
+     */
+    public List<MenuTreeResponse> getMenuTree(String username) {
+        return getMenuTree(groupHierarchyIndex.resolveRoleIdsByUsername(username));
+    }
+
+    /**
+     * 역할 조합의 메뉴 트리 (캐시에 없으면 조립 후 적재)
+     */
+    public List<MenuTreeResponse> getMenuTree(Collection<Long> roleIds) {
+        List<Long> key = roleIds.stream().distinct().sorted().toList();
+        if (key.isEmpty()) {
+            return List.of();
+        }
+
+        List<MenuTreeResponse> tree = treeCache.get(key);
+        if (tree != null) {
+            return tree;
+        }
+
+        long buildGeneration = generation.get();
+        tree = build(current(), key);
+        if (treeCache.size() >= maxCachedTrees) {
+            treeCache.clear();
+        }
+        treeCache.put(key, tree);
+        if (generation.get() != buildGeneration) {
+            treeCache.remove(key);
+        }
+        return tree;
+    }
+
+    /**
+     * 메뉴 / 메뉴-역할 매핑 변경 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onMenuChanged(MenuChangedEvent event) {
+        if (event.getRoleId() == null) {
+            reload();
+            invalidateAll();
+        } else {
+            reloadRole(event.getRoleId());
+            invalidateRole(event.getRoleId());
+        }
+    }
+
+    /**
+     * 역할 권한 변경 시 required_permission 판단이 달라지므로 해당 트리 제거
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolePermissionChanged(RolePermissionChangedEvent event) {
+        if (event.getRoleId() == null) {
+            invalidateAll();
+        } else {
+            invalidateRole(event.getRoleId());
+        }
+    }
+
+    /**
+     * 다른 서버 / DB 직접 변경 확인 (체크섬이 바뀐 경우만 다시 로드 후 트리 캐시 전체 제거)
+     */
+    @Scheduled(fixedDelayString = "${emes.menu.refresh-interval-ms:30000}",
+            initialDelayString = "${emes.menu.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        if (state == null) {
+            return;
+        }
+        try {
+            if (!Objects.equals(menuMapper.selectChangeToken(), changeToken)) {
+                reload();
+                invalidateAll();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check menu changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 메뉴 구조 + 전체 매핑 다시 로드
+     */
+    public void reload() {
+        reloadLock.lock();
+        try {
+            // 변경 토큰을 먼저 읽어 로드 도중 변경분은 다음 확인 때 반영
+            String token = menuMapper.selectChangeToken();
+            List<Menu> menus = menuMapper.selectActiveMenus();
+            List<MenuRole> menuRoles = menuMapper.selectAllMenuRoles();
+
+            State loaded = State.of(menus, menuRoles);
+            state = loaded;
+            changeToken = token;
+            log.info("Menu structure loaded: {} menus, {} roles", menus.size(), loaded.roleMenus.size());
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private State current() {
+        State current = state;
+        if (current != null) {
+            return current;
+        }
+        reloadLock.lock();
+        try {
+            // 잠금 대기 중 다른 스레드가 먼저 로드했으면 다시 조회하지 않음
+            if (state == null) {
+                reload();
+            }
+            return state;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 한 역할의 매핑만 다시 조회하여 교체
+     */
+    private void reloadRole(Long roleId) {
+        reloadLock.lock();
+        try {
+            State current = state;
+            if (current == null) {
+                return;
+            }
+            state = current.withRole(roleId, menuMapper.selectMenuIdsByRoleId(roleId));
+            log.debug("Menu role mapping reloaded: {}", roleId);
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private void invalidateRole(Long roleId) {
+        generation.incrementAndGet();
+        treeCache.keySet().removeIf(key -> key.contains(roleId));
+    }
+
+    private void invalidateAll() {
+        generation.incrementAndGet();
+        treeCache.clear();
+    }
+
+    /**
+     * 트리 조립
+     */
+    private List<MenuTreeResponse> build(State state, List<Long> roleIds) {
+        // 1. 역할별 메뉴 합집합
+        BitSet granted = new BitSet(state.menus.size());
+        for (Long roleId : roleIds) {
+            BitSet roleMenus = state.roleMenus.get(roleId);
+            if (roleMenus != null) {
+                granted.or(roleMenus);
+            }
+        }
+
+        // 2. 권한 / 표시 여부 확인 후 상위 메뉴 포함
+        Set<String> permissions = null;
+        BitSet included = new BitSet(state.menus.size());
+        for (int i = granted.nextSetBit(0); i >= 0; i = granted.nextSetBit(i + 1)) {
+            Menu menu = state.menus.get(i);
+            if (!state.reachable.get(i) || !Boolean.TRUE.equals(menu.getIsVisible())) {
+                continue;
+            }
+            if (menu.getRequiredPermission() != null) {
+                if (permissions == null) {
+                    permissions = rolePermissionCache.getPermissions(roleIds);
+                }
+                if (!permissions.contains(menu.getRequiredPermission())) {
+                    continue;
+                }
+            }
+            for (int p = i; p >= 0 && !included.get(p); p = state.parents[p]) {
+                included.set(p);
+            }
+        }
+
+        // 3. 최상위부터 정렬 순서대로 (하위가 없는 폴더는 제외)
+        return toNodes(state, state.roots, included);
+    }
+
+    private List<MenuTreeResponse> toNodes(State state, int[] indexes, BitSet included) {
+        List<MenuTreeResponse> nodes = new ArrayList<>();
+        for (int index : indexes) {
+            if (!included.get(index) || !Boolean.TRUE.equals(state.menus.get(index).getIsVisible())) {
+                continue;
+            }
+            Menu menu = state.menus.get(index);
+            List<MenuTreeResponse> children = toNodes(state, state.children[index], included);
+            if (FOLDER.equals(menu.getMenuType()) && children.isEmpty()) {
+                continue;
+            }
+            nodes.add(MenuTreeResponse.builder()
+                    .menuId(menu.getMenuId())
+                    .menuCode(menu.getMenuCode())
+                    .menuName(menu.getMenuName())
+                    .menuType(menu.getMenuType())
+                    .menuPath(menu.getMenuPath())
+                    .componentPath(menu.getComponentPath())
+                    .icon(menu.getIcon())
+                    .sortOrder(menu.getSortOrder())
+                    .children(children)
+                    .build());
+        }
+        return List.copyOf(nodes);
+    }
+
+    /**
+     * 메뉴 구조 + 역할별 메뉴 비트셋 (불변, 비트 위치 = menus 목록 위치)
+     */
+    static final class State {
+
+        private final List<Menu> menus;
+        private final Map<Long, Integer> indexById;
+        /** 상위 메뉴 위치 (최상위면 -1) */
+        private final int[] parents;
+        /** 하위 메뉴 위치 (정렬 순서) */
+        private final int[][] children;
+        private final int[] roots;
+        /** 최상위까지 활성 메뉴로 이어지는지 (비활성 폴더 아래 메뉴는 제외) */
+        private final BitSet reachable;
+        private final Map<Long, BitSet> roleMenus;
+
+        private State(List<Menu> menus, Map<Long, Integer> indexById, int[] parents, int[][] children,
+                      int[] roots, BitSet reachable, Map<Long, BitSet> roleMenus) {
+            this.menus = menus;
+            this.indexById = indexById;
+            this.parents = parents;
+            this.children = children;
+            this.roots = roots;
+            this.reachable = reachable;
+            this.roleMenus = roleMenus;
+        }
+
+        static State of(List<Menu> menus, List<MenuRole> menuRoles) {
+            int size = menus.size();
+            Map<Long, Integer> indexById = new HashMap<>();
+            for (int i = 0; i < size; i++) {
+                indexById.put(menus.get(i).getMenuId(), i);
+            }
+
+            // 1. 상위 / 하위 관계 (조회 순서 = level, sort_order 이므로 하위 목록도 정렬 순서)
+            int[] parents = new int[size];
+            List<List<Integer>> childLists = new ArrayList<>(size);
+            List<Integer> rootList = new ArrayList<>();
+            BitSet orphans = new BitSet(size);
+            for (int i = 0; i < size; i++) {
+                childLists.add(new ArrayList<>());
+            }
+            for (int i = 0; i < size; i++) {
+                Long parentId = menus.get(i).getParentMenuId();
+                Integer parent = parentId != null ? indexById.get(parentId) : null;
+                parents[i] = parent != null ? parent : -1;
+                if (parent != null) {
+                    childLists.get(parent).add(i);
+                } else if (parentId == null) {
+                    rootList.add(i);
+                } else {
+                    orphans.set(i);
+                }
+            }
+
+            // 2. 최상위에서 도달 가능한 메뉴 표시 (상위가 비활성이거나 순환이면 제외)
+            BitSet reachable = new BitSet(size);
+            List<Integer> stack = new ArrayList<>(rootList);
+            while (!stack.isEmpty()) {
+                int index = stack.remove(stack.size() - 1);
+                if (!reachable.get(index) && !orphans.get(index)) {
+                    reachable.set(index);
+                    stack.addAll(childLists.get(index));
+                }
+            }
+
+            int[][] children = new int[size][];
+            for (int i = 0; i < size; i++) {
+                children[i] = childLists.get(i).stream().mapToInt(Integer::intValue).toArray();
+            }
+            int[] roots = rootList.stream().mapToInt(Integer::intValue).toArray();
+
+            // 3. 역할별 비트셋
+            Map<Long, BitSet> roleMenus = new HashMap<>();
+            for (MenuRole menuRole : menuRoles) {
+                Integer index = indexById.get(menuRole.getMenuId());
+                if (index != null) {
+                    roleMenus.computeIfAbsent(menuRole.getRoleId(), id -> new BitSet(size)).set(index);
+                }
+            }
+
+            return new State(List.copyOf(menus), indexById, parents, children, roots, reachable, Map.copyOf(roleMenus));
+        }
+
+        /**
+         * 한 역할의 메뉴 집합만 바꾼 새 상태 (구조는 공유)
+         */
+        State withRole(Long roleId, List<Long> menuIds) {
+            BitSet bits = new BitSet(menus.size());
+            for (Long menuId : menuIds) {
+                Integer index = indexById.get(menuId);
+                if (index != null) {
+                    bits.set(index);
+                }
+            }
+            Map<Long, BitSet> updated = new HashMap<>(roleMenus);
+            updated.put(roleId, bits);
+            return new State(menus, indexById, parents, children, roots, reachable, Map.copyOf(updated));
+        }
+    }
+}
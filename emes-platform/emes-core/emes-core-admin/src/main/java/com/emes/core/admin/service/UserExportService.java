@@ -0,0 +1,189 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.user.UserSearchRequest;
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import com.emes.core.domain.mapper.UserMapper;
+import com.emes.core.domain.model.User;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.poi.ss.SpreadsheetVersion;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+
+/**
+ * 사용자 내보내기 서비스
+ * MyBatis Cursor 로 한 행씩 읽어 바로 출력 스트림에 기록 (결과 목록을 메모리에 적재하지 않음)
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserExportService {
+
+    private static final String[] HEADERS = {
+            "사용자ID", "사용자명", "이메일", "이름", "전화번호", "부서", "직급", "활성", "잠금", "최종 로그인", "생성일시"
+    };
+    private static final DateTimeFormatter DATE_TIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+    private static final int WRITER_BUFFER_SIZE = 64 * 1024;
+    private static final int SXSSF_WINDOW_SIZE = 100;
+
+    private final UserMapper userMapper;
+
+    /**
+     * CSV 내보내기 (UTF-8 BOM 포함 - Excel 한글 호환)
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public int exportCsv(UserSearchRequest request, OutputStream outputStream) throws IOException {
+        Writer writer = new BufferedWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8), WRITER_BUFFER_SIZE);
+
+        // 1. BOM + 헤더
+        writer.write('\uFEFF');
+        writeCsvRow(writer, HEADERS);
+
+        // 2. Cursor 순회하며 한 행씩 기록
+        int count = 0;
+        try (Cursor<User> cursor = openCursor(request)) {
+            for (User user : cursor) {
+                writeCsvRow(writer, toRow(user));
+                count++;
+            }
+        }
+
+        writer.flush();
+        log.info("Exported {} users as CSV", count);
+        return count;
+    }
+
+    /**
+     * XLSX 내보내기 (SXSSF: 최근 행만 메모리에 유지하고 나머지는 임시 파일로 내림)
+     * @param beforeWrite 모든 행을 시트에 기록한 뒤 출력 직전에 호출 (행 수 초과 시 호출되지 않음, 응답 헤더 지정용)
+     * @return 내보낸 행 수
+     */
+    @Transactional(readOnly = true)
+    public int exportXlsx(UserSearchRequest request, OutputStream outputStream, Runnable beforeWrite) throws IOException {
+        int maxDataRows = SpreadsheetVersion.EXCEL2007.getMaxRows() - 1;
+
+        SXSSFWorkbook workbook = new SXSSFWorkbook(SXSSF_WINDOW_SIZE);
+        workbook.setCompressTempFiles(true);
+        try (Cursor<User> cursor = openCursor(request)) {
+            Sheet sheet = workbook.createSheet("사용자");
+            writeXlsxRow(sheet.createRow(0), HEADERS);
+
+            int count = 0;
+            for (User user : cursor) {
+                if (count >= maxDataRows) {
+                    throw new BusinessException(ErrorCode.INVALID_INPUT, "Too many rows for XLSX export, use CSV");
+                }
+                writeXlsxRow(sheet.createRow(++count), toRow(user));
+            }
+
+            beforeWrite.run();
+            workbook.write(outputStream);
+            outputStream.flush();
+            log.info("Exported {} users as XLSX", count);
+            return count;
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    /**
+     * 검색 조건으로 Cursor 오픈 (searchUsers 와 동일한 필터/정렬, 결과 건수 제한이 없으므로 LIKE 조건으로 조회)
+     */
+    private Cursor<User> openCursor(UserSearchRequest request) {
+        return userMapper.selectCursorByCondition(
+                request.getUsername(),
+                request.getEmail(),
+                request.getDisplayName(),
+                request.getDepartment(),
+                request.getPosition(),
+                request.getEnabled(),
+                request.getAccountLocked(),
+                null,
+                UserService.normalizeSortBy(request.getSortBy()),
+                UserService.normalizeSortDirection(request.getSortDirection())
+        );
+    }
+
+    /**
+     * User -> 출력 행 변환
+     */
+    private String[] toRow(User user) {
+        return new String[]{
+                String.valueOf(user.getUserId()),
+                user.getUsername(),
+                user.getEmail(),
+                user.getFullName(),
+                user.getPhone(),
+                user.getDepartment(),
+                user.getPosition(),
+                Boolean.TRUE.equals(user.getIsActive()) ? "Y" : "N",
+                Boolean.TRUE.equals(user.getIsLocked()) ? "Y" : "N",
+                formatDateTime(user.getLastLoginAt()),
+                formatDateTime(user.getCreatedAt())
+        };
+    }
+
+    private String formatDateTime(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.format(DATE_TIME_FORMATTER) : null;
+    }
+
+    private void writeCsvRow(Writer writer, String[] values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                writer.write(',');
+            }
+            writeCsvValue(writer, values[i]);
+        }
+        writer.write("\r\n");
+    }
+
+    /**
+     * CSV 값 기록 (RFC 4180 이스케이프 + 수식 주입 방지)
+     */
+    private void writeCsvValue(Writer writer, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+
+        // CSV Injection 방지: 스프레드시트가 수식으로 해석하는 문자로 시작하면 ' 접두
+        if ("=+-@".indexOf(value.charAt(0)) >= 0) {
+            value = "'" + value;
+        }
+
+        boolean needsQuote = value.indexOf(',') >= 0 || value.indexOf('"') >= 0
+                || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0;
+        if (!needsQuote) {
+            writer.write(value);
+            return;
+        }
+
+        writer.write('"');
+        writer.write(value.replace("\"", "\"\""));
+        writer.write('"');
+    }
+
+    private void writeXlsxRow(Row row, String[] values) {
+        for (int i = 0; i < values.length; i++) {
+            if (values[i] != null) {
+                row.createCell(i).setCellValue(values[i]);
+            }
+        }
+    }
+}
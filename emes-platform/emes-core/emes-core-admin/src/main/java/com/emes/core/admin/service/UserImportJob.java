@@ -0,0 +1,114 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.user.UserImportErrorResponse;
+import com.emes.core.admin.dto.user.UserImportJobResponse;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 사용자 일괄 등록 작업 상태 (메모리 보관, 작업 스레드가 갱신하고 조회 API 가 읽음)
+ */
+public class UserImportJob {
+
+    public enum Status { PENDING, RUNNING, COMPLETED, FAILED }
+
+    private static final int MAX_ERRORS = 1_000;
+
+    @Getter
+    private final String jobId;
+    private final String filename;
+    private final LocalDateTime createdAt = LocalDateTime.now();
+
+    @Getter
+    private volatile Status status = Status.PENDING;
+    private volatile String message;
+    private volatile LocalDateTime startedAt;
+    @Getter
+    private volatile LocalDateTime finishedAt;
+
+    private final AtomicLong totalRows = new AtomicLong();
+    private final AtomicLong processedRows = new AtomicLong();
+    private final AtomicLong successCount = new AtomicLong();
+    private final AtomicLong failureCount = new AtomicLong();
+    private final List<UserImportErrorResponse> errors = new ArrayList<>();
+
+    public UserImportJob(String jobId, String filename) {
+        this.jobId = jobId;
+        this.filename = filename;
+    }
+
+    void start() {
+        this.startedAt = LocalDateTime.now();
+        this.status = Status.RUNNING;
+    }
+
+    void complete() {
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.COMPLETED;
+    }
+
+    void fail(String message) {
+        this.message = message;
+        this.finishedAt = LocalDateTime.now();
+        this.status = Status.FAILED;
+    }
+
+    void rowRead() {
+        totalRows.incrementAndGet();
+    }
+
+    void rowSucceeded(int count) {
+        successCount.addAndGet(count);
+        processedRows.addAndGet(count);
+    }
+
+    /**
+     * 행 오류 기록 (오류 목록은 최대 MAX_ERRORS 건까지만 보관, 건수는 모두 집계)
+     */
+    void rowFailed(long rowNumber, String username, String message) {
+        failureCount.incrementAndGet();
+        processedRows.incrementAndGet();
+        synchronized (errors) {
+            if (errors.size() < MAX_ERRORS) {
+                errors.add(UserImportErrorResponse.builder()
+                        .rowNumber(rowNumber)
+                        .username(username)
+                        .message(message)
+                        .build());
+            }
+        }
+    }
+
+    boolean isFinished() {
+        return status == Status.COMPLETED || status == Status.FAILED;
+    }
+
+    /**
+     * 응답 DTO 변환
+     */
+    public UserImportJobResponse toResponse() {
+        List<UserImportErrorResponse> errorSnapshot;
+        synchronized (errors) {
+            errorSnapshot = List.copyOf(errors);
+        }
+
+        return UserImportJobResponse.builder()
+                .jobId(jobId)
+                .filename(filename)
+                .status(status.name())
+                .message(message)
+                .totalRows(totalRows.get())
+                .processedRows(processedRows.get())
+                .successCount(successCount.get())
+                .failureCount(failureCount.get())
+                .createdAt(createdAt)
+                .startedAt(startedAt)
+                .finishedAt(finishedAt)
+                .errors(errorSnapshot)
+                .build();
+    }
+}
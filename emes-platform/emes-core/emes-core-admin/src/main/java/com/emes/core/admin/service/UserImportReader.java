@@ -0,0 +1,252 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.user.UserCreateRequest;
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonMappingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 파일 리더 (CSV / JSON 배열을 한 행씩 스트리밍으로 읽음)
+ */
+interface UserImportReader extends Closeable {
+
+    /**
+     * 다음 행 (파일 끝이면 null)
+     */
+    Row next() throws IOException;
+
+    /**
+     * 파일 형식에 맞는 리더 생성
+     */
+    static UserImportReader open(Path file, boolean json, ObjectMapper objectMapper) throws IOException {
+        return json ? new JsonReader(file, objectMapper) : new CsvReader(file);
+    }
+
+    /**
+     * 읽은 행 (파싱 실패 시 request = null, parseError 에 사유)
+     */
+    @Getter
+    @AllArgsConstructor
+    class Row {
+        private final long rowNumber;
+        private final UserCreateRequest request;
+        private final String parseError;
+    }
+
+    /**
+     * CSV 리더 (첫 줄 헤더 필수, 따옴표/줄바꿈 포함 필드 지원)
+     * 헤더: username,password,email,displayName,phoneNumber,department,position,enabled
+     */
+    final class CsvReader implements UserImportReader {
+
+        private static final List<String> REQUIRED_COLUMNS = List.of("username", "password", "email", "displayname");
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+        private long rowNumber;
+
+        CsvReader(Path file) throws IOException {
+            this.reader = Files.newBufferedReader(file, StandardCharsets.UTF_8);
+
+            List<String> header = readRecord();
+            if (header == null) {
+                throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "CSV header is missing");
+            }
+            for (int i = 0; i < header.size(); i++) {
+                String name = header.get(i).replace("\uFEFF", "").trim().toLowerCase(Locale.ROOT);
+                columns.put(name, i);
+            }
+            for (String required : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(required)) {
+                    throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "CSV column is missing: " + required);
+                }
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            List<String> fields;
+            do {
+                fields = readRecord();
+                if (fields == null) {
+                    return null;
+                }
+            } while (fields.size() == 1 && fields.get(0).isBlank());
+
+            rowNumber++;
+            try {
+                UserCreateRequest request = UserCreateRequest.builder()
+                        .username(value(fields, "username"))
+                        .password(value(fields, "password"))
+                        .email(value(fields, "email"))
+                        .displayName(value(fields, "displayname"))
+                        .phoneNumber(value(fields, "phonenumber"))
+                        .department(value(fields, "department"))
+                        .position(value(fields, "position"))
+                        .enabled(parseBoolean(value(fields, "enabled")))
+                        .build();
+                return new Row(rowNumber, request, null);
+            } catch (IllegalArgumentException e) {
+                return new Row(rowNumber, null, e.getMessage());
+            }
+        }
+
+        private String value(List<String> fields, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= fields.size()) {
+                return null;
+            }
+            String value = fields.get(index).trim();
+            return value.isEmpty() ? null : value;
+        }
+
+        private Boolean parseBoolean(String value) {
+            if (value == null) {
+                return null;
+            }
+            return switch (value.toUpperCase(Locale.ROOT)) {
+                case "TRUE", "Y", "1" -> Boolean.TRUE;
+                case "FALSE", "N", "0" -> Boolean.FALSE;
+                default -> throw new IllegalArgumentException("enabled: Invalid boolean value '" + value + "'");
+            };
+        }
+
+        /**
+         * CSV 레코드 1건 읽기 (따옴표 안의 줄바꿈은 다음 줄까지 이어서 읽음)
+         */
+        private List<String> readRecord() throws IOException {
+            String line = reader.readLine();
+            if (line == null) {
+                return null;
+            }
+
+            List<String> fields = new ArrayList<>();
+            StringBuilder field = new StringBuilder();
+            boolean inQuotes = false;
+            while (true) {
+                for (int i = 0; i < line.length(); i++) {
+                    char c = line.charAt(i);
+                    if (inQuotes) {
+                        if (c == '"') {
+                            if (i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                                field.append('"');
+                                i++;
+                            } else {
+                                inQuotes = false;
+                            }
+                        } else {
+                            field.append(c);
+                        }
+                    } else if (c == '"') {
+                        inQuotes = true;
+                    } else if (c == ',') {
+                        fields.add(field.toString());
+                        field.setLength(0);
+                    } else {
+                        field.append(c);
+                    }
+                }
+
+                if (!inQuotes) {
+                    break;
+                }
+                String nextLine = reader.readLine();
+                if (nextLine == null) {
+                    break;
+                }
+                field.append('\n');
+                line = nextLine;
+            }
+            fields.add(field.toString());
+            return fields;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /**
+     * JSON 리더 (UserCreateRequest 객체 배열을 요소 단위로 역직렬화)
+     * 요소를 먼저 트리로 읽은 뒤 변환하므로, 값 형식이 맞지 않는 요소는 해당 행 오류로 처리하고 다음 요소부터 계속 읽음
+     */
+    final class JsonReader implements UserImportReader {
+
+        private final InputStream inputStream;
+        private final JsonParser parser;
+        private final ObjectMapper objectMapper;
+        private long rowNumber;
+
+        JsonReader(Path file, ObjectMapper objectMapper) throws IOException {
+            this.objectMapper = objectMapper;
+            this.inputStream = Files.newInputStream(file);
+            this.parser = objectMapper.createParser(inputStream);
+
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                close();
+                throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "JSON array is expected");
+            }
+        }
+
+        @Override
+        public Row next() throws IOException {
+            JsonToken token = parser.nextToken();
+            if (token == null || token == JsonToken.END_ARRAY) {
+                return null;
+            }
+            if (token != JsonToken.START_OBJECT) {
+                throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "JSON object is expected at row " + (rowNumber + 1));
+            }
+
+            rowNumber++;
+            JsonNode element = objectMapper.readTree(parser);
+            try {
+                return new Row(rowNumber, objectMapper.treeToValue(element, UserCreateRequest.class), null);
+            } catch (JsonMappingException e) {
+                return new Row(rowNumber, null, fieldPath(e) + ": " + e.getOriginalMessage());
+            }
+        }
+
+        /**
+         * 오류 위치 필드 (예: enabled, 알 수 없으면 row)
+         */
+        private static String fieldPath(JsonMappingException e) {
+            String path = e.getPath().stream()
+                    .map(reference -> reference.getFieldName() != null
+                            ? reference.getFieldName()
+                            : String.valueOf(reference.getIndex()))
+                    .collect(Collectors.joining("."));
+            return path.isEmpty() ? "row" : path;
+        }
+
+        @Override
+        public void close() throws IOException {
+            try {
+                parser.close();
+            } finally {
+                inputStream.close();
+            }
+        }
+    }
+}
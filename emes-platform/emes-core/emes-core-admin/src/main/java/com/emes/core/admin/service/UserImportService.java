@@ -0,0 +1,364 @@
+package com.emes.core.admin.service;
+
+import com.emes.core.admin.dto.user.UserCreateRequest;
+import com.emes.core.admin.dto.user.UserImportJobResponse;
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import com.emes.core.domain.event.UserChangedEvent;
+import com.emes.core.domain.mapper.UserMapper;
+import com.emes.core.domain.model.User;
+import com.emes.core.security.password.OffloadingPasswordEncoder;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PreDestroy;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 사용자 일괄 등록 서비스
+ * 업로드 파일을 비동기 작업으로 스트리밍 처리하고, 청크 단위로 중복 체크 / 병렬 해싱 / BATCH INSERT 수행
+ */
+@Slf4j
+@Service
+public class UserImportService {
+
+    private static final int CHUNK_SIZE = 500;
+    private static final long JOB_RETENTION_HOURS = 1;
+
+    private final UserMapper userMapper;
+    private final UserMapper batchUserMapper;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PasswordEncoder passwordEncoder;
+    private final Validator validator;
+    private final ObjectMapper objectMapper;
+    private final ApplicationEventPublisher eventPublisher;
+
+    private final ThreadPoolExecutor jobExecutor;
+    private final ExecutorService hashExecutor;
+    private final Map<String, UserImportJob> jobs = new ConcurrentHashMap<>();
+
+    public UserImportService(UserMapper userMapper,
+                             SqlSessionFactory sqlSessionFactory,
+                             PlatformTransactionManager transactionManager,
+                             PasswordEncoder passwordEncoder,
+                             Validator validator,
+                             ObjectMapper objectMapper,
+                             ApplicationEventPublisher eventPublisher,
+                             @Value("${emes.user-import.max-concurrent-jobs:2}") int maxConcurrentJobs,
+                             @Value("${emes.user-import.queue-capacity:4}") int queueCapacity,
+                             @Value("${emes.user-import.hash-threads:0}") int hashThreads,
+                             @Value("${spring.threads.virtual.enabled:false}") boolean virtualThreads) {
+        this.userMapper = userMapper;
+        // Spring 빈으로 등록하지 않음 (SqlSessionTemplate 빈이 생기면 MyBatis 자동 설정이 비활성화됨)
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchUserMapper = batchSqlSessionTemplate.getMapper(UserMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 자체 해시 풀에서 실행하므로 공용 해시 실행기(로그인 등 요청 경로용)를 거치지 않음 (대기열 / 대기 시간 제한은 요청 경로 전용)
+        this.passwordEncoder = passwordEncoder instanceof OffloadingPasswordEncoder offloading
+                ? offloading.getDelegate()
+                : passwordEncoder;
+        this.validator = validator;
+        this.objectMapper = objectMapper;
+        this.eventPublisher = eventPublisher;
+
+        this.jobExecutor = new ThreadPoolExecutor(
+                maxConcurrentJobs, maxConcurrentJobs, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                // 작업은 대부분 JDBC 대기이므로 가상 스레드 모드에서는 가상 스레드로 실행 (동시 작업 수 제한은 유지)
+                virtualThreads ? Thread.ofVirtual().name("user-import-", 0).factory() : new CustomizableThreadFactory("user-import-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        // BCrypt 는 CPU 작업이므로 항상 플랫폼 스레드
+        // 대량 등록이 코어를 모두 차지하면 로그인 해시가 max-wait-ms 를 넘겨 429 가 되므로 코어의 1/4 까지만 사용
+        int hashPoolSize = hashThreads > 0 ? hashThreads : Math.max(1, Runtime.getRuntime().availableProcessors() / 4);
+        this.hashExecutor = Executors.newFixedThreadPool(hashPoolSize, new CustomizableThreadFactory("user-import-hash-"));
+    }
+
+    /**
+     * 일괄 등록 작업 접수 (업로드 파일을 임시 파일로 옮긴 뒤 비동기 처리)
+     */
+    public UserImportJobResponse submit(MultipartFile file) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_IMPORT_FILE, "File is empty");
+        }
+
+        // 1. 완료 후 보관 기간이 지난 작업 정리
+        purgeExpiredJobs();
+
+        // 2. 요청 종료 시 멀티파트 임시 파일이 삭제되므로 별도 임시 파일로 이동
+        boolean json = isJson(file);
+        Path tempFile;
+        try {
+            tempFile = Files.createTempFile("user-import-", json ? ".json" : ".csv");
+            file.transferTo(tempFile);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        }
+
+        // 3. 작업 등록 및 실행 (대기열이 가득 차면 429)
+        UserImportJob job = new UserImportJob(UUID.randomUUID().toString(), file.getOriginalFilename());
+        jobs.put(job.getJobId(), job);
+        try {
+            jobExecutor.execute(() -> runJob(job, tempFile, json));
+        } catch (RejectedExecutionException e) {
+            jobs.remove(job.getJobId());
+            deleteQuietly(tempFile);
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        log.info("User import job submitted: {} ({})", job.getJobId(), file.getOriginalFilename());
+        return job.toResponse();
+    }
+
+    /**
+     * 작업 상태 조회
+     */
+    public UserImportJobResponse getJob(String jobId) {
+        UserImportJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new BusinessException(ErrorCode.IMPORT_JOB_NOT_FOUND);
+        }
+        return job.toResponse();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        jobExecutor.shutdownNow();
+        hashExecutor.shutdownNow();
+    }
+
+    /**
+     * 작업 실행 (파일을 한 행씩 읽어 검증 후 청크 단위로 등록)
+     */
+    private void runJob(UserImportJob job, Path file, boolean json) {
+        job.start();
+        log.info("User import job started: {}", job.getJobId());
+
+        Set<String> seenUsernames = new HashSet<>();
+        Set<String> seenEmails = new HashSet<>();
+        List<UserImportReader.Row> chunk = new ArrayList<>(CHUNK_SIZE);
+
+        try (UserImportReader reader = UserImportReader.open(file, json, objectMapper)) {
+            UserImportReader.Row row;
+            while ((row = reader.next()) != null) {
+                job.rowRead();
+
+                String error = validate(row, seenUsernames, seenEmails);
+                if (error != null) {
+                    job.rowFailed(row.getRowNumber(), usernameOf(row), error);
+                    continue;
+                }
+
+                chunk.add(row);
+                if (chunk.size() >= CHUNK_SIZE) {
+                    processChunk(job, chunk);
+                    chunk.clear();
+                }
+            }
+            if (!chunk.isEmpty()) {
+                processChunk(job, chunk);
+            }
+
+            job.complete();
+            log.info("User import job completed: {}", job.getJobId());
+        } catch (BusinessException e) {
+            log.warn("User import job failed: {} - {}", job.getJobId(), e.getMessage());
+            job.fail(e.getMessage());
+        } catch (Exception e) {
+            log.error("User import job failed: {}", job.getJobId(), e);
+            job.fail(ErrorCode.INVALID_IMPORT_FILE.getMessage());
+        } finally {
+            deleteQuietly(file);
+        }
+    }
+
+    /**
+     * 행 검증 (Bean Validation + 파일 내 중복)
+     * @return 오류 메시지 (정상이면 null)
+     */
+    private String validate(UserImportReader.Row row, Set<String> seenUsernames, Set<String> seenEmails) {
+        if (row.getParseError() != null) {
+            return row.getParseError();
+        }
+
+        UserCreateRequest request = row.getRequest();
+        Set<ConstraintViolation<UserCreateRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            return violations.stream()
+                    .sorted(Comparator.comparing(v -> v.getPropertyPath().toString()))
+                    .map(v -> v.getPropertyPath() + ": " + v.getMessage())
+                    .collect(Collectors.joining(", "));
+        }
+
+        if (!seenUsernames.add(normalize(request.getUsername()))) {
+            return "Duplicate username in file";
+        }
+        if (!seenEmails.add(normalize(request.getEmail()))) {
+            return "Duplicate email in file";
+        }
+        return null;
+    }
+
+    /**
+     * 청크 처리
+     */
+    private void processChunk(UserImportJob job, List<UserImportReader.Row> chunk) {
+        // 1. DB 중복 체크 (청크 전체를 IN 조회 2회로 확인)
+        Set<String> existingUsernames = normalizeAll(userMapper.selectExistingUsernames(
+                chunk.stream().map(row -> row.getRequest().getUsername()).toList()));
+        Set<String> existingEmails = normalizeAll(userMapper.selectExistingEmails(
+                chunk.stream().map(row -> row.getRequest().getEmail()).toList()));
+
+        List<UserImportReader.Row> accepted = new ArrayList<>(chunk.size());
+        for (UserImportReader.Row row : chunk) {
+            UserCreateRequest request = row.getRequest();
+            if (existingUsernames.contains(normalize(request.getUsername()))) {
+                job.rowFailed(row.getRowNumber(), request.getUsername(), ErrorCode.USERNAME_ALREADY_EXISTS.getMessage());
+            } else if (existingEmails.contains(normalize(request.getEmail()))) {
+                job.rowFailed(row.getRowNumber(), request.getUsername(), ErrorCode.EMAIL_ALREADY_EXISTS.getMessage());
+            } else {
+                accepted.add(row);
+            }
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        // 2. 비밀번호 병렬 해싱 (BCrypt 는 CPU 바운드이므로 hash-threads 만큼 분산)
+        List<CompletableFuture<String>> hashes = accepted.stream()
+                .map(row -> CompletableFuture.supplyAsync(
+                        () -> passwordEncoder.encode(row.getRequest().getPassword()), hashExecutor))
+                .toList();
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(accepted.size());
+        for (int i = 0; i < accepted.size(); i++) {
+            users.add(toUser(accepted.get(i).getRequest(), hashes.get(i).join(), now));
+        }
+
+        // 3. BATCH INSERT (실패 시 행 단위로 재시도하여 실패 행만 오류 처리)
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                users.forEach(batchUserMapper::insertBulk);
+                batchSqlSessionTemplate.flushStatements();
+            });
+            job.rowSucceeded(users.size());
+        } catch (DataAccessException e) {
+            log.warn("Batch insert failed, retrying row by row: {}", e.getMessage());
+            insertOneByOne(job, accepted, users);
+        }
+
+        // 4. 검색 색인 등 반영 (생성 키를 받지 않으므로 수신 측에서 사용자명으로 조회)
+        eventPublisher.publishEvent(UserChangedEvent.bulkInserted(users.stream().map(User::getUsername).toList()));
+    }
+
+    /**
+     * 행 단위 INSERT (동시 등록 등으로 배치가 실패했을 때만 사용)
+     */
+    private void insertOneByOne(UserImportJob job, List<UserImportReader.Row> rows, List<User> users) {
+        for (int i = 0; i < users.size(); i++) {
+            User user = users.get(i);
+            long rowNumber = rows.get(i).getRowNumber();
+            try {
+                userMapper.insertBulk(user);
+                job.rowSucceeded(1);
+            } catch (DuplicateKeyException e) {
+                job.rowFailed(rowNumber, user.getUsername(), "Username or email already exists");
+            } catch (DataAccessException e) {
+                log.warn("Failed to insert user {}: {}", user.getUsername(), e.getMessage());
+                job.rowFailed(rowNumber, user.getUsername(), "Failed to insert user");
+            }
+        }
+    }
+
+    private User toUser(UserCreateRequest request, String encodedPassword, LocalDateTime now) {
+        return User.builder()
+                .username(request.getUsername())
+                .password(encodedPassword)
+                .email(request.getEmail())
+                .fullName(request.getDisplayName())
+                .phone(request.getPhoneNumber())
+                .department(request.getDepartment())
+                .position(request.getPosition())
+                .isActive(request.getEnabled() != null ? request.getEnabled() : true)
+                .isLocked(false)
+                .passwordChangedAt(now)
+                .createdAt(now)
+                .build();
+    }
+
+    private void purgeExpiredJobs() {
+        LocalDateTime threshold = LocalDateTime.now().minusHours(JOB_RETENTION_HOURS);
+        jobs.values().removeIf(job -> job.isFinished() && job.getFinishedAt().isBefore(threshold));
+    }
+
+    /**
+     * 확장자 또는 Content-Type 으로 JSON 여부 판단 (그 외는 CSV)
+     */
+    private boolean isJson(MultipartFile file) {
+        String filename = file.getOriginalFilename();
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return true;
+        }
+        String contentType = file.getContentType();
+        return contentType != null && contentType.startsWith("application/json");
+    }
+
+    private String usernameOf(UserImportReader.Row row) {
+        return row.getRequest() != null ? row.getRequest().getUsername() : null;
+    }
+
+    /**
+     * 대소문자 무시 비교용 정규화 (DB 기본 Collation 이 대소문자를 구분하지 않음)
+     */
+    private String normalize(String value) {
+        return value.toLowerCase(Locale.ROOT);
+    }
+
+    private Set<String> normalizeAll(List<String> values) {
+        return values.stream().map(this::normalize).collect(Collectors.toSet());
+    }
+
+    private void deleteQuietly(Path file) {
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("Failed to delete temp file: {}", file, e);
+        }
+    }
+}
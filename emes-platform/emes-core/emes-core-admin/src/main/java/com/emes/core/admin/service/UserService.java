@@ -4,16 +4,33 @@ import com.emes.core.admin.dto.user.*;
 import com.emes.core.common.dto.PageResponse;
 import com.emes.core.common.exception.BusinessException;
 import com.emes.core.common.exception.ErrorCode;
+import com.emes.core.domain.event.UserChangedEvent;
 import com.emes.core.domain.mapper.UserMapper;
 import com.emes.core.domain.model.User;
+import com.emes.core.domain.model.UserPageRow;
+import com.emes.core.domain.model.UserStatusChange;
+import com.emes.core.search.dto.UserSearchIndexStatus;
+import com.emes.core.search.index.UserSearchField;
+import com.emes.core.search.service.UserSearchIndex;
+import com.emes.core.security.login.LoginStateTracker;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DuplicateKeyException;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
 
 import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 /**
@@ -24,29 +41,38 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class UserService {
 
+    private static final String SORT_BY_CREATED_AT = "createdAt";
+    private static final Set<String> SORTABLE_FIELDS = Set.of("username", "email", "displayName", "department", SORT_BY_CREATED_AT);
+    /** 검색 색인 결과를 IN 목록으로 넘길 최대 건수 (SQL Server 파라미터 2100개 제한 이내) */
+    private static final int MAX_INDEX_HITS = 2_000;
+    /** 일괄 처리 시 한 문장의 IN 목록 최대 건수 (파라미터 2100개 제한 이내) */
+    private static final int BULK_CHUNK_SIZE = 2_000;
+    /** TB_CORE_USER UNIQUE 제약 이름 (database/ddl) */
+    private static final String USERNAME_CONSTRAINT = "UQ_TB_CORE_USER_username";
+    private static final String EMAIL_CONSTRAINT = "UQ_TB_CORE_USER_email";
+
     private final UserMapper userMapper;
     private final PasswordEncoder passwordEncoder;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ObjectProvider<UserSearchIndex> userSearchIndexProvider;
+    private final LoginStateTracker loginStateTracker;
 
     /**
      * 사용자 생성
+     * 트랜잭션 없이 BCrypt 해시를 먼저 계산하고 INSERT 한 문장만 실행 (커넥션은 INSERT 동안만 점유)
+     * 사용자명 / 이메일 중복은 UNIQUE 제약 위반으로 판단
      */
-    @Transactional
     public UserResponse createUser(UserCreateRequest request) {
         log.info("Creating user: {}", request.getUsername());
 
-        // 1. 중복 체크
-        if (userMapper.selectByUsername(request.getUsername()) != null) {
-            throw new BusinessException(ErrorCode.USERNAME_ALREADY_EXISTS);
-        }
-
-        if (userMapper.selectByEmail(request.getEmail()) != null) {
-            throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
-        }
+        // 1. 비밀번호 해시 (커넥션 획득 전)
+        String encodedPassword = passwordEncoder.encode(request.getPassword());
 
         // 2. User 엔티티 생성
+        LocalDateTime now = LocalDateTime.now();
         User user = User.builder()
                 .username(request.getUsername())
-                .password(passwordEncoder.encode(request.getPassword()))
+                .password(encodedPassword)
                 .email(request.getEmail())
                 .fullName(request.getDisplayName())
                 .phone(request.getPhoneNumber())
@@ -54,20 +80,46 @@ public class UserService {
                 .position(request.getPosition())
                 .isActive(request.getEnabled() != null ? request.getEnabled() : true)
                 .isLocked(false)
-                .passwordChangedAt(LocalDateTime.now())
-                .createdAt(LocalDateTime.now())
+                .passwordChangedAt(now)
+                .createdAt(now)
+                .version(0)
                 .build();
 
-        // 3. DB 저장
-        int inserted = userMapper.insert(user);
+        // 3. DB 저장 (단일 INSERT, 자동 커밋)
+        int inserted;
+        try {
+            inserted = userMapper.insert(user);
+        } catch (DuplicateKeyException e) {
+            throw duplicateUser(e, request.getUsername());
+        }
         if (inserted == 0) {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
 
+        eventPublisher.publishEvent(UserChangedEvent.saved(user.getUserId(), user.getUsername(), user.getEmail(),
+                user.getFullName(), user.getDepartment(), user.getPosition()));
+
         log.info("User created successfully: {}", user.getUsername());
         return convertToResponse(user);
     }
 
+    /**
+     * UNIQUE 제약 위반을 중복 항목별 오류로 변환
+     * 제약 이름(UQ_TB_CORE_USER_username / email)으로 판별하고, 이름이 없는 기존 DB 면 사용자명을 한 번 조회
+     */
+    private BusinessException duplicateUser(DuplicateKeyException e, String username) {
+        String message = String.valueOf(e.getMostSpecificCause().getMessage());
+        if (message.contains(USERNAME_CONSTRAINT)) {
+            return new BusinessException(ErrorCode.USERNAME_ALREADY_EXISTS);
+        }
+        if (message.contains(EMAIL_CONSTRAINT)) {
+            return new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
+        }
+        return userMapper.selectExistingUsernames(List.of(username)).isEmpty()
+                ? new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS)
+                : new BusinessException(ErrorCode.USERNAME_ALREADY_EXISTS);
+    }
+
     /**
      * 사용자 조회
      */
@@ -83,26 +135,96 @@ public class UserService {
         return convertToResponse(user);
     }
 
+    /**
+     * 사용자 ETag 조회 (ETag 구성 컬럼만 조회하여 본문을 읽지 않고 변경 여부 판단)
+     */
+    @Transactional(readOnly = true)
+    public String getUserETag(Long userId) {
+        User state = userMapper.selectETagStateById(userId);
+        if (state == null) {
+            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+        }
+        return eTag(userId, state.getVersion(), state.getLastLoginAt());
+    }
+
+    /**
+     * 강한 ETag (user_id + version + 마지막 로그인 일시)
+     * version 은 관리 대상 정보가 바뀌는 UPDATE 에서만 증가 (낙관적 잠금용)
+     * 로그인 상태 반영은 version 을 올리지 않으므로 (로그인 중 관리자 수정이 충돌하지 않도록) 별도 구성 요소로 포함
+     */
+    public static String eTag(Long userId, Integer version, LocalDateTime lastLoginAt) {
+        String loginStamp = lastLoginAt == null ? "0"
+                : lastLoginAt.toEpochSecond(ZoneOffset.UTC) + "." + lastLoginAt.getNano();
+        return "\"u" + userId + "-v" + version + "-l" + loginStamp + "\"";
+    }
+
     /**
      * 사용자 목록 조회 (검색 + 페이징)
+     * cursor 가 지정되면 Keyset 페이징, 아니면 OFFSET 페이징 (응답의 nextCursor 로 Keyset 전환 가능)
+     * withTotal=false 이면 전체 건수를 조회하지 않고 다음 페이지 존재 여부만 반환
+     * 커서 페이징은 첫 페이지 (OFFSET) 에서 받은 전체 건수를 재사용하도록 withTotal=true 로 지정한 경우에만 카운트
+     * 텍스트 조건은 검색 색인으로 user_id 목록을 먼저 구해 PK 조회로 처리 (색인 미사용 시 LIKE 스캔)
      */
     @Transactional(readOnly = true)
     public PageResponse<UserResponse> searchUsers(UserSearchRequest request) {
         log.debug("Searching users with condition: {}", request);
 
-        // 1. 전체 개수 조회
-        long totalElements = userMapper.countByCondition(
+        String sortBy = normalizeSortBy(request.getSortBy());
+        String sortDirection = normalizeSortDirection(request.getSortDirection());
+        List<Long> userIds = resolveUserIds(request);
+
+        if (StringUtils.hasText(request.getCursor())) {
+            return searchUsersByCursor(request, userIds, sortBy, sortDirection);
+        }
+
+        int offset = request.getPage() * request.getSize();
+        if (Boolean.FALSE.equals(request.getWithTotal())) {
+            return searchUsersWithoutTotal(request, userIds, sortBy, sortDirection, offset);
+        }
+
+        // 1. 페이징된 목록 + 전체 개수 조회 (COUNT(*) OVER() 로 단일 쿼리)
+        List<UserPageRow> rows = userMapper.selectPageWithTotal(
                 request.getUsername(),
                 request.getEmail(),
                 request.getDisplayName(),
                 request.getDepartment(),
                 request.getPosition(),
                 request.getEnabled(),
-                request.getAccountLocked()
+                request.getAccountLocked(),
+                userIds,
+                sortBy,
+                sortDirection,
+                request.getSize(),
+                offset
         );
 
-        // 2. 페이징된 목록 조회
-        int offset = request.getPage() * request.getSize();
+        // 2. 마지막 페이지를 넘어선 경우(행 없음)에만 별도 카운트
+        long totalElements;
+        if (!rows.isEmpty()) {
+            totalElements = rows.get(0).getTotalCount();
+        } else {
+            totalElements = offset > 0 ? countUsers(request, userIds) : 0L;
+        }
+
+        // 3. DTO 변환 + 다음 페이지 커서 생성
+        List<UserResponse> content = rows.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+
+        boolean hasNext = offset + rows.size() < totalElements;
+        String nextCursor = hasNext && !rows.isEmpty()
+                ? createCursor(rows.get(rows.size() - 1), sortBy, sortDirection)
+                : null;
+
+        return PageResponse.ofCursor(content, request.getPage(), request.getSize(), totalElements, nextCursor);
+    }
+
+    /**
+     * 사용자 목록 조회 (전체 건수 미조회)
+     * 1건 추가 조회로 다음 페이지 존재 여부만 판단
+     */
+    private PageResponse<UserResponse> searchUsersWithoutTotal(UserSearchRequest request, List<Long> userIds,
+                                                               String sortBy, String sortDirection, int offset) {
         List<User> users = userMapper.selectByCondition(
                 request.getUsername(),
                 request.getEmail(),
@@ -111,62 +233,210 @@ public class UserService {
                 request.getPosition(),
                 request.getEnabled(),
                 request.getAccountLocked(),
-                request.getSortBy(),
-                request.getSortDirection(),
-                request.getSize(),
+                userIds,
+                sortBy,
+                sortDirection,
+                request.getSize() + 1,
                 offset
         );
 
+        boolean hasNext = users.size() > request.getSize();
+        if (hasNext) {
+            users = users.subList(0, request.getSize());
+        }
+
+        List<UserResponse> content = users.stream()
+                .map(this::convertToResponse)
+                .collect(Collectors.toList());
+
+        String nextCursor = hasNext ? createCursor(users.get(users.size() - 1), sortBy, sortDirection) : null;
+        return PageResponse.ofSlice(content, request.getPage(), request.getSize(), hasNext, nextCursor);
+    }
+
+    /**
+     * 사용자 목록 조회 (Keyset 페이징)
+     * 마지막 행의 정렬 키 + user_id 이후부터 조회하므로 페이지 깊이와 무관하게 비용 일정
+     */
+    private PageResponse<UserResponse> searchUsersByCursor(UserSearchRequest request, List<Long> userIds,
+                                                           String sortBy, String sortDirection) {
+        // 1. 커서 디코딩 및 정렬 조건 일치 확인
+        UserSearchCursor cursor = UserSearchCursor.decode(request.getCursor());
+        if (!sortBy.equals(cursor.getSortBy()) || !sortDirection.equals(cursor.getSortDirection())) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Cursor does not match sort condition");
+        }
+
+        // 2. 커서 이후 목록 조회 (다음 페이지 존재 여부 확인을 위해 1건 추가 조회)
+        boolean sortByCreatedAt = SORT_BY_CREATED_AT.equals(sortBy);
+        List<User> users = userMapper.selectByCursor(
+                request.getUsername(),
+                request.getEmail(),
+                request.getDisplayName(),
+                request.getDepartment(),
+                request.getPosition(),
+                request.getEnabled(),
+                request.getAccountLocked(),
+                userIds,
+                sortBy,
+                sortDirection,
+                sortByCreatedAt ? null : cursor.getSortValue(),
+                sortByCreatedAt ? cursor.getSortValueAsDateTime() : null,
+                cursor.getUserId(),
+                request.getSize() + 1
+        );
+
+        boolean hasNext = users.size() > request.getSize();
+        if (hasNext) {
+            users = users.subList(0, request.getSize());
+        }
+
         // 3. DTO 변환
         List<UserResponse> content = users.stream()
                 .map(this::convertToResponse)
                 .collect(Collectors.toList());
 
-        return PageResponse.of(content, request.getPage(), request.getSize(), totalElements);
+        String nextCursor = hasNext ? createCursor(users.get(users.size() - 1), sortBy, sortDirection) : null;
+        if (!Boolean.TRUE.equals(request.getWithTotal())) {
+            return PageResponse.ofSlice(content, request.getPage(), request.getSize(), hasNext, nextCursor);
+        }
+
+        // 4. 전체 개수 조회 (Keyset 조건과 무관한 검색 조건 기준)
+        long totalElements = countUsers(request, userIds);
+        return PageResponse.ofCursor(content, request.getPage(), request.getSize(), totalElements, nextCursor);
     }
 
     /**
-     * 사용자 수정
+     * 검색 조건 카운트
      */
-    @Transactional
-    public UserResponse updateUser(Long userId, UserUpdateRequest request) {
-        log.info("Updating user: {}", userId);
+    private long countUsers(UserSearchRequest request, List<Long> userIds) {
+        return userMapper.countByCondition(
+                request.getUsername(),
+                request.getEmail(),
+                request.getDisplayName(),
+                request.getDepartment(),
+                request.getPosition(),
+                request.getEnabled(),
+                request.getAccountLocked(),
+                userIds
+        );
+    }
 
-        // 1. 기존 사용자 조회
-        User user = userMapper.selectById(userId);
-        if (user == null) {
-            throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+    /**
+     * 텍스트 검색 조건을 검색 색인으로 user_id 목록으로 변환
+     * LIKE 조건은 그대로 함께 적용되므로 색인이 잠시 뒤처져도 잘못된 행은 반환되지 않음
+     * @return null 이면 ID 조건 없이 LIKE 검색 (색인 비활성/미구축, 조건 없음, 결과가 MAX_INDEX_HITS 초과)
+     */
+    private List<Long> resolveUserIds(UserSearchRequest request) {
+        UserSearchIndex userSearchIndex = userSearchIndexProvider.getIfAvailable();
+        if (userSearchIndex == null) {
+            return null;
         }
 
-        // 2. 이메일 중복 체크 (변경하는 경우)
-        if (request.getEmail() != null && !request.getEmail().equals(user.getEmail())) {
-            User existingUser = userMapper.selectByEmail(request.getEmail());
-            if (existingUser != null && !existingUser.getUserId().equals(userId)) {
-                throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
-            }
+        Map<UserSearchField, String> terms = new EnumMap<>(UserSearchField.class);
+        terms.put(UserSearchField.USERNAME, request.getUsername());
+        terms.put(UserSearchField.EMAIL, request.getEmail());
+        terms.put(UserSearchField.FULL_NAME, request.getDisplayName());
+        terms.put(UserSearchField.DEPARTMENT, request.getDepartment());
+        terms.put(UserSearchField.POSITION, request.getPosition());
+
+        return userSearchIndex.findUserIds(terms, MAX_INDEX_HITS).orElse(null);
+    }
+
+    /**
+     * 검색 색인 전체 재구축 요청
+     */
+    public UserSearchIndexStatus rebuildSearchIndex() {
+        UserSearchIndex userSearchIndex = userSearchIndexProvider.getIfAvailable();
+        if (userSearchIndex == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "User search index is disabled");
         }
 
-        // 3. 업데이트 필드 설정
-        User updatedUser = User.builder()
+        if (!userSearchIndex.rebuildAsync()) {
+            log.info("User search index rebuild is already running");
+        }
+        return userSearchIndex.getStatus();
+    }
+
+    /**
+     * 검색 색인 상태 조회
+     */
+    public UserSearchIndexStatus getSearchIndexStatus() {
+        UserSearchIndex userSearchIndex = userSearchIndexProvider.getIfAvailable();
+        if (userSearchIndex == null) {
+            throw new BusinessException(ErrorCode.NOT_FOUND, "User search index is disabled");
+        }
+        return userSearchIndex.getStatus();
+    }
+
+    /**
+     * 마지막 행으로 다음 페이지 커서 생성
+     */
+    private String createCursor(User lastUser, String sortBy, String sortDirection) {
+        String sortValue = switch (sortBy) {
+            case "username" -> lastUser.getUsername();
+            case "email" -> lastUser.getEmail();
+            case "displayName" -> lastUser.getFullName();
+            case "department" -> lastUser.getDepartment();
+            default -> lastUser.getCreatedAt().toString();
+        };
+        return new UserSearchCursor(sortBy, sortDirection, sortValue, lastUser.getUserId()).encode();
+    }
+
+    /**
+     * 정렬 컬럼 정규화 (UserMapper.xml 정렬 분기와 동일한 값만 허용)
+     */
+    static String normalizeSortBy(String sortBy) {
+        return sortBy != null && SORTABLE_FIELDS.contains(sortBy) ? sortBy : SORT_BY_CREATED_AT;
+    }
+
+    /**
+     * 정렬 방향 정규화 (ASC / DESC)
+     */
+    static String normalizeSortDirection(String sortDirection) {
+        return "asc".equalsIgnoreCase(sortDirection) ? "ASC" : "DESC";
+    }
+
+    /**
+     * 사용자 수정
+     * 한 문장으로 수정하고 수정된 행을 그대로 반환 (요청의 version 으로 낙관적 잠금)
+     */
+    @Transactional
+    public UserResponse updateUser(Long userId, UserUpdateRequest request) {
+        log.info("Updating user: {}", userId);
+
+        // 1. 변경 필드만 설정 (null 은 기존 값 유지)
+        User changes = User.builder()
                 .userId(userId)
-                .email(request.getEmail() != null ? request.getEmail() : user.getEmail())
-                .fullName(request.getDisplayName() != null ? request.getDisplayName() : user.getFullName())
-                .phone(request.getPhoneNumber() != null ? request.getPhoneNumber() : user.getPhone())
-                .department(request.getDepartment() != null ? request.getDepartment() : user.getDepartment())
-                .position(request.getPosition() != null ? request.getPosition() : user.getPosition())
-                .isActive(request.getEnabled() != null ? request.getEnabled() : user.getIsActive())
-                .isLocked(request.getAccountLocked() != null ? request.getAccountLocked() : user.getIsLocked())
+                .email(request.getEmail())
+                .fullName(request.getDisplayName())
+                .phone(request.getPhoneNumber())
+                .department(request.getDepartment())
+                .position(request.getPosition())
+                .isActive(request.getEnabled())
+                .isLocked(request.getAccountLocked())
                 .updatedAt(LocalDateTime.now())
                 .build();
 
-        // 4. DB 업데이트
-        int updated = userMapper.update(updatedUser);
-        if (updated == 0) {
-            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
+        // 2. 버전 조건 UPDATE + OUTPUT INSERTED (이메일 중복은 UNIQUE 제약으로 판단)
+        User user;
+        try {
+            user = userMapper.updateReturning(changes, request.getVersion());
+        } catch (DuplicateKeyException e) {
+            throw new BusinessException(ErrorCode.EMAIL_ALREADY_EXISTS);
         }
 
-        log.info("User updated successfully: {}", userId);
-        return getUser(userId);
+        // 3. 수정된 행이 없으면 삭제 / 버전 충돌 구분 (실패 시에만 추가 조회)
+        if (user == null) {
+            if (userMapper.selectVersionById(userId) == null) {
+                throw new BusinessException(ErrorCode.USER_NOT_FOUND);
+            }
+            throw new BusinessException(ErrorCode.USER_VERSION_CONFLICT);
+        }
+
+        eventPublisher.publishEvent(UserChangedEvent.saved(userId, user.getUsername(), user.getEmail(),
+                user.getFullName(), user.getDepartment(), user.getPosition()));
+
+        log.info("User updated successfully: {} (version {})", userId, user.getVersion());
+        return convertToResponse(user);
     }
 
     /**
@@ -186,6 +456,8 @@ public class UserService {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
 
+        eventPublisher.publishEvent(UserChangedEvent.deleted(userId));
+
         log.info("User deleted successfully: {}", userId);
     }
 
@@ -234,9 +506,107 @@ public class UserService {
             throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR);
         }
 
+        // 잠금 해제 시 누적 실패 횟수 초기화 (다음 실패에서 바로 다시 잠기지 않도록)
+        if (!locked) {
+            loginStateTracker.reset(userId);
+        }
+
         log.info("Account lock toggled successfully for user: {}", userId);
     }
 
+    /**
+     * 계정 잠금 / 잠금 해제 일괄 처리
+     */
+    @Transactional
+    public UserBulkResultResponse setAccountLockBulk(List<Long> userIds, boolean locked) {
+        log.info("Bulk account lock {} for {} users", locked, userIds.size());
+
+        UserBulkResultResponse response = updateStatusBulk(userIds, locked, null);
+
+        // 잠금 해제 시 누적 실패 횟수 초기화 (toggleAccountLock 과 동일)
+        if (!locked) {
+            response.getResults().stream()
+                    .filter(item -> item.getOutcome() != UserBulkOutcome.NOT_FOUND)
+                    .forEach(item -> loginStateTracker.reset(item.getUserId()));
+        }
+        return response;
+    }
+
+    /**
+     * 활성 / 비활성 일괄 처리
+     */
+    @Transactional
+    public UserBulkResultResponse setEnabledBulk(List<Long> userIds, boolean enabled) {
+        log.info("Bulk enable {} for {} users", enabled, userIds.size());
+        return updateStatusBulk(userIds, null, enabled);
+    }
+
+    /**
+     * 일괄 삭제 (Soft Delete)
+     */
+    @Transactional
+    public UserBulkResultResponse deleteUsersBulk(List<Long> userIds) {
+        log.info("Bulk delete for {} users", userIds.size());
+
+        List<Long> ids = userIds.stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, UserBulkOutcome> outcomes = new HashMap<>();
+        for (List<Long> chunk : chunks(ids)) {
+            for (Long deletedId : userMapper.softDeleteBulk(chunk, now)) {
+                outcomes.put(deletedId, UserBulkOutcome.UPDATED);
+                eventPublisher.publishEvent(UserChangedEvent.deleted(deletedId));
+            }
+        }
+        return toBulkResult(ids, outcomes);
+    }
+
+    /**
+     * 잠금 / 활성 여부 일괄 변경 (IN 목록 단위로 한 문장씩)
+     */
+    private UserBulkResultResponse updateStatusBulk(List<Long> userIds, Boolean locked, Boolean enabled) {
+        List<Long> ids = userIds.stream().distinct().toList();
+        LocalDateTime now = LocalDateTime.now();
+        Map<Long, UserBulkOutcome> outcomes = new HashMap<>();
+        for (List<Long> chunk : chunks(ids)) {
+            for (UserStatusChange change : userMapper.updateStatusBulk(chunk, locked, enabled, now)) {
+                outcomes.put(change.getUserId(),
+                        Boolean.TRUE.equals(change.getChanged()) ? UserBulkOutcome.UPDATED : UserBulkOutcome.UNCHANGED);
+            }
+        }
+        return toBulkResult(ids, outcomes);
+    }
+
+    /**
+     * 요청 순서대로 건별 결과 구성 (결과에 없는 ID 는 NOT_FOUND)
+     */
+    private UserBulkResultResponse toBulkResult(List<Long> ids, Map<Long, UserBulkOutcome> outcomes) {
+        Map<UserBulkOutcome, Integer> counts = new EnumMap<>(UserBulkOutcome.class);
+        List<UserBulkItemResponse> results = new ArrayList<>(ids.size());
+        for (Long id : ids) {
+            UserBulkOutcome outcome = outcomes.getOrDefault(id, UserBulkOutcome.NOT_FOUND);
+            counts.merge(outcome, 1, Integer::sum);
+            results.add(UserBulkItemResponse.builder().userId(id).outcome(outcome).build());
+        }
+        return UserBulkResultResponse.builder()
+                .requested(ids.size())
+                .updated(counts.getOrDefault(UserBulkOutcome.UPDATED, 0))
+                .unchanged(counts.getOrDefault(UserBulkOutcome.UNCHANGED, 0))
+                .notFound(counts.getOrDefault(UserBulkOutcome.NOT_FOUND, 0))
+                .results(results)
+                .build();
+    }
+
+    /**
+     * IN 목록 분할
+     */
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int from = 0; from < ids.size(); from += BULK_CHUNK_SIZE) {
+            chunks.add(ids.subList(from, Math.min(ids.size(), from + BULK_CHUNK_SIZE)));
+        }
+        return chunks;
+    }
+
     /**
      * User -> UserResponse 변환
      */
@@ -257,6 +627,7 @@ public class UserService {
                 .createdBy(user.getCreatedBy() != null ? String.valueOf(user.getCreatedBy()) : null)
                 .updatedAt(user.getUpdatedAt())
                 .updatedBy(user.getUpdatedBy() != null ? String.valueOf(user.getUpdatedBy()) : null)
+                .version(user.getVersion())
                 .build();
     }
 }
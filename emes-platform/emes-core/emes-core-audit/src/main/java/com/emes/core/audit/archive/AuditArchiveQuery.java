@@ -0,0 +1,26 @@
+package com.emes.core.audit.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 아카이브 조회 조건 (DB Keyset 조회와 동일한 조건 / 순서)
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AuditArchiveQuery {
+
+    private final LocalDateTime from;
+    private final LocalDateTime to;
+    private final Long userId;
+    private final String username;
+    private final String actionType;
+    private final String resourceType;
+    /** 이전 페이지 마지막 행 (첫 페이지면 null) */
+    private final LocalDateTime cursorLogDate;
+    private final Long cursorLogId;
+}
@@ -0,0 +1,262 @@
+package com.emes.core.audit.archive;
+
+import com.emes.core.domain.model.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 감사 로그 아카이브 세그먼트 저장소 (로컬 디렉터리)
+ * 파일명: audit-{yyyyMM}-{순번}.seg (월 / 순번 오름차순 = log_date, log_id 오름차순)
+ *
+ * - 조회: 최신 세그먼트부터 memory-mapped 로 읽어 limit 건까지 수집
+ * - 한 월의 세그먼트는 임시 파일로 모두 작성한 뒤 한 번에 교체 (완료된 파일은 수정하지 않음)
+ * - 서버가 여러 대면 archive-dir 은 공유 볼륨이어야 함 (작성은 AuditArchiver 잠금을 가진 한 대만 수행)
+ * - 다른 서버가 작성한 세그먼트는 조회 시 디렉터리 수정 시각이 바뀌었거나 refresh-interval 이 지났으면 다시 읽어 반영
+ *   (바뀌지 않은 파일은 기존 매핑을 그대로 사용)
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(prefix = "emes.audit.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditArchiveStore {
+
+    private static final DateTimeFormatter MONTH_FORMAT = DateTimeFormatter.ofPattern("yyyyMM");
+    /** 이보다 오래된 임시 파일만 작성 중단분으로 보고 삭제 (다른 서버가 작성 중인 파일 보호) */
+    private static final Duration STALE_TEMP_FILE_AGE = Duration.ofDays(1);
+
+    private final Path directory;
+    private final long refreshIntervalMillis;
+    /** 최신순 (파일명 역순) */
+    private volatile List<AuditSegmentReader> segments = List.of();
+    /** 마지막 적재 시점의 디렉터리 수정 시각 / 적재 시각 */
+    private volatile FileTime loadedDirectoryTime;
+    private volatile long loadedAt;
+    /** 교체 / 삭제 / 다시 적재 직렬화 (조회 스레드에서도 적재하므로 가상 스레드 고정 방지용 ReentrantLock) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    public AuditArchiveStore(@Value("${emes.audit.archive.dir:./data/audit-archive}") String archiveDir,
+                             @Value("${emes.audit.archive.refresh-interval-ms:60000}") long refreshIntervalMillis) throws IOException {
+        this.directory = Path.of(archiveDir);
+        this.refreshIntervalMillis = refreshIntervalMillis;
+        Files.createDirectories(directory);
+        deleteTempFiles();
+        load();
+    }
+
+    /**
+     * 기간 내 아카이브 행 조회 (최신순, 최대 limit 건)
+     */
+    public List<AuditLog> search(AuditArchiveQuery query, int limit) throws IOException {
+        refreshIfChanged();
+        List<AuditLog> result = new ArrayList<>();
+        long fromSecond = AuditSegmentFormat.epochSecond(query.getFrom());
+        long toSecond = AuditSegmentFormat.epochSecond(query.getTo());
+
+        for (AuditSegmentReader segment : segments) {
+            if (result.size() >= limit || segment.getMaxEpochSecond() < fromSecond) {
+                break;
+            }
+            if (segment.getMinEpochSecond() > toSecond) {
+                continue;
+            }
+            segment.scan(query, limit, result);
+        }
+        return result;
+    }
+
+    /**
+     * 기간이 아카이브 범위와 겹치는지 (겹치지 않으면 조회 생략)
+     */
+    public boolean overlaps(LocalDateTime from, LocalDateTime to) {
+        try {
+            refreshIfChanged();
+        } catch (IOException e) {
+            log.warn("Failed to refresh audit archive segments: {}", e.getMessage());
+        }
+        List<AuditSegmentReader> current = segments;
+        if (current.isEmpty()) {
+            return false;
+        }
+        return current.get(current.size() - 1).getMinEpochSecond() <= AuditSegmentFormat.epochSecond(to)
+                && current.get(0).getMaxEpochSecond() >= AuditSegmentFormat.epochSecond(from);
+    }
+
+    /**
+     * 월 세그먼트 임시 파일 작성기 생성 (sequence: 1부터)
+     */
+    AuditSegmentWriter createSegment(YearMonth month, int sequence, int blockRows) throws IOException {
+        return new AuditSegmentWriter(directory.resolve(fileName(month, sequence) + ".tmp"), blockRows);
+    }
+
+    /**
+     * 작성이 끝난 임시 파일로 해당 월 세그먼트 교체
+     */
+    void replaceMonth(YearMonth month, List<Path> tempFiles) throws IOException {
+        reloadLock.lock();
+        try {
+            // 1. 임시 파일을 최종 이름으로 이동
+            List<Path> finalFiles = new ArrayList<>(tempFiles.size());
+            for (int i = 0; i < tempFiles.size(); i++) {
+                Path target = directory.resolve(fileName(month, i + 1));
+                Files.move(tempFiles.get(i), target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+                finalFiles.add(target);
+            }
+
+            // 2. 이전 작성분 중 남은 파일 삭제
+            String prefix = AuditSegmentFormat.FILE_PREFIX + MONTH_FORMAT.format(month) + "-";
+            try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory, prefix + "*" + AuditSegmentFormat.FILE_SUFFIX)) {
+                for (Path file : stream) {
+                    if (!finalFiles.contains(file)) {
+                        Files.delete(file);
+                    }
+                }
+            }
+
+            // 3. 다시 읽기
+            load();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 작성 실패한 임시 파일 삭제
+     */
+    void discard(List<Path> tempFiles) {
+        for (Path file : tempFiles) {
+            try {
+                Files.deleteIfExists(file);
+            } catch (IOException e) {
+                log.warn("Failed to delete audit segment temp file {}: {}", file, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 월 세그먼트 삭제
+     * @param cutoff 이 월보다 이전 세그먼트 삭제
+     */
+    void deleteBefore(YearMonth cutoff) throws IOException {
+        reloadLock.lock();
+        try {
+            boolean deleted = false;
+            for (AuditSegmentReader segment : segments) {
+                if (monthOf(segment.getFile()).isBefore(cutoff)) {
+                    Files.deleteIfExists(segment.getFile());
+                    log.info("Audit archive segment deleted: {}", segment.getFile().getFileName());
+                    deleted = true;
+                }
+            }
+            if (deleted) {
+                load();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 다른 서버가 세그먼트를 교체 / 삭제했을 수 있으므로 디렉터리가 바뀌었거나 refresh-interval 이 지났으면 다시 적재
+     * (다른 스레드가 적재 중이면 기다리지 않고 현재 세그먼트로 조회)
+     */
+    private void refreshIfChanged() throws IOException {
+        if (isFresh() || !reloadLock.tryLock()) {
+            return;
+        }
+        try {
+            // 잠금을 기다리는 사이 다른 스레드가 적재했을 수 있으므로 다시 확인
+            if (!isFresh()) {
+                load();
+            }
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    private boolean isFresh() throws IOException {
+        return System.currentTimeMillis() - loadedAt < refreshIntervalMillis
+                && Files.getLastModifiedTime(directory).equals(loadedDirectoryTime);
+    }
+
+    /**
+     * 디렉터리의 세그먼트 적재 (바뀌지 않은 파일은 기존 reader 재사용, 읽을 수 없는 파일은 건너뜀)
+     * reloadLock 을 가진 상태에서 호출 (생성자 제외)
+     */
+    private void load() throws IOException {
+        // 목록을 읽기 전 시각을 기록 (읽는 도중 바뀌면 다음 조회에서 다시 적재)
+        FileTime directoryTime = Files.getLastModifiedTime(directory);
+        Map<Path, AuditSegmentReader> previous = new HashMap<>();
+        for (AuditSegmentReader segment : segments) {
+            previous.put(segment.getFile(), segment);
+        }
+
+        List<AuditSegmentReader> loaded = new ArrayList<>();
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                AuditSegmentFormat.FILE_PREFIX + "*" + AuditSegmentFormat.FILE_SUFFIX)) {
+            for (Path file : stream) {
+                try {
+                    AuditSegmentReader existing = previous.get(file);
+                    if (existing != null && existing.isSameFile(Files.readAttributes(file, BasicFileAttributes.class))) {
+                        loaded.add(existing);
+                    } else {
+                        loaded.add(AuditSegmentReader.open(file));
+                    }
+                } catch (IOException e) {
+                    log.error("Skipping unreadable audit segment {}: {}", file, e.getMessage());
+                }
+            }
+        }
+        loaded.sort(Comparator.comparing((AuditSegmentReader segment) -> segment.getFile().getFileName().toString())
+                .reversed());
+        segments = List.copyOf(loaded);
+        loadedDirectoryTime = directoryTime;
+        loadedAt = System.currentTimeMillis();
+        log.debug("Audit archive segments loaded: {}", loaded.size());
+    }
+
+    /**
+     * 작성 도중 중단된 임시 파일 삭제 (기동 시, 다른 서버가 작성 중일 수 있으므로 오래된 파일만)
+     */
+    private void deleteTempFiles() throws IOException {
+        Instant staleBefore = Instant.now().minus(STALE_TEMP_FILE_AGE);
+        try (DirectoryStream<Path> stream = Files.newDirectoryStream(directory,
+                AuditSegmentFormat.FILE_PREFIX + "*" + AuditSegmentFormat.TEMP_SUFFIX)) {
+            for (Path file : stream) {
+                if (Files.getLastModifiedTime(file).toInstant().isBefore(staleBefore)) {
+                    Files.deleteIfExists(file);
+                }
+            }
+        }
+    }
+
+    private static String fileName(YearMonth month, int sequence) {
+        return String.format("%s%s-%03d%s", AuditSegmentFormat.FILE_PREFIX, MONTH_FORMAT.format(month), sequence,
+                AuditSegmentFormat.FILE_SUFFIX);
+    }
+
+    private static YearMonth monthOf(Path file) {
+        String name = file.getFileName().toString();
+        int start = AuditSegmentFormat.FILE_PREFIX.length();
+        return YearMonth.parse(name.substring(start, start + 6), MONTH_FORMAT);
+    }
+}
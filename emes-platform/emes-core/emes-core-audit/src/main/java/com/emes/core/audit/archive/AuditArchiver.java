@@ -0,0 +1,199 @@
+package com.emes.core.audit.archive;
+
+import com.emes.core.domain.mapper.AuditLogMapper;
+import com.emes.core.domain.mapper.AuditPartitionMapper;
+import com.emes.core.domain.mapper.JobLockMapper;
+import com.emes.core.domain.model.AuditLog;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 아카이브
+ * archive-after-days 보다 오래된 월 파티션을 압축 세그먼트로 옮긴 뒤 파티션을 SWITCH 로 비움
+ * (request_params / response_message 등 큰 본문을 DB 에서 제거)
+ *
+ * - 월 단위 처리: 세그먼트 작성 -> 건수 확인 -> 세그먼트 교체 -> 파티션 SWITCH
+ * - 도중에 실패하면 DB 행이 그대로 남으므로 다음 실행에서 해당 월을 다시 작성 (멱등)
+ * - 대상 월은 더 이상 등록되지 않는다고 가정 (건수 확인 후 SWITCH 전 사이에 늦게 들어온 행은 함께 제거됨)
+ * - 보관 기간(retention-months)이 지난 세그먼트 삭제
+ * - 서버가 여러 대여도 TB_CORE_JOB_LOCK 잠금을 가진 한 대만 실행 (월마다 잠금 연장)
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "emes.audit.archive", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditArchiver {
+
+    private static final String LOCK_NAME = "AUDIT_ARCHIVE";
+
+    private final AuditLogMapper auditLogMapper;
+    private final AuditPartitionMapper auditPartitionMapper;
+    private final JobLockMapper jobLockMapper;
+    private final AuditArchiveStore archiveStore;
+    /** 잠금 소유자 (pid@host) */
+    private final String lockOwner = ManagementFactory.getRuntimeMXBean().getName();
+    private final int lockLeaseSeconds;
+    private final int archiveAfterDays;
+    private final int retentionMonths;
+    private final int fetchSize;
+    private final int blockRows;
+    private final long maxSegmentBytes;
+
+    public AuditArchiver(AuditLogMapper auditLogMapper,
+                         AuditPartitionMapper auditPartitionMapper,
+                         JobLockMapper jobLockMapper,
+                         AuditArchiveStore archiveStore,
+                         @Value("${emes.audit.archive.archive-after-days:90}") int archiveAfterDays,
+                         @Value("${emes.audit.archive.retention-months:60}") int retentionMonths,
+                         @Value("${emes.audit.archive.fetch-size:1000}") int fetchSize,
+                         @Value("${emes.audit.archive.block-rows:512}") int blockRows,
+                         @Value("${emes.audit.archive.max-segment-mb:512}") int maxSegmentMegabytes,
+                         @Value("${emes.audit.archive.lock-lease-minutes:60}") int lockLeaseMinutes) {
+        this.auditLogMapper = auditLogMapper;
+        this.auditPartitionMapper = auditPartitionMapper;
+        this.jobLockMapper = jobLockMapper;
+        this.archiveStore = archiveStore;
+        this.lockLeaseSeconds = lockLeaseMinutes * 60;
+        this.archiveAfterDays = archiveAfterDays;
+        this.retentionMonths = retentionMonths;
+        this.fetchSize = fetchSize;
+        this.blockRows = blockRows;
+        this.maxSegmentBytes = maxSegmentMegabytes * 1024L * 1024L;
+    }
+
+    /**
+     * 아카이브 작업 (매일)
+     */
+    @Scheduled(cron = "${emes.audit.archive.cron:0 30 0 * * *}")
+    public void archive() {
+        // 1. 다른 서버가 실행 중이면 건너뜀
+        try {
+            if (jobLockMapper.tryAcquire(LOCK_NAME, lockOwner, lockLeaseSeconds) == 0) {
+                log.debug("Audit archive is running on another server, skipping");
+                return;
+            }
+        } catch (Exception e) {
+            log.error("Failed to acquire audit archive lock", e);
+            return;
+        }
+
+        try {
+            // 2. 기준일 이전에 끝나는 월 파티션 처리 (RANGE RIGHT: 경계 i ~ 경계 i+1)
+            List<LocalDateTime> boundaries = auditPartitionMapper.selectBoundaries();
+            if (boundaries.isEmpty()) {
+                log.warn("Audit log partition function not found, skipping audit archive");
+                return;
+            }
+            LocalDateTime cutoff = LocalDate.now().minusDays(archiveAfterDays).atStartOfDay();
+            for (int i = 0; i + 1 < boundaries.size() && !boundaries.get(i + 1).isAfter(cutoff); i++) {
+                // 월마다 잠금 연장 (만료되어 다른 서버가 가져갔으면 중단)
+                if (jobLockMapper.tryAcquire(LOCK_NAME, lockOwner, lockLeaseSeconds) == 0) {
+                    log.warn("Audit archive lock was taken over by another server, stopping");
+                    return;
+                }
+                archiveMonth(boundaries.get(i), boundaries.get(i + 1));
+            }
+
+            // 3. 보관 기간이 지난 세그먼트 삭제
+            archiveStore.deleteBefore(YearMonth.now().minusMonths(retentionMonths));
+        } catch (Exception e) {
+            log.error("Audit log archive failed", e);
+        } finally {
+            try {
+                jobLockMapper.release(LOCK_NAME, lockOwner);
+            } catch (Exception e) {
+                log.warn("Failed to release audit archive lock: {}", e.getMessage());
+            }
+        }
+    }
+
+    private void archiveMonth(LocalDateTime from, LocalDateTime to) throws IOException {
+        long rowCount = auditLogMapper.countByRange(from, to);
+        if (rowCount == 0) {
+            return;
+        }
+        YearMonth month = YearMonth.from(from);
+        long startedAt = System.currentTimeMillis();
+
+        // 1. 세그먼트 작성 (임시 파일)
+        List<Path> files = new ArrayList<>();
+        long archived;
+        try {
+            archived = writeSegments(month, from, to, files);
+        } catch (IOException | RuntimeException e) {
+            archiveStore.discard(files);
+            throw e;
+        }
+
+        // 2. 작성 중 늦게 들어온 행이 있으면 다음 실행에서 다시 작성
+        long current = auditLogMapper.countByRange(from, to);
+        if (archived == 0) {
+            return;
+        }
+        if (current != archived) {
+            log.warn("Audit rows for {} changed while archiving ({} archived, {} now), will retry", month, archived, current);
+            archiveStore.discard(files);
+            return;
+        }
+
+        // 3. 세그먼트 교체 후 파티션 비움
+        archiveStore.replaceMonth(month, files);
+        auditPartitionMapper.switchOutPartition(auditPartitionMapper.selectPartitionNumber(from));
+
+        log.info("Audit logs archived: {} ({} rows, {} segments, {} ms)",
+                month, archived, files.size(), System.currentTimeMillis() - startedAt);
+    }
+
+    /**
+     * 기간 내 행을 Keyset 으로 나누어 읽어 세그먼트에 기록 (max-segment-mb 초과 시 다음 파일)
+     * @return 기록한 행 수
+     */
+    private long writeSegments(YearMonth month, LocalDateTime from, LocalDateTime to, List<Path> files) throws IOException {
+        long archived = 0;
+        AuditSegmentWriter writer = null;
+        try {
+            LocalDateTime afterLogDate = null;
+            Long afterLogId = null;
+            while (true) {
+                List<AuditLog> rows = auditLogMapper.selectForArchive(from, to, afterLogDate, afterLogId, fetchSize);
+                for (AuditLog row : rows) {
+                    if (writer == null || writer.size() >= maxSegmentBytes) {
+                        if (writer != null) {
+                            writer.seal();
+                            writer.close();
+                        }
+                        writer = archiveStore.createSegment(month, files.size() + 1, blockRows);
+                        files.add(writer.file());
+                    }
+                    writer.append(row);
+                    archived++;
+                }
+                if (rows.size() < fetchSize) {
+                    break;
+                }
+                AuditLog last = rows.get(rows.size() - 1);
+                afterLogDate = last.getLogDate();
+                afterLogId = last.getLogId();
+            }
+            if (writer != null) {
+                writer.seal();
+            }
+            return archived;
+        } finally {
+            if (writer != null) {
+                writer.close();
+            }
+        }
+    }
+}
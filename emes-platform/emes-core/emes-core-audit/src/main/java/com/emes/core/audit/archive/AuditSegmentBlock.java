@@ -0,0 +1,25 @@
+package com.emes.core.audit.archive;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 세그먼트 블록 색인 항목
+ * 블록을 풀지 않고 시간 범위 / 액션 / 사용자 조건으로 건너뛰기 위해 사용
+ */
+@Getter
+@AllArgsConstructor
+class AuditSegmentBlock {
+
+    private final long offset;
+    private final int compressedLength;
+    private final int rawLength;
+    private final int rowCount;
+    /** 블록 내 최소 / 최대 log_date (초) */
+    private final long minEpochSecond;
+    private final long maxEpochSecond;
+    /** 액션 사전 비트마스크 */
+    private final long actionMask;
+    /** user_id / username 블룸 필터 */
+    private final long[] userBloom;
+}
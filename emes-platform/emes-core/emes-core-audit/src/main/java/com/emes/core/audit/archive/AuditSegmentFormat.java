@@ -0,0 +1,209 @@
+package com.emes.core.audit.archive;
+
+import com.emes.core.domain.model.AuditLog;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * 감사 로그 아카이브 세그먼트 파일 형식
+ *
+ * <pre>
+ * [헤더]   MAGIC(8) VERSION(4)
+ * [블록]   Deflate 압축된 행 묶음 (log_date, log_id 오름차순) ...
+ * [색인]   액션 사전(개수 + 문자열) / 블록 목록(위치, 길이, 행 수, 시간 범위, 액션 비트마스크, 사용자 블룸 필터)
+ * [트레일러] 색인 위치(8) FOOTER_MAGIC(4)
+ * </pre>
+ *
+ * 문자열은 UTF-8 길이(4, null 이면 -1) + 바이트, 일시는 초(8) + 나노초(4)
+ */
+final class AuditSegmentFormat {
+
+    /** "EMESAUD1" */
+    static final long MAGIC = 0x454D455341554431L;
+    static final int VERSION = 1;
+    /** "AUDX" */
+    static final int FOOTER_MAGIC = 0x41554458;
+    static final int HEADER_BYTES = 12;
+    static final int TRAILER_BYTES = 12;
+
+    /** 세그먼트별 액션 사전 최대 크기 (초과분은 OTHER_ACTION_BIT 하나로 묶음) */
+    static final int MAX_ACTIONS = 63;
+    static final long OTHER_ACTION_BIT = 1L << 63;
+
+    /** 블록별 사용자 블룸 필터 크기 (256 bit) */
+    static final int USER_BLOOM_WORDS = 4;
+    private static final int USER_BLOOM_MASK = USER_BLOOM_WORDS * Long.SIZE - 1;
+    private static final long USERNAME_SEED = 0x9E3779B97F4A7C15L;
+
+    static final String FILE_PREFIX = "audit-";
+    static final String FILE_SUFFIX = ".seg";
+    static final String TEMP_SUFFIX = ".seg.tmp";
+
+    private AuditSegmentFormat() {
+    }
+
+    /**
+     * 행 기록 (request_params / response_message 포함 전체 컬럼)
+     */
+    static void writeRow(DataOutputStream out, AuditLog auditLog) throws IOException {
+        out.writeLong(auditLog.getLogId());
+        writeDateTime(out, auditLog.getLogDate());
+        writeNullableLong(out, auditLog.getUserId());
+        writeString(out, auditLog.getUsername());
+        writeString(out, auditLog.getIpAddress());
+        writeString(out, auditLog.getUserAgent());
+        writeString(out, auditLog.getActionType());
+        writeString(out, auditLog.getResourceType());
+        writeString(out, auditLog.getResourceId());
+        writeString(out, auditLog.getMethod());
+        writeString(out, auditLog.getEndpoint());
+        writeString(out, auditLog.getRequestParams());
+        writeNullableInt(out, auditLog.getResponseStatus());
+        writeString(out, auditLog.getResponseMessage());
+        writeNullableInt(out, auditLog.getExecutionTimeMs());
+        out.writeByte(auditLog.getIsSuccess() == null ? -1 : auditLog.getIsSuccess() ? 1 : 0);
+        writeString(out, auditLog.getErrorMessage());
+        writeString(out, auditLog.getSessionId());
+        writeDateTime(out, auditLog.getCreatedAt());
+    }
+
+    /**
+     * 행 읽기 (writeRow 순서와 동일)
+     */
+    static AuditLog readRow(ByteBuffer in) {
+        AuditLog auditLog = new AuditLog();
+        auditLog.setLogId(in.getLong());
+        auditLog.setLogDate(readDateTime(in));
+        auditLog.setUserId(readNullableLong(in));
+        auditLog.setUsername(readString(in));
+        auditLog.setIpAddress(readString(in));
+        auditLog.setUserAgent(readString(in));
+        auditLog.setActionType(readString(in));
+        auditLog.setResourceType(readString(in));
+        auditLog.setResourceId(readString(in));
+        auditLog.setMethod(readString(in));
+        auditLog.setEndpoint(readString(in));
+        auditLog.setRequestParams(readString(in));
+        auditLog.setResponseStatus(readNullableInt(in));
+        auditLog.setResponseMessage(readString(in));
+        auditLog.setExecutionTimeMs(readNullableInt(in));
+        byte success = in.get();
+        auditLog.setIsSuccess(success < 0 ? null : success == 1);
+        auditLog.setErrorMessage(readString(in));
+        auditLog.setSessionId(readString(in));
+        auditLog.setCreatedAt(readDateTime(in));
+        return auditLog;
+    }
+
+    /**
+     * 색인용 초 단위 시각 (LocalDateTime 을 UTC 기준으로 환산, 비교 용도만)
+     */
+    static long epochSecond(LocalDateTime dateTime) {
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+
+    static void writeString(DataOutputStream out, String value) throws IOException {
+        if (value == null) {
+            out.writeInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        out.writeInt(bytes.length);
+        out.write(bytes);
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = in.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        in.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 사용자 블룸 필터에 user_id / username 추가
+     */
+    static void addUser(long[] bloom, Long userId, String username) {
+        if (userId != null) {
+            setBits(bloom, mix(userId));
+        }
+        if (username != null) {
+            setBits(bloom, mix(username.hashCode() ^ USERNAME_SEED));
+        }
+    }
+
+    static boolean mightContainUserId(long[] bloom, long userId) {
+        return hasBits(bloom, mix(userId));
+    }
+
+    static boolean mightContainUsername(long[] bloom, String username) {
+        return hasBits(bloom, mix(username.hashCode() ^ USERNAME_SEED));
+    }
+
+    private static void setBits(long[] bloom, long hash) {
+        int first = (int) (hash & USER_BLOOM_MASK);
+        int second = (int) ((hash >>> 32) & USER_BLOOM_MASK);
+        bloom[first >>> 6] |= 1L << first;
+        bloom[second >>> 6] |= 1L << second;
+    }
+
+    private static boolean hasBits(long[] bloom, long hash) {
+        int first = (int) (hash & USER_BLOOM_MASK);
+        int second = (int) ((hash >>> 32) & USER_BLOOM_MASK);
+        return (bloom[first >>> 6] & (1L << first)) != 0
+                && (bloom[second >>> 6] & (1L << second)) != 0;
+    }
+
+    /** SplitMix64 finalizer */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    private static void writeDateTime(DataOutputStream out, LocalDateTime value) throws IOException {
+        if (value == null) {
+            out.writeLong(Long.MIN_VALUE);
+            out.writeInt(0);
+            return;
+        }
+        out.writeLong(value.toEpochSecond(ZoneOffset.UTC));
+        out.writeInt(value.getNano());
+    }
+
+    private static LocalDateTime readDateTime(ByteBuffer in) {
+        long seconds = in.getLong();
+        int nanos = in.getInt();
+        return seconds == Long.MIN_VALUE ? null : LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    private static void writeNullableLong(DataOutputStream out, Long value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeLong(value);
+        }
+    }
+
+    private static Long readNullableLong(ByteBuffer in) {
+        return in.get() != 0 ? in.getLong() : null;
+    }
+
+    private static void writeNullableInt(DataOutputStream out, Integer value) throws IOException {
+        out.writeBoolean(value != null);
+        if (value != null) {
+            out.writeInt(value);
+        }
+    }
+
+    private static Integer readNullableInt(ByteBuffer in) {
+        return in.get() != 0 ? in.getInt() : null;
+    }
+}
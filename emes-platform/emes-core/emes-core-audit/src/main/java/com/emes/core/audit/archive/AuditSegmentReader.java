@@ -0,0 +1,214 @@
+package com.emes.core.audit.archive;
+
+import com.emes.core.domain.model.AuditLog;
+import lombok.Getter;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+
+/**
+ * 감사 로그 세그먼트 읽기 (memory-mapped)
+ * 파일 전체를 읽기 전용으로 매핑하고 색인만 힙에 올림, 블록은 조건에 맞을 때만 풀어서 읽음
+ * 매핑은 GC 시 해제되며 파일 삭제 후에도 진행 중인 조회는 안전함
+ */
+class AuditSegmentReader {
+
+    @Getter
+    private final Path file;
+    private final MappedByteBuffer buffer;
+    private final List<String> actions;
+    private final List<AuditSegmentBlock> blocks;
+    @Getter
+    private final long minEpochSecond;
+    @Getter
+    private final long maxEpochSecond;
+    /** 연 시점의 파일 속성 (같은 이름으로 교체되었는지 확인용) */
+    private final BasicFileAttributes attributes;
+
+    private AuditSegmentReader(Path file, BasicFileAttributes attributes, MappedByteBuffer buffer,
+                               List<String> actions, List<AuditSegmentBlock> blocks) {
+        this.file = file;
+        this.attributes = attributes;
+        this.buffer = buffer;
+        this.actions = actions;
+        this.blocks = blocks;
+        this.minEpochSecond = blocks.isEmpty() ? Long.MAX_VALUE : blocks.get(0).getMinEpochSecond();
+        this.maxEpochSecond = blocks.isEmpty() ? Long.MIN_VALUE : blocks.get(blocks.size() - 1).getMaxEpochSecond();
+    }
+
+    /**
+     * 세그먼트 열기 (헤더 / 트레일러 확인 후 색인 적재)
+     */
+    static AuditSegmentReader open(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < AuditSegmentFormat.HEADER_BYTES + AuditSegmentFormat.TRAILER_BYTES || size > Integer.MAX_VALUE) {
+                throw new IOException("Invalid audit segment size: " + file);
+            }
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, size);
+        }
+
+        ByteBuffer view = buffer.duplicate();
+        if (view.getLong(0) != AuditSegmentFormat.MAGIC || view.getInt(8) != AuditSegmentFormat.VERSION
+                || view.getInt(view.limit() - 4) != AuditSegmentFormat.FOOTER_MAGIC) {
+            throw new IOException("Not an audit segment: " + file);
+        }
+
+        view.position((int) view.getLong(view.limit() - AuditSegmentFormat.TRAILER_BYTES));
+        int actionCount = view.getInt();
+        List<String> actions = new ArrayList<>(actionCount);
+        for (int i = 0; i < actionCount; i++) {
+            actions.add(AuditSegmentFormat.readString(view));
+        }
+        int blockCount = view.getInt();
+        List<AuditSegmentBlock> blocks = new ArrayList<>(blockCount);
+        for (int i = 0; i < blockCount; i++) {
+            long offset = view.getLong();
+            int compressedLength = view.getInt();
+            int rawLength = view.getInt();
+            int rowCount = view.getInt();
+            long minEpochSecond = view.getLong();
+            long maxEpochSecond = view.getLong();
+            long actionMask = view.getLong();
+            long[] userBloom = new long[AuditSegmentFormat.USER_BLOOM_WORDS];
+            for (int w = 0; w < userBloom.length; w++) {
+                userBloom[w] = view.getLong();
+            }
+            blocks.add(new AuditSegmentBlock(offset, compressedLength, rawLength, rowCount,
+                    minEpochSecond, maxEpochSecond, actionMask, userBloom));
+        }
+        return new AuditSegmentReader(file, attributes, buffer, List.copyOf(actions), List.copyOf(blocks));
+    }
+
+    /**
+     * 연 이후 파일이 바뀌지 않았는지 (크기 / 수정 시각 / 파일 키 비교)
+     */
+    boolean isSameFile(BasicFileAttributes current) {
+        return attributes.size() == current.size()
+                && attributes.lastModifiedTime().equals(current.lastModifiedTime())
+                && Objects.equals(attributes.fileKey(), current.fileKey());
+    }
+
+    /**
+     * 조건에 맞는 행을 최신순으로 out 에 추가 (최대 limit 건까지 채움)
+     * 블록은 시간 오름차순이므로 뒤에서부터 읽고, from 이전 블록을 만나면 종료
+     */
+    void scan(AuditArchiveQuery query, int limit, List<AuditLog> out) throws IOException {
+        long fromSecond = AuditSegmentFormat.epochSecond(query.getFrom());
+        LocalDateTime upper = upperBound(query);
+        long upperSecond = AuditSegmentFormat.epochSecond(upper);
+        long actionBit = actionBit(query.getActionType());
+        if (actionBit == 0L) {
+            return;
+        }
+
+        Inflater inflater = new Inflater();
+        try {
+            for (int i = blocks.size() - 1; i >= 0 && out.size() < limit; i--) {
+                AuditSegmentBlock block = blocks.get(i);
+                if (block.getMaxEpochSecond() < fromSecond) {
+                    return;
+                }
+                if (block.getMinEpochSecond() > upperSecond
+                        || (block.getActionMask() & actionBit) == 0
+                        || !mightContainUser(block, query)) {
+                    continue;
+                }
+
+                List<AuditLog> rows = inflate(block, inflater);
+                for (int r = rows.size() - 1; r >= 0 && out.size() < limit; r--) {
+                    AuditLog row = rows.get(r);
+                    if (matches(row, query)) {
+                        out.add(row);
+                    }
+                }
+            }
+        } finally {
+            inflater.end();
+        }
+    }
+
+    /**
+     * 액션 조건 비트 (조건 없으면 전체, 사전에 없는 값이면 OTHER 블록만, 사전이 가득 차지 않았는데 없으면 0)
+     */
+    private long actionBit(String actionType) {
+        if (!StringUtils.hasText(actionType)) {
+            return -1L;
+        }
+        int index = actions.indexOf(actionType);
+        if (index >= 0) {
+            return 1L << index;
+        }
+        return actions.size() >= AuditSegmentFormat.MAX_ACTIONS ? AuditSegmentFormat.OTHER_ACTION_BIT : 0L;
+    }
+
+    private boolean mightContainUser(AuditSegmentBlock block, AuditArchiveQuery query) {
+        if (query.getUserId() != null
+                && !AuditSegmentFormat.mightContainUserId(block.getUserBloom(), query.getUserId())) {
+            return false;
+        }
+        return !StringUtils.hasText(query.getUsername())
+                || AuditSegmentFormat.mightContainUsername(block.getUserBloom(), query.getUsername());
+    }
+
+    private List<AuditLog> inflate(AuditSegmentBlock block, Inflater inflater) throws IOException {
+        byte[] raw = new byte[block.getRawLength()];
+        inflater.reset();
+        inflater.setInput(buffer.slice((int) block.getOffset(), block.getCompressedLength()));
+        try {
+            int length = 0;
+            while (length < raw.length && !inflater.finished()) {
+                length += inflater.inflate(raw, length, raw.length - length);
+            }
+        } catch (DataFormatException e) {
+            throw new IOException("Corrupted audit segment block: " + file, e);
+        }
+
+        ByteBuffer in = ByteBuffer.wrap(raw);
+        List<AuditLog> rows = new ArrayList<>(block.getRowCount());
+        for (int i = 0; i < block.getRowCount(); i++) {
+            rows.add(AuditSegmentFormat.readRow(in));
+        }
+        return rows;
+    }
+
+    /**
+     * 행 단위 조건 확인 (DB 조회 조건과 동일)
+     */
+    private static boolean matches(AuditLog row, AuditArchiveQuery query) {
+        LocalDateTime logDate = row.getLogDate();
+        if (logDate.isBefore(query.getFrom()) || !logDate.isBefore(query.getTo())) {
+            return false;
+        }
+        if (query.getCursorLogDate() != null) {
+            int compare = logDate.compareTo(query.getCursorLogDate());
+            if (compare > 0 || (compare == 0 && row.getLogId() >= query.getCursorLogId())) {
+                return false;
+            }
+        }
+        return (query.getUserId() == null || query.getUserId().equals(row.getUserId()))
+                && (!StringUtils.hasText(query.getUsername()) || query.getUsername().equals(row.getUsername()))
+                && (!StringUtils.hasText(query.getActionType()) || query.getActionType().equals(row.getActionType()))
+                && (!StringUtils.hasText(query.getResourceType()) || query.getResourceType().equals(row.getResourceType()));
+    }
+
+    private static LocalDateTime upperBound(AuditArchiveQuery query) {
+        LocalDateTime cursor = query.getCursorLogDate();
+        return cursor != null && cursor.isBefore(query.getTo()) ? cursor : query.getTo();
+    }
+}
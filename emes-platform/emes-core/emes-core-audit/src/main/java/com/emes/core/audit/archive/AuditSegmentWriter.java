@@ -0,0 +1,186 @@
+package com.emes.core.audit.archive;
+
+import com.emes.core.domain.model.AuditLog;
+
+import java.io.ByteArrayOutputStream;
+import java.io.Closeable;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.Deflater;
+
+/**
+ * 감사 로그 세그먼트 작성
+ * 행을 (log_date, log_id) 오름차순으로 받아 blockRows 건씩 Deflate 압축하여 순차 기록하고,
+ * seal 시 색인을 붙여 fsync (작성 중에는 임시 파일, 완료된 세그먼트는 수정하지 않음)
+ */
+class AuditSegmentWriter implements Closeable {
+
+    private final Path file;
+    private final FileChannel channel;
+    private final int blockRows;
+    private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+    private final ByteArrayOutputStream blockBytes = new ByteArrayOutputStream(64 * 1024);
+    private final DataOutputStream blockOut = new DataOutputStream(blockBytes);
+    private byte[] compressBuffer = new byte[64 * 1024];
+
+    private final Map<String, Integer> actionIndexes = new HashMap<>();
+    private final List<String> actions = new ArrayList<>();
+    private final List<AuditSegmentBlock> blocks = new ArrayList<>();
+
+    private int blockRowCount;
+    private long blockMinEpochSecond;
+    private long blockMaxEpochSecond;
+    private long blockActionMask;
+    private long[] blockUserBloom = new long[AuditSegmentFormat.USER_BLOOM_WORDS];
+
+    private long position;
+    private long rowCount;
+
+    AuditSegmentWriter(Path file, int blockRows) throws IOException {
+        this.file = file;
+        this.blockRows = blockRows;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.WRITE);
+
+        ByteBuffer header = ByteBuffer.allocate(AuditSegmentFormat.HEADER_BYTES);
+        header.putLong(AuditSegmentFormat.MAGIC).putInt(AuditSegmentFormat.VERSION).flip();
+        writeFully(header);
+    }
+
+    /**
+     * 행 추가 (log_date, log_id 오름차순)
+     */
+    void append(AuditLog auditLog) throws IOException {
+        long epochSecond = AuditSegmentFormat.epochSecond(auditLog.getLogDate());
+        if (blockRowCount == 0) {
+            blockMinEpochSecond = epochSecond;
+        }
+        blockMaxEpochSecond = epochSecond;
+        blockActionMask |= actionBit(auditLog.getActionType());
+        AuditSegmentFormat.addUser(blockUserBloom, auditLog.getUserId(), auditLog.getUsername());
+
+        AuditSegmentFormat.writeRow(blockOut, auditLog);
+        blockRowCount++;
+        rowCount++;
+        if (blockRowCount >= blockRows) {
+            flushBlock();
+        }
+    }
+
+    /**
+     * 현재까지 기록한 크기 (압축 후, 색인 제외)
+     */
+    long size() {
+        return position + blockBytes.size();
+    }
+
+    long rowCount() {
+        return rowCount;
+    }
+
+    Path file() {
+        return file;
+    }
+
+    /**
+     * 남은 블록과 색인을 기록하고 디스크에 반영
+     */
+    void seal() throws IOException {
+        flushBlock();
+
+        ByteArrayOutputStream footerBytes = new ByteArrayOutputStream();
+        DataOutputStream footer = new DataOutputStream(footerBytes);
+        footer.writeInt(actions.size());
+        for (String action : actions) {
+            AuditSegmentFormat.writeString(footer, action);
+        }
+        footer.writeInt(blocks.size());
+        for (AuditSegmentBlock block : blocks) {
+            footer.writeLong(block.getOffset());
+            footer.writeInt(block.getCompressedLength());
+            footer.writeInt(block.getRawLength());
+            footer.writeInt(block.getRowCount());
+            footer.writeLong(block.getMinEpochSecond());
+            footer.writeLong(block.getMaxEpochSecond());
+            footer.writeLong(block.getActionMask());
+            for (long word : block.getUserBloom()) {
+                footer.writeLong(word);
+            }
+        }
+        footer.writeLong(position);
+        footer.writeInt(AuditSegmentFormat.FOOTER_MAGIC);
+        footer.flush();
+
+        writeFully(ByteBuffer.wrap(footerBytes.toByteArray()));
+        channel.force(true);
+    }
+
+    @Override
+    public void close() throws IOException {
+        deflater.end();
+        channel.close();
+    }
+
+    private long actionBit(String actionType) {
+        if (actionType == null) {
+            return AuditSegmentFormat.OTHER_ACTION_BIT;
+        }
+        Integer index = actionIndexes.get(actionType);
+        if (index == null) {
+            if (actions.size() >= AuditSegmentFormat.MAX_ACTIONS) {
+                return AuditSegmentFormat.OTHER_ACTION_BIT;
+            }
+            index = actions.size();
+            actions.add(actionType);
+            actionIndexes.put(actionType, index);
+        }
+        return 1L << index;
+    }
+
+    private void flushBlock() throws IOException {
+        if (blockRowCount == 0) {
+            return;
+        }
+        blockOut.flush();
+        byte[] raw = blockBytes.toByteArray();
+
+        // 1. 압축
+        deflater.reset();
+        deflater.setInput(raw);
+        deflater.finish();
+        int compressedLength = 0;
+        while (!deflater.finished()) {
+            if (compressedLength == compressBuffer.length) {
+                compressBuffer = Arrays.copyOf(compressBuffer, compressBuffer.length * 2);
+            }
+            compressedLength += deflater.deflate(compressBuffer, compressedLength, compressBuffer.length - compressedLength);
+        }
+
+        // 2. 기록 및 색인 항목 추가
+        blocks.add(new AuditSegmentBlock(position, compressedLength, raw.length, blockRowCount,
+                blockMinEpochSecond, blockMaxEpochSecond, blockActionMask, blockUserBloom));
+        writeFully(ByteBuffer.wrap(compressBuffer, 0, compressedLength));
+
+        blockBytes.reset();
+        blockRowCount = 0;
+        blockActionMask = 0L;
+        blockUserBloom = new long[AuditSegmentFormat.USER_BLOOM_WORDS];
+    }
+
+    private void writeFully(ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            position += channel.write(buffer);
+        }
+    }
+}
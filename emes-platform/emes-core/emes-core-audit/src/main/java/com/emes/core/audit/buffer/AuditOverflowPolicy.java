@@ -0,0 +1,16 @@
+package com.emes.core.audit.buffer;
+
+/**
+ * 감사 로그 버퍼가 가득 찼을 때의 처리 방식
+ */
+public enum AuditOverflowPolicy {
+
+    /** 빈 슬롯이 생길 때까지 요청 스레드가 대기 (block-timeout-ms 초과 시 버림) */
+    BLOCK,
+
+    /** 즉시 버리고 emes.audit.dropped 카운터 증가 */
+    DROP,
+
+    /** 로컬 파일에 기록한 뒤 버퍼가 비면 다시 적재 */
+    SPILL
+}
@@ -0,0 +1,108 @@
+package com.emes.core.audit.buffer;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 고정 크기 lock-free 링 버퍼 (다중 생산자 / 단일 소비자)
+ * 슬롯별 시퀀스로 생산자 간 위치를 CAS 로 확보하고, 소비자는 잠금 없이 순서대로 꺼냄
+ *
+ * - offer: 요청 스레드에서 호출, 가득 차면 즉시 false
+ * - poll / drainTo: 단일 writer 스레드에서만 호출
+ */
+public class AuditRingBuffer<E> {
+
+    private final int capacity;
+    private final int mask;
+    private final Object[] elements;
+    /** 슬롯 시퀀스 (= 위치 이면 기록 가능, = 위치 + 1 이면 읽기 가능) */
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    /** 소비 위치 (소비자만 갱신, size 계산용으로 공개) */
+    private final AtomicLong head = new AtomicLong();
+
+    public AuditRingBuffer(int requestedCapacity) {
+        this.capacity = Integer.highestOneBit(Math.max(2, requestedCapacity - 1)) << 1;
+        this.mask = capacity - 1;
+        this.elements = new Object[capacity];
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    /**
+     * 추가 (가득 차면 false)
+     */
+    public boolean offer(E element) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long diff = sequences.get(index) - position;
+            if (diff == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    elements[index] = element;
+                    // 시퀀스 기록이 원소 기록을 소비자에게 공개
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (diff < 0) {
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * 꺼내기 (비어 있거나 다음 슬롯이 아직 기록 중이면 null)
+     */
+    @SuppressWarnings("unchecked")
+    public E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E element = (E) elements[index];
+        elements[index] = null;
+        // 다음 바퀴의 생산자가 사용할 수 있도록 슬롯 반환
+        sequences.set(index, position + capacity);
+        head.lazySet(position + 1);
+        return element;
+    }
+
+    /**
+     * 최대 maxElements 개를 target 에 옮김
+     * @return 옮긴 개수
+     */
+    public int drainTo(List<E> target, int maxElements) {
+        int drained = 0;
+        while (drained < maxElements) {
+            E element = poll();
+            if (element == null) {
+                break;
+            }
+            target.add(element);
+            drained++;
+        }
+        return drained;
+    }
+
+    /**
+     * 대기 중인 원소 수 (근사값)
+     */
+    public int size() {
+        return (int) Math.max(0L, Math.min(capacity, tail.get() - head.get()));
+    }
+
+    public boolean isEmpty() {
+        return size() == 0;
+    }
+
+    public int capacity() {
+        return capacity;
+    }
+}
@@ -0,0 +1,187 @@
+package com.emes.core.audit.buffer;
+
+import com.emes.core.domain.model.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.ToIntFunction;
+
+/**
+ * 감사 로그 임시 파일 (SPILL 정책)
+ * 버퍼가 가득 찼을 때 JSON Lines 로 추가 기록하고, 버퍼가 비면 writer 가 다시 읽어 DB 에 등록
+ * 재적재 파일에서 처리한 줄 위치를 기록하여, 등록 실패 / 종료 후에는 그 다음 줄부터 이어서 처리
+ * (배치 등록 도중 종료된 경우만 해당 배치 일부 중복 등록 가능)
+ */
+@Slf4j
+public class AuditSpillFile {
+
+    private final Path spillFile;
+    private final Path replayFile;
+    /** 재적재 파일에서 처리가 끝난 줄 수 */
+    private final Path offsetFile;
+    private final ObjectMapper objectMapper;
+
+    /** 요청 스레드(SPILL)와 writer 스레드 간 파일 접근 직렬화 */
+    private final ReentrantLock lock = new ReentrantLock();
+    private BufferedWriter writer;
+    private volatile boolean hasData;
+
+    public AuditSpillFile(Path directory, ObjectMapper objectMapper) throws IOException {
+        Files.createDirectories(directory);
+        this.spillFile = directory.resolve("audit-spill.jsonl");
+        this.replayFile = directory.resolve("audit-spill.replay.jsonl");
+        this.offsetFile = directory.resolve("audit-spill.replay.offset");
+        this.objectMapper = objectMapper;
+        this.hasData = Files.exists(spillFile) || Files.exists(replayFile);
+    }
+
+    /**
+     * 기록
+     */
+    public void append(AuditLog auditLog) throws IOException {
+        lock.lock();
+        try {
+            if (writer == null) {
+                writer = Files.newBufferedWriter(spillFile, StandardCharsets.UTF_8,
+                        StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            }
+            writer.write(objectMapper.writeValueAsString(auditLog));
+            writer.newLine();
+            writer.flush();
+            hasData = true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean hasData() {
+        return hasData;
+    }
+
+    /**
+     * 기록된 로그를 batchSize 건씩 읽어 전달 (전달이 끝난 파일은 삭제)
+     * consumer 는 처리한 앞쪽 행 수를 반환하며, 일부만 처리하면 그 위치를 기록하고 중단
+     * @return 파일 끝까지 처리했으면 true
+     */
+    public boolean replay(int batchSize, ToIntFunction<List<AuditLog>> consumer) throws IOException {
+        // 1. 이전 재적재가 끝나지 않았으면 그 파일부터, 아니면 현재 파일을 재적재 파일로 교체
+        if (!Files.exists(replayFile)) {
+            lock.lock();
+            try {
+                if (writer != null) {
+                    writer.close();
+                    writer = null;
+                }
+                if (!Files.exists(spillFile)) {
+                    hasData = false;
+                    return true;
+                }
+                Files.deleteIfExists(offsetFile);
+                Files.move(spillFile, replayFile, StandardCopyOption.ATOMIC_MOVE);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        // 2. 처리가 끝난 줄은 건너뛰고 나누어 전달 (일부만 처리되면 위치 기록 후 중단)
+        long processedLines = readOffset();
+        try (BufferedReader reader = Files.newBufferedReader(replayFile, StandardCharsets.UTF_8)) {
+            List<AuditLog> batch = new ArrayList<>(batchSize);
+            List<Long> batchLines = new ArrayList<>(batchSize);
+            long lineNumber = 0;
+            String line;
+            while ((line = reader.readLine()) != null) {
+                long current = lineNumber++;
+                if (current < processedLines || line.isBlank()) {
+                    continue;
+                }
+                try {
+                    batch.add(objectMapper.readValue(line, AuditLog.class));
+                    batchLines.add(current);
+                } catch (IOException e) {
+                    log.warn("Skipping unreadable audit spill line: {}", e.getMessage());
+                    continue;
+                }
+                if (batch.size() == batchSize) {
+                    if (!deliver(consumer, batch, batchLines, lineNumber)) {
+                        return false;
+                    }
+                    batch = new ArrayList<>(batchSize);
+                    batchLines = new ArrayList<>(batchSize);
+                }
+            }
+            if (!batch.isEmpty() && !deliver(consumer, batch, batchLines, lineNumber)) {
+                return false;
+            }
+        }
+        // 위치 파일을 먼저 지움 (반대 순서로 중단되면 다음 재적재 파일에 이전 위치가 적용되어 유실)
+        Files.deleteIfExists(offsetFile);
+        Files.delete(replayFile);
+
+        lock.lock();
+        try {
+            hasData = Files.exists(spillFile);
+        } finally {
+            lock.unlock();
+        }
+        return true;
+    }
+
+    /**
+     * 배치 전달 후 처리한 위치 기록
+     * @param nextLine 배치를 모두 처리했을 때의 다음 줄 번호
+     * @return 배치를 모두 처리했으면 true
+     */
+    private boolean deliver(ToIntFunction<List<AuditLog>> consumer, List<AuditLog> batch, List<Long> batchLines,
+                            long nextLine) throws IOException {
+        int handled = consumer.applyAsInt(batch);
+        if (handled >= batch.size()) {
+            writeOffset(nextLine);
+            return true;
+        }
+        writeOffset(batchLines.get(handled));
+        return false;
+    }
+
+    private long readOffset() throws IOException {
+        if (!Files.exists(offsetFile)) {
+            return 0L;
+        }
+        String value = Files.readString(offsetFile, StandardCharsets.UTF_8).trim();
+        try {
+            return Long.parseLong(value);
+        } catch (NumberFormatException e) {
+            log.warn("Ignoring invalid audit spill replay offset: {}", value);
+            return 0L;
+        }
+    }
+
+    private void writeOffset(long processedLines) throws IOException {
+        Path temp = offsetFile.resolveSibling(offsetFile.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(processedLines), StandardCharsets.UTF_8);
+        Files.move(temp, offsetFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (writer != null) {
+                writer.close();
+                writer = null;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
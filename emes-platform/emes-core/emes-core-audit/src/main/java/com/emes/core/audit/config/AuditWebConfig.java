@@ -0,0 +1,27 @@
+package com.emes.core.audit.config;
+
+import com.emes.core.audit.interceptor.AuditInterceptor;
+import com.emes.core.audit.service.AuditLogWriter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * 감사 로그 Interceptor 등록
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "emes.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class AuditWebConfig implements WebMvcConfigurer {
+
+    private final AuditLogWriter auditLogWriter;
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(new AuditInterceptor(auditLogWriter))
+                .addPathPatterns("/api/**")
+                .excludePathPatterns("/api/v1/auth/health");
+    }
+}
@@ -0,0 +1,63 @@
+package com.emes.core.audit.controller;
+
+import com.emes.core.audit.dto.AuditLogResponse;
+import com.emes.core.audit.dto.AuditLogSearchRequest;
+import com.emes.core.audit.service.AuditLogService;
+import com.emes.core.common.dto.ApiResponse;
+import com.emes.core.common.dto.PageResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 API Controller
+ */
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/audit-logs")
+@RequiredArgsConstructor
+public class AuditLogController {
+
+    private final AuditLogService auditLogService;
+
+    /**
+     * 감사 로그 목록 조회 (기간 + Keyset 페이징, 최신순)
+     * 다음 페이지는 이전 응답의 nextCursor 전달
+     */
+    @GetMapping
+    @PreAuthorize("@permission.has('AUDIT_READ')")
+    public ResponseEntity<ApiResponse<PageResponse<AuditLogResponse>>> searchAuditLogs(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) LocalDateTime to,
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) String username,
+            @RequestParam(required = false) String actionType,
+            @RequestParam(required = false) String resourceType,
+            @RequestParam(defaultValue = "50") Integer size,
+            @RequestParam(required = false) String cursor) {
+
+        log.info("Search audit logs request - from: {}, to: {}, cursor: {}", from, to, cursor != null);
+
+        AuditLogSearchRequest request = AuditLogSearchRequest.builder()
+                .from(from)
+                .to(to)
+                .userId(userId)
+                .username(username)
+                .actionType(actionType)
+                .resourceType(resourceType)
+                .size(size)
+                .cursor(cursor)
+                .build();
+
+        PageResponse<AuditLogResponse> response = auditLogService.searchAuditLogs(request);
+        return ResponseEntity.ok(ApiResponse.success(response));
+    }
+}
@@ -0,0 +1,44 @@
+package com.emes.core.audit.dto;
+
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import com.emes.core.common.util.CursorCodec;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+/**
+ * 감사 로그 커서 (Keyset 페이징)
+ * 마지막 행의 (log_date, log_id) 를 담아 다음 페이지 조회 시작점으로 사용
+ */
+@Getter
+@AllArgsConstructor
+public class AuditLogCursor {
+
+    private static final int FIELD_COUNT = 2;
+
+    private final LocalDateTime logDate;
+    private final Long logId;
+
+    /**
+     * 불투명 토큰으로 인코딩
+     */
+    public String encode() {
+        return CursorCodec.encode(List.of(logDate.toString(), String.valueOf(logId)));
+    }
+
+    /**
+     * 토큰 디코딩
+     */
+    public static AuditLogCursor decode(String token) {
+        List<String> values = CursorCodec.decode(token, FIELD_COUNT);
+        try {
+            return new AuditLogCursor(LocalDateTime.parse(values.get(0)), Long.valueOf(values.get(1)));
+        } catch (DateTimeParseException | NumberFormatException | NullPointerException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.emes.core.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 응답 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogResponse {
+
+    private Long logId;
+    private LocalDateTime logDate;
+    private Long userId;
+    private String username;
+    private String ipAddress;
+    private String userAgent;
+    private String actionType;
+    private String resourceType;
+    private String resourceId;
+    private String method;
+    private String endpoint;
+    private Integer responseStatus;
+    private Integer executionTimeMs;
+    private Boolean success;
+    private String errorMessage;
+}
@@ -0,0 +1,27 @@
+package com.emes.core.audit.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 검색 요청 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLogSearchRequest {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private Long userId;
+    private String username;
+    private String actionType;
+    private String resourceType;
+    private Integer size;
+    private String cursor;
+}
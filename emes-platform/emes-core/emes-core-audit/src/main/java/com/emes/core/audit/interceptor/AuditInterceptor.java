@@ -0,0 +1,114 @@
+package com.emes.core.audit.interceptor;
+
+import com.emes.core.audit.service.AuditLogWriter;
+import com.emes.core.domain.model.AuditLog;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 수집 Interceptor
+ * 요청 처리 후 endpoint / method / 사용자 / 응답 상태 / 처리 시간을 AuditLogWriter 에 전달 (DB 등록은 비동기)
+ * 길이 제한이 있는 컬럼은 모두 컬럼 길이로 자름 (헤더 값 하나로 일괄 INSERT 가 실패하지 않도록)
+ */
+@RequiredArgsConstructor
+public class AuditInterceptor implements HandlerInterceptor {
+
+    private static final String START_TIME_ATTRIBUTE = AuditInterceptor.class.getName() + ".startTime";
+    private static final String API_PREFIX = "/api/v1/";
+    /** TB_CORE_AUDIT_LOG 컬럼 길이 */
+    private static final int MAX_USERNAME_LENGTH = 50;
+    private static final int MAX_IP_ADDRESS_LENGTH = 45;
+    private static final int MAX_USER_AGENT_LENGTH = 500;
+    private static final int MAX_RESOURCE_TYPE_LENGTH = 100;
+    private static final int MAX_METHOD_LENGTH = 10;
+    private static final int MAX_ENDPOINT_LENGTH = 500;
+
+    private final AuditLogWriter auditLogWriter;
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        // 비동기 응답은 ASYNC 디스패치에서 다시 호출되므로 최초 시작 시각 유지
+        if (request.getAttribute(START_TIME_ATTRIBUTE) == null) {
+            request.setAttribute(START_TIME_ATTRIBUTE, System.nanoTime());
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        Object startTime = request.getAttribute(START_TIME_ATTRIBUTE);
+        if (!(startTime instanceof Long startNanos)) {
+            return;
+        }
+
+        int status = response.getStatus();
+        LocalDateTime now = LocalDateTime.now();
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+
+        auditLogWriter.publish(AuditLog.builder()
+                .logDate(now)
+                .username(isAuthenticated(authentication) ? truncate(authentication.getName(), MAX_USERNAME_LENGTH) : null)
+                .ipAddress(truncate(resolveClientIp(request), MAX_IP_ADDRESS_LENGTH))
+                .userAgent(truncate(request.getHeader("User-Agent"), MAX_USER_AGENT_LENGTH))
+                .actionType(resolveActionType(request.getMethod()))
+                .resourceType(truncate(resolveResourceType(request.getRequestURI()), MAX_RESOURCE_TYPE_LENGTH))
+                .method(truncate(request.getMethod(), MAX_METHOD_LENGTH))
+                .endpoint(truncate(request.getRequestURI(), MAX_ENDPOINT_LENGTH))
+                .responseStatus(status)
+                .executionTimeMs((int) ((System.nanoTime() - startNanos) / 1_000_000))
+                .isSuccess(ex == null && status < 400)
+                .errorMessage(ex != null ? ex.getMessage() : null)
+                .createdAt(now)
+                .build());
+    }
+
+    /**
+     * HTTP Method → 작업 유형
+     */
+    private String resolveActionType(String method) {
+        return switch (method) {
+            case "POST" -> "CREATE";
+            case "PUT", "PATCH" -> "UPDATE";
+            case "DELETE" -> "DELETE";
+            default -> "READ";
+        };
+    }
+
+    /**
+     * /api/v1/{resource}/... → 리소스 유형 (대문자)
+     */
+    private String resolveResourceType(String uri) {
+        if (uri == null || !uri.startsWith(API_PREFIX)) {
+            return null;
+        }
+        int end = uri.indexOf('/', API_PREFIX.length());
+        String resource = end < 0 ? uri.substring(API_PREFIX.length()) : uri.substring(API_PREFIX.length(), end);
+        return resource.isEmpty() ? null : resource.toUpperCase();
+    }
+
+    private boolean isAuthenticated(Authentication authentication) {
+        return authentication != null
+                && authentication.isAuthenticated()
+                && !(authentication instanceof AnonymousAuthenticationToken);
+    }
+
+    private String resolveClientIp(HttpServletRequest request) {
+        String forwardedFor = request.getHeader("X-Forwarded-For");
+        if (forwardedFor != null && !forwardedFor.isBlank()) {
+            int comma = forwardedFor.indexOf(',');
+            return (comma < 0 ? forwardedFor : forwardedFor.substring(0, comma)).trim();
+        }
+        return request.getRemoteAddr();
+    }
+
+    private String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+}
@@ -0,0 +1,169 @@
+package com.emes.core.audit.service;
+
+import com.emes.core.audit.archive.AuditArchiveQuery;
+import com.emes.core.audit.archive.AuditArchiveStore;
+import com.emes.core.audit.dto.AuditLogCursor;
+import com.emes.core.audit.dto.AuditLogResponse;
+import com.emes.core.audit.dto.AuditLogSearchRequest;
+import com.emes.core.common.dto.PageResponse;
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import com.emes.core.domain.mapper.AuditLogMapper;
+import com.emes.core.domain.model.AuditLog;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 감사 로그 조회 서비스
+ * 기간(log_date) 조건으로 해당 월 파티션만 읽고, (log_date, log_id) Keyset 으로 페이징 (OFFSET / 전체 건수 없음)
+ * 기간이 아카이브 세그먼트와 겹치면 DB 결과와 아카이브 결과를 같은 순서로 병합
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AuditLogService {
+
+    private static final Duration DEFAULT_RANGE = Duration.ofDays(7);
+    private static final int MAX_PAGE_SIZE = 500;
+
+    private final AuditLogMapper auditLogMapper;
+    private final ObjectProvider<AuditArchiveStore> auditArchiveStoreProvider;
+
+    /**
+     * 감사 로그 검색 (최신순)
+     * 기간 미지정 시 최근 7일
+     */
+    public PageResponse<AuditLogResponse> searchAuditLogs(AuditLogSearchRequest request) {
+        // 1. 기간 / 페이지 크기 확인
+        LocalDateTime to = request.getTo() != null ? request.getTo() : LocalDateTime.now();
+        LocalDateTime from = request.getFrom() != null ? request.getFrom() : to.minus(DEFAULT_RANGE);
+        if (!from.isBefore(to)) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "'from' must be before 'to'");
+        }
+        int size = request.getSize() != null ? request.getSize() : 50;
+        if (size < 1 || size > MAX_PAGE_SIZE) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Size must be between 1 and " + MAX_PAGE_SIZE);
+        }
+
+        AuditLogCursor cursor = StringUtils.hasText(request.getCursor())
+                ? AuditLogCursor.decode(request.getCursor())
+                : null;
+
+        // 2. size + 1 건 조회로 다음 페이지 존재 여부 판단 (DB + 아카이브)
+        List<AuditLog> logs = auditLogMapper.selectByCursor(
+                from,
+                to,
+                request.getUserId(),
+                request.getUsername(),
+                request.getActionType(),
+                request.getResourceType(),
+                cursor != null ? cursor.getLogDate() : null,
+                cursor != null ? cursor.getLogId() : null,
+                size + 1
+        );
+        logs = mergeArchived(logs, request, from, to, cursor, size + 1);
+
+        boolean hasNext = logs.size() > size;
+        if (hasNext) {
+            logs = logs.subList(0, size);
+        }
+
+        List<AuditLogResponse> content = logs.stream()
+                .map(this::convertToResponse)
+                .toList();
+        String nextCursor = hasNext
+                ? new AuditLogCursor(logs.get(logs.size() - 1).getLogDate(), logs.get(logs.size() - 1).getLogId()).encode()
+                : null;
+        return PageResponse.ofSlice(content, 0, size, hasNext, nextCursor);
+    }
+
+    /**
+     * 아카이브 결과 병합 ((log_date, log_id) 내림차순, 세그먼트 교체 직후 DB 에 남은 같은 행은 한 번만)
+     */
+    private List<AuditLog> mergeArchived(List<AuditLog> hot, AuditLogSearchRequest request,
+                                         LocalDateTime from, LocalDateTime to, AuditLogCursor cursor, int limit) {
+        AuditArchiveStore archiveStore = auditArchiveStoreProvider.getIfAvailable();
+        if (archiveStore == null || !archiveStore.overlaps(from, to)) {
+            return hot;
+        }
+
+        List<AuditLog> archived;
+        try {
+            archived = archiveStore.search(AuditArchiveQuery.builder()
+                    .from(from)
+                    .to(to)
+                    .userId(request.getUserId())
+                    .username(request.getUsername())
+                    .actionType(request.getActionType())
+                    .resourceType(request.getResourceType())
+                    .cursorLogDate(cursor != null ? cursor.getLogDate() : null)
+                    .cursorLogId(cursor != null ? cursor.getLogId() : null)
+                    .build(), limit);
+        } catch (IOException e) {
+            log.error("Failed to read audit archive", e);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "Failed to read audit archive");
+        }
+        if (archived.isEmpty()) {
+            return hot;
+        }
+
+        List<AuditLog> merged = new ArrayList<>(limit);
+        int h = 0;
+        int a = 0;
+        while (merged.size() < limit && (h < hot.size() || a < archived.size())) {
+            if (a >= archived.size()) {
+                merged.add(hot.get(h++));
+                continue;
+            }
+            if (h >= hot.size()) {
+                merged.add(archived.get(a++));
+                continue;
+            }
+            int compare = compareDescending(hot.get(h), archived.get(a));
+            if (compare == 0) {
+                a++;
+            }
+            merged.add(compare <= 0 ? hot.get(h++) : archived.get(a++));
+        }
+        return merged;
+    }
+
+    private static int compareDescending(AuditLog left, AuditLog right) {
+        int compare = right.getLogDate().compareTo(left.getLogDate());
+        return compare != 0 ? compare : Long.compare(right.getLogId(), left.getLogId());
+    }
+
+    /**
+     * AuditLog -> AuditLogResponse 변환
+     */
+    private AuditLogResponse convertToResponse(AuditLog auditLog) {
+        return AuditLogResponse.builder()
+                .logId(auditLog.getLogId())
+                .logDate(auditLog.getLogDate())
+                .userId(auditLog.getUserId())
+                .username(auditLog.getUsername())
+                .ipAddress(auditLog.getIpAddress())
+                .userAgent(auditLog.getUserAgent())
+                .actionType(auditLog.getActionType())
+                .resourceType(auditLog.getResourceType())
+                .resourceId(auditLog.getResourceId())
+                .method(auditLog.getMethod())
+                .endpoint(auditLog.getEndpoint())
+                .responseStatus(auditLog.getResponseStatus())
+                .executionTimeMs(auditLog.getExecutionTimeMs())
+                .success(auditLog.getIsSuccess())
+                .errorMessage(auditLog.getErrorMessage())
+                .build();
+    }
+}
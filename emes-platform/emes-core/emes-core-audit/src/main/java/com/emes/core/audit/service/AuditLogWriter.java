@@ -0,0 +1,297 @@
+package com.emes.core.audit.service;
+
+import com.emes.core.audit.buffer.AuditOverflowPolicy;
+import com.emes.core.audit.buffer.AuditRingBuffer;
+import com.emes.core.audit.buffer.AuditSpillFile;
+import com.emes.core.domain.mapper.AuditLogMapper;
+import com.emes.core.domain.model.AuditLog;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * 감사 로그 비동기 일괄 등록
+ * 요청 스레드는 링 버퍼에 넣기만 하고, 단일 writer 스레드가 모아서 JDBC batch INSERT
+ *
+ * - 버퍼가 가득 차면 overflow-policy 에 따라 대기(BLOCK) / 버림(DROP) / 파일 기록(SPILL)
+ * - 일괄 등록이 실패하면 한 건씩 다시 등록하여 데이터 오류 행만 버림 (나머지 행은 함께 버려지지 않음)
+ * - SPILL 파일 재적재 중 실패한 배치는 다시 SPILL 하지 않고 파일에 남겨 다음 재적재 때 이어서 처리
+ * - 메트릭: emes.audit.queue.depth, emes.audit.flush (flush 시간), emes.audit.written / dropped / spilled / failed
+ * - 종료 시 남은 로그를 모두 등록
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "emes.audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditLogWriter {
+
+    private static final String METRIC_PREFIX = "emes.audit";
+    private static final long BLOCK_PARK_NANOS = TimeUnit.MICROSECONDS.toNanos(50);
+
+    private final AuditRingBuffer<AuditLog> buffer;
+    private final AuditOverflowPolicy overflowPolicy;
+    private final long blockTimeoutNanos;
+    private final int batchSize;
+    private final long flushIntervalNanos;
+    private final AuditSpillFile spillFile;
+
+    private final AuditLogMapper batchAuditLogMapper;
+    private final SqlSessionTemplate batchSqlSessionTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    private final ExecutorService writerExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("audit-writer-"));
+    private volatile boolean running = true;
+
+    private final Timer flushTimer;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter spilledCounter;
+    private final Counter failedCounter;
+
+    public AuditLogWriter(SqlSessionFactory sqlSessionFactory,
+                          PlatformTransactionManager transactionManager,
+                          ObjectMapper objectMapper,
+                          MeterRegistry meterRegistry,
+                          @Value("${emes.audit.buffer-capacity:8192}") int bufferCapacity,
+                          @Value("${emes.audit.batch-size:500}") int batchSize,
+                          @Value("${emes.audit.flush-interval-ms:200}") long flushIntervalMillis,
+                          @Value("${emes.audit.overflow-policy:DROP}") AuditOverflowPolicy overflowPolicy,
+                          @Value("${emes.audit.block-timeout-ms:100}") long blockTimeoutMillis,
+                          @Value("${emes.audit.spill-dir:${java.io.tmpdir}/emes-audit}") String spillDir) throws IOException {
+        this.buffer = new AuditRingBuffer<>(bufferCapacity);
+        this.overflowPolicy = overflowPolicy;
+        this.blockTimeoutNanos = TimeUnit.MILLISECONDS.toNanos(blockTimeoutMillis);
+        this.batchSize = batchSize;
+        this.flushIntervalNanos = TimeUnit.MILLISECONDS.toNanos(flushIntervalMillis);
+        // 재적재할 파일이 남아 있을 수 있으므로 정책과 관계없이 생성
+        this.spillFile = new AuditSpillFile(Path.of(spillDir), objectMapper);
+
+        // Spring 빈으로 등록하지 않음 (SqlSessionTemplate 빈이 생기면 MyBatis 자동 설정이 비활성화됨)
+        this.batchSqlSessionTemplate = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+        this.batchAuditLogMapper = batchSqlSessionTemplate.getMapper(AuditLogMapper.class);
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        Gauge.builder(METRIC_PREFIX + ".queue.depth", buffer, AuditRingBuffer::size)
+                .description("Audit logs waiting to be written")
+                .register(meterRegistry);
+        this.flushTimer = Timer.builder(METRIC_PREFIX + ".flush")
+                .description("Audit log batch insert time")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder(METRIC_PREFIX + ".written")
+                .description("Audit logs written")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder(METRIC_PREFIX + ".dropped")
+                .description("Audit logs dropped because the buffer was full")
+                .register(meterRegistry);
+        this.spilledCounter = Counter.builder(METRIC_PREFIX + ".spilled")
+                .description("Audit logs spilled to disk (buffer full or insert failed)")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder(METRIC_PREFIX + ".failed")
+                .description("Audit logs lost because the batch insert failed")
+                .register(meterRegistry);
+    }
+
+    @PostConstruct
+    public void start() {
+        writerExecutor.execute(this::runWriter);
+        log.info("Audit log writer started: capacity {}, batch {}, overflow {}",
+                buffer.capacity(), batchSize, overflowPolicy);
+    }
+
+    /**
+     * 감사 로그 등록 요청 (요청 스레드에서 호출)
+     */
+    public void publish(AuditLog auditLog) {
+        if (buffer.offer(auditLog)) {
+            return;
+        }
+
+        switch (overflowPolicy) {
+            case BLOCK -> {
+                long deadline = System.nanoTime() + blockTimeoutNanos;
+                while (System.nanoTime() < deadline) {
+                    LockSupport.parkNanos(BLOCK_PARK_NANOS);
+                    if (buffer.offer(auditLog)) {
+                        return;
+                    }
+                }
+                droppedCounter.increment();
+            }
+            case DROP -> droppedCounter.increment();
+            case SPILL -> {
+                try {
+                    spillFile.append(auditLog);
+                    spilledCounter.increment();
+                } catch (IOException e) {
+                    droppedCounter.increment();
+                    log.warn("Failed to spill audit log: {}", e.getMessage());
+                }
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        running = false;
+        writerExecutor.shutdown();
+        try {
+            if (!writerExecutor.awaitTermination(10, TimeUnit.SECONDS)) {
+                log.warn("Audit log writer did not finish in time, {} logs pending", buffer.size());
+                writerExecutor.shutdownNow();
+            }
+            spillFile.close();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            log.warn("Failed to close audit spill file", e);
+        }
+    }
+
+    /**
+     * writer 루프 (버퍼가 비면 flush-interval 만큼 대기, 종료 요청 후에는 남은 로그를 모두 등록)
+     */
+    private void runWriter() {
+        List<AuditLog> batch = new ArrayList<>(batchSize);
+        while (true) {
+            buffer.drainTo(batch, batchSize);
+            if (!batch.isEmpty()) {
+                boolean written = write(batch);
+                batch = new ArrayList<>(batchSize);
+                if (!written && running) {
+                    // DB 장애 중에는 재시도 간격을 둠
+                    LockSupport.parkNanos(flushIntervalNanos);
+                }
+                continue;
+            }
+            if (!running) {
+                return;
+            }
+            if (spillFile.hasData()) {
+                replaySpill();
+                continue;
+            }
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+    }
+
+    private void replaySpill() {
+        try {
+            if (!spillFile.replay(batchSize, this::writeReplayed)) {
+                // DB 장애 중에는 재시도 간격을 둠
+                LockSupport.parkNanos(flushIntervalNanos);
+            }
+        } catch (Exception e) {
+            log.warn("Failed to replay audit spill file, will retry", e);
+            LockSupport.parkNanos(flushIntervalNanos);
+        }
+    }
+
+    /**
+     * 재적재 배치 등록 (실패해도 다시 SPILL 하지 않음, 남은 행은 재적재 파일에서 다음에 이어서 처리)
+     * @return 처리한 앞쪽 행 수 (데이터 오류로 버린 행 포함)
+     */
+    private int writeReplayed(List<AuditLog> batch) {
+        return batch.size() - insertOrWriteEach(batch).size();
+    }
+
+    /**
+     * JDBC batch INSERT (한 트랜잭션)
+     * 실패 시 한 건씩 다시 등록하고, 데이터 오류(길이 초과 등) 행은 버림
+     * DB 장애 등으로 등록하지 못한 나머지 행은 SPILL 정책이면 파일에 기록하여 나중에 재적재, 아니면 버림
+     * @return 등록 성공 여부 (데이터 오류로 버린 행은 성공으로 봄)
+     */
+    private boolean write(List<AuditLog> batch) {
+        List<AuditLog> pending = insertOrWriteEach(batch);
+        if (pending.isEmpty()) {
+            return true;
+        }
+        if (overflowPolicy == AuditOverflowPolicy.SPILL && spill(pending)) {
+            return false;
+        }
+        failedCounter.increment(pending.size());
+        return false;
+    }
+
+    /**
+     * 일괄 등록, 실패 시 한 건씩 등록
+     * @return 등록하지 못한 행 (장애 발생 행부터 끝까지)
+     */
+    private List<AuditLog> insertOrWriteEach(List<AuditLog> batch) {
+        try {
+            flushTimer.record(() -> insert(batch));
+            writtenCounter.increment(batch.size());
+            return List.of();
+        } catch (Exception e) {
+            log.warn("Failed to write {} audit logs as a batch, retrying one by one: {}", batch.size(), e.getMessage());
+        }
+        return writeEach(batch);
+    }
+
+    /**
+     * 한 건씩 등록 (건별 트랜잭션)
+     * 데이터 오류 행은 버리고, 그 밖의 오류가 나면 DB 장애로 보고 중단
+     * @return 등록하지 못한 행 (장애 발생 행부터 끝까지)
+     */
+    private List<AuditLog> writeEach(List<AuditLog> batch) {
+        for (int i = 0; i < batch.size(); i++) {
+            AuditLog auditLog = batch.get(i);
+            try {
+                insert(List.of(auditLog));
+                writtenCounter.increment();
+            } catch (DataIntegrityViolationException e) {
+                failedCounter.increment();
+                log.error("Discarding invalid audit log ({} {}): {}", auditLog.getMethod(), auditLog.getEndpoint(), e.getMessage());
+            } catch (Exception e) {
+                log.error("Failed to write {} audit logs", batch.size() - i, e);
+                return batch.subList(i, batch.size());
+            }
+        }
+        return List.of();
+    }
+
+    private void insert(List<AuditLog> batch) {
+        transactionTemplate.executeWithoutResult(status -> {
+            for (AuditLog auditLog : batch) {
+                batchAuditLogMapper.insert(auditLog);
+            }
+            batchSqlSessionTemplate.flushStatements();
+        });
+    }
+
+    private boolean spill(List<AuditLog> batch) {
+        try {
+            for (AuditLog auditLog : batch) {
+                spillFile.append(auditLog);
+            }
+            spilledCounter.increment(batch.size());
+            return true;
+        } catch (IOException e) {
+            log.warn("Failed to spill audit logs: {}", e.getMessage());
+            return false;
+        }
+    }
+}
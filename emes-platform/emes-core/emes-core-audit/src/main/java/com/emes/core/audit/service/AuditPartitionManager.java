@@ -0,0 +1,108 @@
+package com.emes.core.audit.service;
+
+import com.emes.core.domain.mapper.AuditPartitionMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import java.util.List;
+
+/**
+ * 감사 로그 월별 파티션 관리
+ * - 현재 월부터 months-ahead 개월 뒤까지 경계를 미리 추가 (비어 있는 마지막 파티션을 SPLIT 하므로 데이터 이동 없음)
+ * - retention-months 보다 오래된 월은 SWITCH 로 떼어낸 뒤 MERGE (행 단위 DELETE 없음)
+ * - 아카이브(emes.audit.archive.enabled)를 사용하면 행이 남은 월은 비우지 않음
+ *   (AuditArchiver 가 세그먼트로 옮기고 SWITCH 한 뒤 빈 파티션만 MERGE, 아카이브가 실패한 월의 행 보호)
+ *
+ * RANGE RIGHT 이므로 파티션 n 은 [경계 n-1, 경계 n) 이며, 1번 파티션(최초 경계 이전)은 항상 비어 있도록 유지
+ * 여러 서버에서 동시에 실행되면 한쪽은 실패할 수 있으나 다음 실행 때 다시 맞춰짐
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "emes.audit.partition", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class AuditPartitionManager {
+
+    private final AuditPartitionMapper auditPartitionMapper;
+    private final int monthsAhead;
+    private final int retentionMonths;
+    private final boolean archiveEnabled;
+
+    public AuditPartitionManager(AuditPartitionMapper auditPartitionMapper,
+                                 @Value("${emes.audit.partition.months-ahead:3}") int monthsAhead,
+                                 @Value("${emes.audit.partition.retention-months:12}") int retentionMonths,
+                                 @Value("${emes.audit.archive.enabled:true}") boolean archiveEnabled) {
+        this.auditPartitionMapper = auditPartitionMapper;
+        this.monthsAhead = monthsAhead;
+        this.retentionMonths = retentionMonths;
+        this.archiveEnabled = archiveEnabled;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        maintain();
+    }
+
+    /**
+     * 파티션 유지 작업 (매일)
+     */
+    @Scheduled(cron = "${emes.audit.partition.cron:0 10 0 * * *}")
+    public void maintain() {
+        try {
+            List<LocalDateTime> boundaries = auditPartitionMapper.selectBoundaries();
+            if (boundaries.isEmpty()) {
+                log.warn("Audit log partition function not found, skipping partition maintenance");
+                return;
+            }
+            createFuturePartitions(boundaries);
+            switchOutExpiredPartitions();
+        } catch (Exception e) {
+            log.error("Audit log partition maintenance failed", e);
+        }
+    }
+
+    /**
+     * 마지막 경계 다음 월부터 현재 + months-ahead 월까지 경계 추가
+     */
+    private void createFuturePartitions(List<LocalDateTime> boundaries) {
+        YearMonth last = YearMonth.from(boundaries.get(boundaries.size() - 1));
+        YearMonth target = YearMonth.now().plusMonths(monthsAhead);
+
+        for (YearMonth month = last.plusMonths(1); !month.isAfter(target); month = month.plusMonths(1)) {
+            auditPartitionMapper.splitRange(month.atDay(1).toString());
+            log.info("Audit log partition created: {}", month);
+        }
+    }
+
+    /**
+     * 보관 기간이 지난 월 파티션 제거
+     * 가장 오래된 월(2번 파티션)이 기준일 이전에 끝나면 SWITCH 후 그 시작 경계를 MERGE
+     * 아카이브 사용 시 행이 남아 있으면 아카이브될 때까지 중단
+     */
+    private void switchOutExpiredPartitions() {
+        LocalDate cutoff = YearMonth.now().minusMonths(retentionMonths).atDay(1);
+
+        while (true) {
+            List<LocalDateTime> boundaries = auditPartitionMapper.selectBoundaries();
+            if (boundaries.size() < 2 || boundaries.get(1).toLocalDate().isAfter(cutoff)) {
+                return;
+            }
+
+            LocalDate month = boundaries.get(0).toLocalDate();
+            long rows = auditPartitionMapper.countPartitionRows(2);
+            if (archiveEnabled && rows > 0) {
+                log.info("Audit log partition {} not archived yet ({} rows), skipping removal", YearMonth.from(month), rows);
+                return;
+            }
+            auditPartitionMapper.switchOutPartition(2);
+            auditPartitionMapper.mergeRange(month.toString());
+            log.info("Audit log partition removed: {} ({} rows)", YearMonth.from(month), rows);
+        }
+    }
+}
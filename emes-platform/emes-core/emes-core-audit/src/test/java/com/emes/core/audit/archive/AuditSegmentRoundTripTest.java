@@ -0,0 +1,161 @@
+package com.emes.core.audit.archive;
+
+import com.emes.core.domain.model.AuditLog;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditSegmentRoundTripTest {
+
+    private static final LocalDateTime BASE_TIME = LocalDateTime.of(2025, 1, 1, 9, 0);
+    private static final int ROWS = 100;
+
+    @TempDir
+    Path directory;
+
+    private AuditSegmentReader reader;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        Path file = directory.resolve("audit-202501-001.seg");
+        // 블록 경계를 여러 번 넘도록 작은 블록 크기
+        try (AuditSegmentWriter writer = new AuditSegmentWriter(file, 7)) {
+            for (long logId = 1; logId <= ROWS; logId++) {
+                writer.append(row(logId));
+            }
+            writer.seal();
+            assertThat(writer.rowCount()).isEqualTo(ROWS);
+        }
+        reader = AuditSegmentReader.open(file);
+    }
+
+    /**
+     * 두 행씩 같은 log_date (커서 동률 비교 확인용)
+     */
+    private static AuditLog row(long logId) {
+        LocalDateTime logDate = BASE_TIME.plusSeconds(logId / 2 * 30);
+        return AuditLog.builder()
+                .logId(logId)
+                .logDate(logDate)
+                .userId(logId % 3)
+                .username("user" + logId % 3)
+                .ipAddress("10.0.0." + logId)
+                .userAgent("JUnit")
+                .actionType(logId % 2 == 0 ? "UPDATE" : "LOGIN")
+                .resourceType("USER")
+                .resourceId(String.valueOf(logId))
+                .method("PUT")
+                .endpoint("/api/admin/users/" + logId)
+                .requestParams(logId % 5 == 0 ? null : "{\"displayName\":\"사용자 " + logId + "\"}")
+                .responseStatus(200)
+                .executionTimeMs((int) logId)
+                .isSuccess(logId % 10 != 0)
+                .sessionId("session-" + logId)
+                .createdAt(logDate)
+                .build();
+    }
+
+    private static AuditArchiveQuery.AuditArchiveQueryBuilder allDay() {
+        return AuditArchiveQuery.builder()
+                .from(BASE_TIME)
+                .to(BASE_TIME.plusDays(1));
+    }
+
+    private List<AuditLog> scan(AuditArchiveQuery query, int limit) throws IOException {
+        List<AuditLog> result = new ArrayList<>();
+        reader.scan(query, limit, result);
+        return result;
+    }
+
+    private static List<Long> logIds(List<AuditLog> rows) {
+        return rows.stream().map(AuditLog::getLogId).toList();
+    }
+
+    @Test
+    void readsAllRowsNewestFirstWithAllColumns() throws IOException {
+        List<AuditLog> rows = scan(allDay().build(), 1000);
+
+        assertThat(rows).hasSize(ROWS);
+        assertThat(rows.get(0).getLogId()).isEqualTo(ROWS);
+        assertThat(rows.get(ROWS - 1).getLogId()).isEqualTo(1L);
+        for (AuditLog actual : rows) {
+            assertThat(actual).isEqualTo(row(actual.getLogId()));
+        }
+        assertThat(reader.getMinEpochSecond()).isEqualTo(AuditSegmentFormat.epochSecond(row(1).getLogDate()));
+        assertThat(reader.getMaxEpochSecond()).isEqualTo(AuditSegmentFormat.epochSecond(row(ROWS).getLogDate()));
+    }
+
+    @Test
+    void cursorContinuesAfterLastRowIncludingSameTimestamp() throws IOException {
+        // 50, 51 은 같은 log_date → 커서 (51) 다음은 50 부터
+        AuditLog cursor = row(51);
+        List<AuditLog> rows = scan(allDay()
+                .cursorLogDate(cursor.getLogDate())
+                .cursorLogId(cursor.getLogId())
+                .build(), 20);
+
+        assertThat(logIds(rows)).containsExactlyElementsOf(
+                LongStream.iterate(50, id -> id >= 31, id -> id - 1).boxed().toList());
+    }
+
+    @Test
+    void pagesByCursorCoverEveryRowOnce() throws IOException {
+        List<Long> seen = new ArrayList<>();
+        AuditLog last = null;
+        while (true) {
+            AuditArchiveQuery.AuditArchiveQueryBuilder query = allDay();
+            if (last != null) {
+                query.cursorLogDate(last.getLogDate()).cursorLogId(last.getLogId());
+            }
+            List<AuditLog> page = scan(query.build(), 9);
+            if (page.isEmpty()) {
+                break;
+            }
+            seen.addAll(logIds(page));
+            last = page.get(page.size() - 1);
+        }
+
+        assertThat(seen).hasSize(ROWS).doesNotHaveDuplicates();
+        assertThat(seen).isSortedAccordingTo((a, b) -> Long.compare(b, a));
+    }
+
+    @Test
+    void filtersByUserActionAndTimeRange() throws IOException {
+        LocalDateTime from = row(20).getLogDate();
+        LocalDateTime to = row(80).getLogDate();
+        List<AuditLog> rows = scan(AuditArchiveQuery.builder()
+                .from(from)
+                .to(to)
+                .userId(1L)
+                .actionType("LOGIN")
+                .build(), 1000);
+
+        assertThat(rows).isNotEmpty();
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getUserId()).isEqualTo(1L);
+            assertThat(row.getActionType()).isEqualTo("LOGIN");
+            assertThat(row.getLogDate()).isAfterOrEqualTo(from).isBefore(to);
+        });
+        long expected = LongStream.rangeClosed(1, ROWS)
+                .mapToObj(AuditSegmentRoundTripTest::row)
+                .filter(row -> row.getUserId() == 1L && "LOGIN".equals(row.getActionType()))
+                .filter(row -> !row.getLogDate().isBefore(from) && row.getLogDate().isBefore(to))
+                .count();
+        assertThat(rows).hasSize((int) expected);
+    }
+
+    @Test
+    void unknownActionOrUserReturnsNothing() throws IOException {
+        assertThat(scan(allDay().actionType("DELETE").build(), 1000)).isEmpty();
+        assertThat(scan(allDay().username("nobody").build(), 1000)).isEmpty();
+    }
+}
@@ -0,0 +1,96 @@
+package com.emes.core.audit.buffer;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.Timeout;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AuditRingBufferTest {
+
+    @Test
+    void capacityRoundsUpToPowerOfTwo() {
+        assertThat(new AuditRingBuffer<Long>(100).capacity()).isEqualTo(128);
+        assertThat(new AuditRingBuffer<Long>(64).capacity()).isEqualTo(64);
+        assertThat(new AuditRingBuffer<Long>(65).capacity()).isEqualTo(128);
+    }
+
+    @Test
+    void offerFailsWhenFullAndSlotIsReusedAfterPoll() {
+        AuditRingBuffer<Integer> buffer = new AuditRingBuffer<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(buffer.offer(i)).isTrue();
+        }
+        assertThat(buffer.offer(4)).isFalse();
+        assertThat(buffer.size()).isEqualTo(4);
+
+        assertThat(buffer.poll()).isEqualTo(0);
+        assertThat(buffer.offer(4)).isTrue();
+
+        List<Integer> drained = new ArrayList<>();
+        assertThat(buffer.drainTo(drained, 10)).isEqualTo(4);
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.isEmpty()).isTrue();
+    }
+
+    @Test
+    @Timeout(60)
+    void multipleProducersWrapAroundWithoutLossOrReordering() throws InterruptedException {
+        // 작은 버퍼로 여러 바퀴 돌도록 (생산자 수 × 건수 >> 용량)
+        int producers = 4;
+        int perProducer = 20_000;
+        AuditRingBuffer<Long> buffer = new AuditRingBuffer<>(64);
+        CountDownLatch start = new CountDownLatch(1);
+
+        List<Thread> threads = new ArrayList<>();
+        for (int p = 0; p < producers; p++) {
+            long producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (long seq = 0; seq < perProducer; seq++) {
+                    Long value = producer * perProducer + seq;
+                    while (!buffer.offer(value)) {
+                        Thread.yield();
+                    }
+                }
+            });
+            thread.start();
+            threads.add(thread);
+        }
+        start.countDown();
+
+        // 단일 소비자: 생산자별로 순서대로, 빠짐 / 중복 없이 도착해야 함
+        long[] nextSeq = new long[producers];
+        List<Long> batch = new ArrayList<>();
+        long received = 0;
+        while (received < (long) producers * perProducer) {
+            batch.clear();
+            if (buffer.drainTo(batch, 256) == 0) {
+                Thread.yield();
+                continue;
+            }
+            for (Long value : batch) {
+                int producer = (int) (value / perProducer);
+                assertThat(value % perProducer).isEqualTo(nextSeq[producer]);
+                nextSeq[producer]++;
+            }
+            received += batch.size();
+        }
+
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertThat(nextSeq).containsOnly(perProducer);
+        assertThat(buffer.poll()).isNull();
+        assertThat(buffer.size()).isZero();
+    }
+}
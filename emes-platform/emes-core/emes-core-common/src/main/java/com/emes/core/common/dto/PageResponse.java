@@ -19,10 +19,12 @@ public class PageResponse<T> {
     private List<T> content;
     private int pageNumber;
     private int pageSize;
-    private long totalElements;
-    private int totalPages;
+    private Long totalElements;     // 전체 건수 미조회(withTotal=false) 시 null
+    private Integer totalPages;
     private boolean first;
     private boolean last;
+    private boolean hasNext;
+    private String nextCursor;
 
     public static <T> PageResponse<T> of(List<T> content, int pageNumber, int pageSize, long totalElements) {
         int totalPages = (int) Math.ceil((double) totalElements / pageSize);
@@ -34,6 +36,43 @@ public class PageResponse<T> {
                 .totalPages(totalPages)
                 .first(pageNumber == 0)
                 .last(pageNumber >= totalPages - 1)
+                .hasNext(pageNumber < totalPages - 1)
+                .build();
+    }
+
+    /**
+     * 커서(Keyset) 페이징 응답 생성
+     * @param nextCursor 다음 페이지 토큰 (마지막 페이지면 null)
+     */
+    public static <T> PageResponse<T> ofCursor(List<T> content, int pageNumber, int pageSize,
+                                               long totalElements, String nextCursor) {
+        int totalPages = (int) Math.ceil((double) totalElements / pageSize);
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .totalElements(totalElements)
+                .totalPages(totalPages)
+                .first(pageNumber == 0)
+                .last(nextCursor == null)
+                .hasNext(nextCursor != null)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    /**
+     * 전체 건수 없이 다음 페이지 존재 여부만 담은 응답 생성 (totalElements/totalPages = null)
+     */
+    public static <T> PageResponse<T> ofSlice(List<T> content, int pageNumber, int pageSize,
+                                              boolean hasNext, String nextCursor) {
+        return PageResponse.<T>builder()
+                .content(content)
+                .pageNumber(pageNumber)
+                .pageSize(pageSize)
+                .first(pageNumber == 0)
+                .last(!hasNext)
+                .hasNext(hasNext)
+                .nextCursor(nextCursor)
                 .build();
     }
 }
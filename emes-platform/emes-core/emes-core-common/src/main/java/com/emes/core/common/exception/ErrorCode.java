@@ -17,6 +17,7 @@ public enum ErrorCode {
     NOT_FOUND(404, "C004", "Resource not found"),
     CONFLICT(409, "C005", "Resource conflict"),
     INTERNAL_SERVER_ERROR(500, "C006", "Internal server error"),
+    TOO_MANY_REQUESTS(429, "C007", "Too many requests, please retry later"),
 
     // User (U)
     USER_NOT_FOUND(404, "U001", "User not found"),
@@ -25,6 +26,9 @@ public enum ErrorCode {
     INVALID_PASSWORD(400, "U004", "Invalid password format"),
     ACCOUNT_LOCKED(403, "U005", "Account is locked"),
     ACCOUNT_DISABLED(403, "U006", "Account is disabled"),
+    IMPORT_JOB_NOT_FOUND(404, "U007", "Import job not found"),
+    INVALID_IMPORT_FILE(400, "U008", "Invalid import file"),
+    USER_VERSION_CONFLICT(409, "U009", "User was modified by another request"),
 
     // Auth (A)
     INVALID_TOKEN(401, "A001", "Invalid token"),
@@ -0,0 +1,82 @@
+package com.emes.core.common.util;
+
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+
+/**
+ * 커서(Keyset) 페이징용 연속 토큰 인코더/디코더
+ * 정렬 키 값 목록을 URL-safe Base64 문자열로 직렬화 (클라이언트에는 불투명 토큰으로 노출)
+ */
+public final class CursorCodec {
+
+    private static final char SEPARATOR = '\u001F';
+    private static final char NULL_MARKER = 'N';
+    private static final char VALUE_MARKER = 'V';
+
+    private CursorCodec() {
+    }
+
+    /**
+     * 값 목록을 토큰으로 인코딩 (null 값 허용)
+     */
+    public static String encode(List<String> values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.size(); i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            String value = values.get(i);
+            if (value == null) {
+                sb.append(NULL_MARKER);
+            } else {
+                sb.append(VALUE_MARKER).append(value);
+            }
+        }
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(sb.toString().getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 토큰을 값 목록으로 디코딩
+     * @param expectedSize 기대하는 값 개수 (불일치 시 INVALID_INPUT)
+     */
+    public static List<String> decode(String token, int expectedSize) {
+        String raw;
+        try {
+            raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+        } catch (IllegalArgumentException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+
+        List<String> values = new ArrayList<>(expectedSize);
+        int start = 0;
+        while (start <= raw.length()) {
+            int end = raw.indexOf(SEPARATOR, start);
+            if (end < 0) {
+                end = raw.length();
+            }
+            String part = raw.substring(start, end);
+            if (part.isEmpty()) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+            }
+            if (part.charAt(0) == NULL_MARKER && part.length() == 1) {
+                values.add(null);
+            } else if (part.charAt(0) == VALUE_MARKER) {
+                values.add(part.substring(1));
+            } else {
+                throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+            }
+            start = end + 1;
+        }
+
+        if (values.size() != expectedSize) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT, "Invalid cursor");
+        }
+        return values;
+    }
+}
@@ -0,0 +1,8 @@
+package com.emes.core.domain.event;
+
+/**
+ * 기초코드 / 코드 그룹 변경 이벤트 (코드 스냅샷 갱신용)
+ * 트랜잭션 내에서 발행하면 커밋 후 처리됨
+ */
+public class CodeChangedEvent {
+}
@@ -0,0 +1,24 @@
+package com.emes.core.domain.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 메뉴 / 메뉴-역할 매핑 변경 이벤트 (메뉴 트리 캐시 갱신용)
+ * roleId 가 null 이면 메뉴 구조 자체의 변경 (추가 / 수정 / 삭제 / 순서 변경)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class MenuChangedEvent {
+
+    private final Long roleId;
+
+    public static MenuChangedEvent role(Long roleId) {
+        return new MenuChangedEvent(roleId);
+    }
+
+    public static MenuChangedEvent menus() {
+        return new MenuChangedEvent(null);
+    }
+}
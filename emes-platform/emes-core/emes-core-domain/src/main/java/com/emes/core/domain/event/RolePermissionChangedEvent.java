@@ -0,0 +1,24 @@
+package com.emes.core.domain.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 역할-권한 매핑 변경 이벤트 (권한 캐시 무효화용)
+ * roleId 가 null 이면 전체 역할 대상 (권한 자체의 활성/비활성 변경 등)
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class RolePermissionChangedEvent {
+
+    private final Long roleId;
+
+    public static RolePermissionChangedEvent role(Long roleId) {
+        return new RolePermissionChangedEvent(roleId);
+    }
+
+    public static RolePermissionChangedEvent all() {
+        return new RolePermissionChangedEvent(null);
+    }
+}
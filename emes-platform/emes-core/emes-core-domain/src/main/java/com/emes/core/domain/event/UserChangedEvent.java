@@ -0,0 +1,51 @@
+package com.emes.core.domain.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 사용자 변경 이벤트 (검색 색인 등 파생 데이터 갱신용)
+ * 트랜잭션 내에서 발행하면 커밋 후 처리됨
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserChangedEvent {
+
+    public enum Type {
+        /** 생성 또는 수정 (검색 대상 필드 포함) */
+        SAVED,
+        /** 삭제 */
+        DELETED,
+        /** 일괄 등록 (생성 키 미조회 - 수신 측에서 등록한 사용자명으로 다시 조회) */
+        BULK_INSERTED
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final String username;
+    private final String email;
+    private final String fullName;
+    private final String department;
+    private final String position;
+    /** 일괄 등록한 사용자명 (BULK_INSERTED 만) */
+    private final List<String> usernames;
+
+    public static UserChangedEvent saved(Long userId, String username, String email,
+                                         String fullName, String department, String position) {
+        return new UserChangedEvent(Type.SAVED, userId, username, email, fullName, department, position, null);
+    }
+
+    public static UserChangedEvent deleted(Long userId) {
+        return new UserChangedEvent(Type.DELETED, userId, null, null, null, null, null, null);
+    }
+
+    /**
+     * 일괄 등록 (IDENTITY 값이 커밋 순서와 다를 수 있으므로 ID 범위가 아닌 사용자명으로 전달)
+     */
+    public static UserChangedEvent bulkInserted(List<String> usernames) {
+        return new UserChangedEvent(Type.BULK_INSERTED, null, null, null, null, null, null, List.copyOf(usernames));
+    }
+}
@@ -0,0 +1,37 @@
+package com.emes.core.domain.event;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 사용자 그룹 변경 이벤트 (그룹 계층 색인 갱신용)
+ * 트랜잭션 내에서 발행하면 커밋 후 처리됨
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class UserGroupChangedEvent {
+
+    public enum Type {
+        /** 그룹 생성 / 이동(상위 그룹 변경) / 활성 여부 변경 / 삭제 */
+        STRUCTURE,
+        /** 그룹-역할 매핑 변경 */
+        ROLES
+    }
+
+    private final Type type;
+    /** null 이면 전체 */
+    private final Long groupId;
+
+    public static UserGroupChangedEvent structure(Long groupId) {
+        return new UserGroupChangedEvent(Type.STRUCTURE, groupId);
+    }
+
+    public static UserGroupChangedEvent roles(Long groupId) {
+        return new UserGroupChangedEvent(Type.ROLES, groupId);
+    }
+
+    public static UserGroupChangedEvent all() {
+        return new UserGroupChangedEvent(Type.STRUCTURE, null);
+    }
+}
@@ -0,0 +1,52 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.AuditLog;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface AuditLogMapper {
+
+    /**
+     * 감사 로그 등록 (ExecutorType.BATCH 로 모아서 실행)
+     */
+    int insert(AuditLog auditLog);
+
+    /**
+     * 기간 내 감사 로그 Keyset 조회 (log_date, log_id 내림차순)
+     * 기간 조건으로 해당 월 파티션만 읽음
+     * @param cursorLogDate 이전 페이지 마지막 행의 log_date (첫 페이지면 null)
+     * @param cursorLogId   이전 페이지 마지막 행의 log_id
+     */
+    List<AuditLog> selectByCursor(@Param("from") LocalDateTime from,
+                                  @Param("to") LocalDateTime to,
+                                  @Param("userId") Long userId,
+                                  @Param("username") String username,
+                                  @Param("actionType") String actionType,
+                                  @Param("resourceType") String resourceType,
+                                  @Param("cursorLogDate") LocalDateTime cursorLogDate,
+                                  @Param("cursorLogId") Long cursorLogId,
+                                  @Param("limit") int limit);
+
+    /**
+     * 아카이브 대상 조회 (기간 내 log_date, log_id 오름차순 Keyset)
+     * @param afterLogDate 이전 묶음 마지막 행의 log_date (처음이면 null)
+     * @param afterLogId   이전 묶음 마지막 행의 log_id
+     */
+    List<AuditLog> selectForArchive(@Param("from") LocalDateTime from,
+                                    @Param("to") LocalDateTime to,
+                                    @Param("afterLogDate") LocalDateTime afterLogDate,
+                                    @Param("afterLogId") Long afterLogId,
+                                    @Param("limit") int limit);
+
+    /**
+     * 기간 내 건수
+     */
+    long countByRange(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -0,0 +1,45 @@
+package com.emes.core.domain.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 감사 로그 파티션 관리 MyBatis Mapper 인터페이스
+ * (PF_AUDIT_LOG_MONTHLY / PS_AUDIT_LOG_MONTHLY, RANGE RIGHT 월별 경계)
+ */
+@Mapper
+public interface AuditPartitionMapper {
+
+    /**
+     * 파티션 경계 목록 (오름차순, 파티션 함수가 없으면 빈 목록)
+     */
+    List<LocalDateTime> selectBoundaries();
+
+    /**
+     * log_date 값이 속한 파티션 번호
+     */
+    int selectPartitionNumber(@Param("logDate") LocalDateTime logDate);
+
+    /**
+     * 파티션 행 수 (partitionNumber: 1부터)
+     */
+    long countPartitionRows(@Param("partitionNumber") int partitionNumber);
+
+    /**
+     * 경계 추가 (boundary: 'yyyy-MM-dd', 호출 측에서 생성한 값만 전달)
+     */
+    void splitRange(@Param("boundary") String boundary);
+
+    /**
+     * 파티션을 SWITCH 테이블로 옮긴 뒤 비움 (메타데이터 작업, 행 단위 DELETE 없음)
+     */
+    void switchOutPartition(@Param("partitionNumber") int partitionNumber);
+
+    /**
+     * 경계 제거 (boundary: 'yyyy-MM-dd', 비어 있는 파티션끼리만 병합하여 데이터 이동 없음)
+     */
+    void mergeRange(@Param("boundary") String boundary);
+}
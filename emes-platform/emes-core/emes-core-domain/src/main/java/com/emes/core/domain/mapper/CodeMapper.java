@@ -0,0 +1,29 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.Code;
+import com.emes.core.domain.model.CodeGroup;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+/**
+ * 기초코드 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface CodeMapper {
+
+    /**
+     * 활성 코드 그룹 전체 조회 (sort_order, group_code 순)
+     */
+    List<CodeGroup> selectActiveGroups();
+
+    /**
+     * 활성 그룹의 활성 코드 전체 조회 (group_id, level, sort_order, code 순)
+     */
+    List<Code> selectActiveCodes();
+
+    /**
+     * 변경 감지용 토큰 (두 테이블의 체크섬, 값이 바뀌면 다시 로드)
+     */
+    String selectChangeToken();
+}
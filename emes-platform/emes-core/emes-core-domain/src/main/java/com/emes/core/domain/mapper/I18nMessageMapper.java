@@ -0,0 +1,31 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.I18nMessage;
+import com.emes.core.domain.model.I18nMessageSummary;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 다국어 메시지 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface I18nMessageMapper {
+
+    /**
+     * 전체 메시지 조회 (비활성 포함)
+     */
+    List<I18nMessage> selectAll();
+
+    /**
+     * 수정 일시가 since 이후인 메시지 조회 (비활성 포함, 같은 일시 포함)
+     */
+    List<I18nMessage> selectModifiedSince(@Param("since") LocalDateTime since);
+
+    /**
+     * 전체 행 수 / 최종 수정 일시
+     */
+    I18nMessageSummary selectSummary();
+}
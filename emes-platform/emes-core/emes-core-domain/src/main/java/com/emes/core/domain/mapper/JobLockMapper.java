@@ -0,0 +1,24 @@
+package com.emes.core.domain.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * 예약 작업 잠금 MyBatis Mapper 인터페이스 (TB_CORE_JOB_LOCK)
+ */
+@Mapper
+public interface JobLockMapper {
+
+    /**
+     * 잠금 획득 / 연장 (행이 없으면 생성, 만료되었거나 같은 소유자면 leaseSeconds 만큼 갱신)
+     * @return 획득 시 1, 다른 서버가 보유 중이면 0
+     */
+    int tryAcquire(@Param("lockName") String lockName,
+                   @Param("owner") String owner,
+                   @Param("leaseSeconds") int leaseSeconds);
+
+    /**
+     * 잠금 해제 (소유자가 같을 때만)
+     */
+    int release(@Param("lockName") String lockName, @Param("owner") String owner);
+}
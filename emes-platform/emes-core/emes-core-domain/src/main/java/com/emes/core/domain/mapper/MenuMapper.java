@@ -0,0 +1,35 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.Menu;
+import com.emes.core.domain.model.MenuRole;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 메뉴 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface MenuMapper {
+
+    /**
+     * 활성 메뉴 전체 조회 (level, sort_order, menu_code 순)
+     */
+    List<Menu> selectActiveMenus();
+
+    /**
+     * 메뉴-역할 매핑 전체 조회
+     */
+    List<MenuRole> selectAllMenuRoles();
+
+    /**
+     * 역할의 메뉴 ID 목록 조회
+     */
+    List<Long> selectMenuIdsByRoleId(@Param("roleId") Long roleId);
+
+    /**
+     * 변경 감지용 토큰 (메뉴 / 메뉴-역할 테이블의 체크섬, 값이 바뀌면 다시 로드)
+     */
+    String selectChangeToken();
+}
@@ -0,0 +1,18 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.Permission;
+import org.apache.ibatis.annotations.Mapper;
+
+import java.util.List;
+
+/**
+ * 권한 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface PermissionMapper {
+
+    /**
+     * 전체 권한 조회 (permission_id 순)
+     */
+    List<Permission> selectAll();
+}
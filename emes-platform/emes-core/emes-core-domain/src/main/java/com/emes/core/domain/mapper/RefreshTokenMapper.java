@@ -0,0 +1,37 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.RefreshToken;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Refresh Token MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface RefreshTokenMapper {
+
+    /**
+     * 다건 INSERT (VALUES 다중 행 한 문장, 행 수는 SQL Server 파라미터 제한 2100 이내로 호출 측에서 제한)
+     */
+    int insertBatch(@Param("tokens") List<RefreshToken> tokens);
+
+    /**
+     * 사용 가능한 토큰 조회 (폐기되지 않고 만료 전)
+     */
+    RefreshToken selectActiveByTokenValue(@Param("tokenValue") String tokenValue,
+                                          @Param("now") LocalDateTime now);
+
+    /**
+     * 토큰 폐기
+     */
+    int revokeByTokenValue(@Param("tokenValue") String tokenValue,
+                           @Param("revokedAt") LocalDateTime revokedAt);
+
+    /**
+     * 만료된 토큰 삭제 (expires_at 인덱스 사용, 최대 limit 건)
+     */
+    int deleteExpired(@Param("now") LocalDateTime now, @Param("limit") int limit);
+}
@@ -0,0 +1,20 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.RolePermission;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 역할-권한 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface RolePermissionMapper {
+
+    /**
+     * 역할별 활성 권한 코드 조회
+     */
+    List<RolePermission> selectByRoleIds(@Param("roleIds") Collection<Long> roleIds);
+}
@@ -0,0 +1,40 @@
+package com.emes.core.domain.mapper;
+
+import com.emes.core.domain.model.GroupRole;
+import com.emes.core.domain.model.UserGroup;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * 사용자 그룹 MyBatis Mapper 인터페이스
+ */
+@Mapper
+public interface UserGroupMapper {
+
+    /**
+     * 활성 그룹 전체 조회
+     */
+    List<UserGroup> selectActiveGroups();
+
+    /**
+     * 활성 그룹 단건 조회 (비활성 / 삭제된 그룹이면 null)
+     */
+    UserGroup selectActiveGroupById(@Param("groupId") Long groupId);
+
+    /**
+     * 그룹-역할 매핑 전체 조회
+     */
+    List<GroupRole> selectAllGroupRoles();
+
+    /**
+     * 그룹의 역할 ID 목록 조회
+     */
+    List<Long> selectRoleIdsByGroupId(@Param("groupId") Long groupId);
+
+    /**
+     * 변경 감지용 토큰 (그룹 / 그룹-역할 테이블의 체크섬, 값이 바뀌면 다시 로드)
+     */
+    String selectChangeToken();
+}
@@ -1,9 +1,14 @@
 package com.emes.core.domain.mapper;
 
+import com.emes.core.domain.model.LoginState;
 import com.emes.core.domain.model.User;
+import com.emes.core.domain.model.UserPageRow;
+import com.emes.core.domain.model.UserStatusChange;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,6 +22,16 @@ public interface UserMapper {
      */
     User selectById(@Param("userId") Long userId);
 
+    /**
+     * 사용자 버전만 조회 (ETag 검증용, 없거나 삭제되었으면 null)
+     */
+    Integer selectVersionById(@Param("userId") Long userId);
+
+    /**
+     * ETag 구성 값만 조회 (user_id, version, last_login_at, 없거나 삭제되었으면 null)
+     */
+    User selectETagStateById(@Param("userId") Long userId);
+
     /**
      * 사용자명으로 조회
      */
@@ -42,11 +57,83 @@ public interface UserMapper {
                                   @Param("position") String position,
                                   @Param("enabled") Boolean enabled,
                                   @Param("accountLocked") Boolean accountLocked,
+                                  @Param("userIds") Collection<Long> userIds,
                                   @Param("sortBy") String sortBy,
                                   @Param("sortDirection") String sortDirection,
                                   @Param("limit") Integer limit,
                                   @Param("offset") Integer offset);
 
+    /**
+     * 사용자 검색 (전체 결과 스트리밍, 트랜잭션 내에서 순회 후 close 필요)
+     */
+    Cursor<User> selectCursorByCondition(@Param("username") String username,
+                                         @Param("email") String email,
+                                         @Param("displayName") String displayName,
+                                         @Param("department") String department,
+                                         @Param("position") String position,
+                                         @Param("enabled") Boolean enabled,
+                                         @Param("accountLocked") Boolean accountLocked,
+                                         @Param("userIds") Collection<Long> userIds,
+                                         @Param("sortBy") String sortBy,
+                                         @Param("sortDirection") String sortDirection);
+
+    /**
+     * 사용자 검색 (페이징 + 윈도우 COUNT 로 전체 건수를 한 번에 조회)
+     */
+    List<UserPageRow> selectPageWithTotal(@Param("username") String username,
+                                          @Param("email") String email,
+                                          @Param("displayName") String displayName,
+                                          @Param("department") String department,
+                                          @Param("position") String position,
+                                          @Param("enabled") Boolean enabled,
+                                          @Param("accountLocked") Boolean accountLocked,
+                                          @Param("userIds") Collection<Long> userIds,
+                                          @Param("sortBy") String sortBy,
+                                          @Param("sortDirection") String sortDirection,
+                                          @Param("limit") Integer limit,
+                                          @Param("offset") Integer offset);
+
+    /**
+     * 사용자 검색 (커서/Keyset 페이징)
+     * cursorUserId 가 null 이면 첫 페이지, 정렬 키 + user_id 이후 행부터 limit 건 조회
+     */
+    List<User> selectByCursor(@Param("username") String username,
+                              @Param("email") String email,
+                              @Param("displayName") String displayName,
+                              @Param("department") String department,
+                              @Param("position") String position,
+                              @Param("enabled") Boolean enabled,
+                              @Param("accountLocked") Boolean accountLocked,
+                              @Param("userIds") Collection<Long> userIds,
+                              @Param("sortBy") String sortBy,
+                              @Param("sortDirection") String sortDirection,
+                              @Param("cursorValue") String cursorValue,
+                              @Param("cursorCreatedAt") java.time.LocalDateTime cursorCreatedAt,
+                              @Param("cursorUserId") Long cursorUserId,
+                              @Param("limit") Integer limit);
+
+    /**
+     * 검색 색인 구축용 조회 (lastUserId 이후 limit 건, user_id 순)
+     */
+    List<User> selectIndexBatch(@Param("lastUserId") Long lastUserId, @Param("limit") int limit);
+
+    /**
+     * 검색 색인 반영용 사용자명 목록 조회 (삭제된 사용자 제외)
+     */
+    List<User> selectIndexByUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 검색 색인 동기화 상한 (MIN_ACTIVE_ROWVERSION, 이보다 작은 row_ver 의 변경은 모두 커밋됨)
+     */
+    long selectIndexRowVersionUpperBound();
+
+    /**
+     * 검색 색인 동기화용 변경 조회 (row_ver 가 [fromRowVersion, toRowVersion) 인 사용자, 삭제된 사용자 포함, row_ver 순)
+     */
+    List<User> selectIndexChanges(@Param("fromRowVersion") long fromRowVersion,
+                                  @Param("toRowVersion") long toRowVersion,
+                                  @Param("limit") int limit);
+
     /**
      * 사용자 검색 결과 카운트
      */
@@ -56,13 +143,35 @@ public interface UserMapper {
                           @Param("department") String department,
                           @Param("position") String position,
                           @Param("enabled") Boolean enabled,
-                          @Param("accountLocked") Boolean accountLocked);
+                          @Param("accountLocked") Boolean accountLocked,
+                          @Param("userIds") Collection<Long> userIds);
 
     /**
      * 사용자 생성
      */
     int insert(User user);
 
+    /**
+     * 사용자 생성 (일괄 등록용, ExecutorType.BATCH 세션에서 사용 - 생성 키 미조회)
+     */
+    int insertBulk(User user);
+
+    /**
+     * 이미 존재하는 사용자명 조회 (삭제된 사용자 포함)
+     */
+    List<String> selectExistingUsernames(@Param("usernames") Collection<String> usernames);
+
+    /**
+     * 이미 존재하는 이메일 조회 (삭제된 사용자 포함)
+     */
+    List<String> selectExistingEmails(@Param("emails") Collection<String> emails);
+
+    /**
+     * 사용자 수정 후 수정된 행 반환 (OUTPUT INSERTED, 한 번의 왕복)
+     * version 이 expectedVersion 과 같을 때만 수정하며, 대상이 없거나 버전이 다르면 null
+     */
+    User updateReturning(@Param("user") User user, @Param("expectedVersion") Integer expectedVersion);
+
     /**
      * 사용자 수정
      */
@@ -73,6 +182,21 @@ public interface UserMapper {
      */
     int softDelete(@Param("userId") Long userId, @Param("deletedAt") java.time.LocalDateTime deletedAt);
 
+    /**
+     * 잠금 / 활성 여부 일괄 변경 (null 인 항목은 유지, IN 목록은 2,000건 이하로 나누어 호출)
+     * 이미 요청한 상태인 사용자는 version 을 올리지 않으며, 변경 대상이 된 사용자만 반환
+     */
+    List<UserStatusChange> updateStatusBulk(@Param("userIds") Collection<Long> userIds,
+                                            @Param("isLocked") Boolean isLocked,
+                                            @Param("isActive") Boolean isActive,
+                                            @Param("updatedAt") java.time.LocalDateTime updatedAt);
+
+    /**
+     * 일괄 삭제 (Soft Delete, 삭제된 사용자 ID 반환)
+     */
+    List<Long> softDeleteBulk(@Param("userIds") Collection<Long> userIds,
+                              @Param("deletedAt") java.time.LocalDateTime deletedAt);
+
     /**
      * 사용자 물리 삭제 (Hard Delete)
      */
@@ -93,6 +217,11 @@ public interface UserMapper {
      */
     int lockAccount(@Param("userId") Long userId);
 
+    /**
+     * 로그인 상태 일괄 반영 (실패 횟수, 마지막 로그인 일시 - null 이면 유지)
+     */
+    int updateLoginStates(@Param("states") List<LoginState> states);
+
     /**
      * 계정 잠금 해제
      */
@@ -105,6 +234,32 @@ public interface UserMapper {
                        @Param("password") String password,
                        @Param("passwordChangedAt") java.time.LocalDateTime passwordChangedAt);
 
+    /**
+     * 비밀번호 해시만 교체 (BCrypt cost 변경에 따른 재해시)
+     */
+    int updatePasswordHash(@Param("userId") Long userId,
+                           @Param("password") String password);
+
+    /**
+     * 사용자 역할 ID 목록 조회 (TB_CORE_USER_ROLE 단일 테이블)
+     */
+    List<Long> selectRoleIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자명으로 역할 ID 목록 조회 (토큰에 사용자 ID 가 없는 요청용)
+     */
+    List<Long> selectRoleIdsByUsername(@Param("username") String username);
+
+    /**
+     * 사용자 소속 그룹 ID 목록 조회 (TB_CORE_USER_GROUP_MAPPING 단일 테이블)
+     */
+    List<Long> selectGroupIdsByUserId(@Param("userId") Long userId);
+
+    /**
+     * 사용자명으로 소속 그룹 ID 목록 조회
+     */
+    List<Long> selectGroupIdsByUsername(@Param("username") String username);
+
     /**
      * 사용자 권한 코드 목록 조회 (역할 → 권한)
      */
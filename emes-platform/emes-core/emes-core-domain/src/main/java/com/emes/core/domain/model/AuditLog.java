@@ -0,0 +1,38 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 감사 로그 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class AuditLog {
+
+    private Long logId;
+    private LocalDateTime logDate;
+    private Long userId;
+    private String username;
+    private String ipAddress;
+    private String userAgent;
+    private String actionType;
+    private String resourceType;
+    private String resourceId;
+    private String method;
+    private String endpoint;
+    private String requestParams;
+    private Integer responseStatus;
+    private String responseMessage;
+    private Integer executionTimeMs;
+    private Boolean isSuccess;
+    private String errorMessage;
+    private String sessionId;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,30 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기초코드 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Code {
+
+    private Long codeId;
+    private Long groupId;
+    private String code;
+    private String codeName;
+    private String codeValue;
+    private String description;
+    private Long parentCodeId;
+    private Integer level;
+    private Integer sortOrder;
+    private String attribute1;
+    private String attribute2;
+    private String attribute3;
+    private Boolean isSystem;
+}
@@ -0,0 +1,23 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 코드 그룹 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeGroup {
+
+    private Long groupId;
+    private String groupCode;
+    private String groupName;
+    private String description;
+    private Integer sortOrder;
+    private Boolean isSystem;
+}
@@ -0,0 +1,19 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 그룹-역할 매핑 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class GroupRole {
+
+    private Long groupId;
+    private Long roleId;
+}
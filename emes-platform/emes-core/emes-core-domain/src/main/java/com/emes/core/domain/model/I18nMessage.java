@@ -0,0 +1,27 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다국어 메시지 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class I18nMessage {
+
+    private Long messageId;
+    private String messageKey;
+    private String locale;
+    private String messageValue;
+    private String category;
+    private Boolean isActive;
+    /** COALESCE(updated_at, created_at) */
+    private LocalDateTime modifiedAt;
+}
@@ -0,0 +1,21 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 다국어 메시지 변경 확인용 요약 (전체 행 수 + 최종 수정 일시)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class I18nMessageSummary {
+
+    private long rowCount;
+    private LocalDateTime lastModifiedAt;
+}
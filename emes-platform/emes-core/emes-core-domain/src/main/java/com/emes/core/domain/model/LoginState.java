@@ -0,0 +1,20 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 로그인 상태 (일괄 반영용 - 사용자 ID + 실패 횟수 + 마지막 로그인 일시)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class LoginState {
+
+    private Long userId;
+    private Integer failedLoginAttempts;
+    private LocalDateTime lastLoginAt;
+}
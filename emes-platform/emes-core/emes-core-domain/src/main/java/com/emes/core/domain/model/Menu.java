@@ -0,0 +1,29 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 메뉴 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Menu {
+
+    private Long menuId;
+    private String menuCode;
+    private String menuName;
+    private Long parentMenuId;
+    private Integer level;
+    private String menuType;
+    private String menuPath;
+    private String componentPath;
+    private String icon;
+    private Integer sortOrder;
+    private Boolean isVisible;
+    private String requiredPermission;
+}
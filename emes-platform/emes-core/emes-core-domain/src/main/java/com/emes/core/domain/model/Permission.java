@@ -0,0 +1,23 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 권한 도메인 모델 (MyBatis VO)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class Permission {
+
+    private Long permissionId;
+    private String permissionCode;
+    private String permissionName;
+    private String resource;
+    private String action;
+    private Boolean isActive;
+}
@@ -0,0 +1,29 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * Refresh Token 도메인 모델 (MyBatis VO)
+ * token_value 에는 토큰 원문이 아닌 SHA-256 해시를 저장
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class RefreshToken {
+
+    private Long tokenId;
+    private Long userId;
+    private String tokenValue;
+    private LocalDateTime expiresAt;
+    private String ipAddress;
+    private String userAgent;
+    private Boolean isRevoked;
+    private LocalDateTime revokedAt;
+    private LocalDateTime createdAt;
+}
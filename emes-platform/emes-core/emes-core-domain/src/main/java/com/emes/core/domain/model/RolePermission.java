@@ -0,0 +1,17 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 역할-권한 매핑 (역할 ID + 권한 코드)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class RolePermission {
+
+    private Long roleId;
+    private String permissionCode;
+}
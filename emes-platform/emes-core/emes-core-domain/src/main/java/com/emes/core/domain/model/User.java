@@ -35,4 +35,6 @@ public class User {
     private LocalDateTime updatedAt;
     private LocalDateTime deletedAt;
     private Integer version;
+    /** 행 버전 (row_ver, 검색 색인 동기화 조회에서만 채움) */
+    private Long rowVersion;
 }
@@ -0,0 +1,16 @@
+package com.emes.core.domain.model;
+
+import lombok.Data;
+import lombok.EqualsAndHashCode;
+import lombok.NoArgsConstructor;
+
+/**
+ * 사용자 페이지 조회 행 (사용자 + COUNT(*) OVER() 전체 건수)
+ */
+@Data
+@NoArgsConstructor
+@EqualsAndHashCode(callSuper = true)
+public class UserPageRow extends User {
+
+    private Long totalCount;
+}
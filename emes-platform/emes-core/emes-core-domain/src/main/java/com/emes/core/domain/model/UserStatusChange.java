@@ -0,0 +1,17 @@
+package com.emes.core.domain.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일괄 상태 변경 결과 (사용자 ID + 실제 값이 바뀌었는지 여부)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserStatusChange {
+
+    private Long userId;
+    private Boolean changed;
+}
@@ -0,0 +1,25 @@
+package com.emes.core.search.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 사용자 검색 색인 상태 DTO
+ */
+@Getter
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class UserSearchIndexStatus {
+
+    private boolean ready;
+    private boolean rebuilding;
+    private int documentCount;
+    private int deletedCount;
+    private LocalDateTime lastRebuiltAt;
+    private Long lastRebuildMillis;
+}
@@ -0,0 +1,290 @@
+package com.emes.core.search.index;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * 인메모리 n-gram 역색인 (필드별 1-gram / 2-gram → 문서 번호 posting)
+ * 부분 문자열 검색(LIKE '%x%')을 posting 교집합으로 후보를 좁힌 뒤 원문 contains 로 검증
+ * 한글은 음절 단위 n-gram 으로 처리 (형태소 분석 없이 부분 일치 검색 지원)
+ *
+ * 문서 번호는 추가 순서대로 증가하므로 posting 은 항상 정렬 상태를 유지함
+ * 수정/삭제 시 기존 문서 번호는 삭제 표시만 하고 새 번호로 다시 추가 (삭제 비율이 커지면 재구축)
+ */
+public class NgramIndex {
+
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int COMPACTION_MIN_DELETED = 10_000;
+    private static final long UNIGRAM = 1L;
+    private static final long BIGRAM = 2L;
+
+    private final int fieldCount;
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Map<Long, Postings> postings = new HashMap<>();
+    private final Map<Long, Integer> docNoById = new HashMap<>();
+    private final BitSet deleted = new BitSet();
+
+    private long[] ids = new long[INITIAL_CAPACITY];
+    private String[][] values = new String[INITIAL_CAPACITY][];
+    private int docCount;
+    private int deletedCount;
+
+    public NgramIndex(int fieldCount) {
+        this.fieldCount = fieldCount;
+    }
+
+    /**
+     * 검색 정규화 (NFKC + 소문자: DB 기본 Collation 의 대소문자 무시 비교와 맞춤, 분리된 한글 자모도 음절로 결합)
+     */
+    public static String normalize(String value) {
+        if (value == null) {
+            return null;
+        }
+        return Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * 문서 추가 (같은 ID 가 있으면 교체, 값이 같으면 무시)
+     * @param fieldValues 필드 순서대로의 원문 값 (null 허용)
+     */
+    public void put(long id, String[] fieldValues) {
+        String[] normalized = new String[fieldCount];
+        for (int field = 0; field < fieldCount; field++) {
+            normalized[field] = normalize(fieldValues[field]);
+        }
+
+        lock.writeLock().lock();
+        try {
+            // 색인 필드 값이 그대로면 교체하지 않음 (삭제 표시 누적 방지)
+            Integer existing = docNoById.get(id);
+            if (existing != null && Arrays.equals(values[existing], normalized)) {
+                return;
+            }
+            removeInternal(id);
+
+            int docNo = docCount++;
+            ensureCapacity(docCount);
+            ids[docNo] = id;
+            values[docNo] = normalized;
+            docNoById.put(id, docNo);
+
+            for (int field = 0; field < fieldCount; field++) {
+                addGrams(field, normalized[field], docNo);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 문서 삭제
+     */
+    public boolean remove(long id) {
+        lock.writeLock().lock();
+        try {
+            return removeInternal(id);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 검색 (모든 필드 조건을 AND 로 결합)
+     * @param terms 필드별 검색어 (null 이면 해당 필드 조건 없음, 하나 이상 지정 필요)
+     * @param maxHits 최대 결과 수
+     * @return 일치하는 ID 목록 (결과가 maxHits 를 넘으면 null)
+     */
+    public long[] search(String[] terms, int maxHits) {
+        String[] normalizedTerms = new String[fieldCount];
+        List<Long> keys = new ArrayList<>();
+        for (int field = 0; field < fieldCount; field++) {
+            String term = normalize(terms[field]);
+            if (term == null || term.isEmpty()) {
+                continue;
+            }
+            normalizedTerms[field] = term;
+            if (term.length() == 1) {
+                keys.add(unigramKey(field, term.charAt(0)));
+            } else {
+                for (int i = 0; i + 1 < term.length(); i++) {
+                    keys.add(bigramKey(field, term.charAt(i), term.charAt(i + 1)));
+                }
+            }
+        }
+        if (keys.isEmpty()) {
+            throw new IllegalArgumentException("At least one search term is required");
+        }
+
+        lock.readLock().lock();
+        try {
+            // 1. 검색어 n-gram 의 posting 수집 (하나라도 없으면 결과 없음)
+            List<Postings> lists = new ArrayList<>(keys.size());
+            for (Long key : keys) {
+                Postings list = postings.get(key);
+                if (list == null) {
+                    return new long[0];
+                }
+                lists.add(list);
+            }
+            lists.sort(Comparator.comparingInt(list -> list.size));
+
+            // 2. 가장 짧은 posting 을 기준으로 교집합 + 원문 검증
+            Postings smallest = lists.get(0);
+            int[] positions = new int[lists.size()];
+            long[] result = new long[Math.min(maxHits, smallest.size)];
+            int count = 0;
+
+            candidates:
+            for (int i = 0; i < smallest.size; i++) {
+                int docNo = smallest.docs[i];
+                if (deleted.get(docNo)) {
+                    continue;
+                }
+                for (int l = 1; l < lists.size(); l++) {
+                    Postings other = lists.get(l);
+                    positions[l] = other.seek(positions[l], docNo);
+                    if (positions[l] >= other.size || other.docs[positions[l]] != docNo) {
+                        continue candidates;
+                    }
+                }
+                if (!matches(values[docNo], normalizedTerms)) {
+                    continue;
+                }
+                if (count == maxHits) {
+                    return null;
+                }
+                result[count++] = ids[docNo];
+            }
+            return count == result.length ? result : Arrays.copyOf(result, count);
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDocumentCount() {
+        lock.readLock().lock();
+        try {
+            return docNoById.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    public int getDeletedCount() {
+        lock.readLock().lock();
+        try {
+            return deletedCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 삭제 표시된 문서가 전체의 1/4 을 넘으면 재구축 필요
+     */
+    public boolean needsCompaction() {
+        lock.readLock().lock();
+        try {
+            return deletedCount >= COMPACTION_MIN_DELETED && deletedCount * 4L > docCount;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean removeInternal(long id) {
+        Integer docNo = docNoById.remove(id);
+        if (docNo == null) {
+            return false;
+        }
+        deleted.set(docNo);
+        values[docNo] = null;
+        deletedCount++;
+        return true;
+    }
+
+    private void addGrams(int field, String value, int docNo) {
+        if (value == null || value.isEmpty()) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            addPosting(unigramKey(field, c), docNo);
+            if (i + 1 < value.length()) {
+                addPosting(bigramKey(field, c, value.charAt(i + 1)), docNo);
+            }
+        }
+    }
+
+    private void addPosting(long key, int docNo) {
+        postings.computeIfAbsent(key, k -> new Postings()).add(docNo);
+    }
+
+    private boolean matches(String[] docValues, String[] normalizedTerms) {
+        for (int field = 0; field < fieldCount; field++) {
+            String term = normalizedTerms[field];
+            if (term != null && (docValues[field] == null || !docValues[field].contains(term))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > ids.length) {
+            int newLength = Math.max(capacity, ids.length * 2);
+            ids = Arrays.copyOf(ids, newLength);
+            values = Arrays.copyOf(values, newLength);
+        }
+    }
+
+    /**
+     * n-gram 키: [필드 8bit][종류 8bit][문자1 16bit][문자2 16bit]
+     */
+    private static long unigramKey(int field, char c) {
+        return ((long) field << 40) | (UNIGRAM << 32) | ((long) c << 16);
+    }
+
+    private static long bigramKey(int field, char c1, char c2) {
+        return ((long) field << 40) | (BIGRAM << 32) | ((long) c1 << 16) | c2;
+    }
+
+    /**
+     * 정렬된 문서 번호 목록 (int 배열, 박싱 없음)
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int docNo) {
+            // 같은 문서에 같은 n-gram 이 여러 번 나오면 한 번만 기록
+            if (size > 0 && docs[size - 1] == docNo) {
+                return;
+            }
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = docNo;
+        }
+
+        /**
+         * from 이후에서 target 이상인 첫 위치 (이진 탐색)
+         */
+        int seek(int from, int target) {
+            if (from >= size || docs[from] >= target) {
+                return from;
+            }
+            int index = Arrays.binarySearch(docs, from, size, target);
+            return index >= 0 ? index : -index - 1;
+        }
+    }
+}
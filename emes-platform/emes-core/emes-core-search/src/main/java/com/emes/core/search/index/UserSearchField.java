@@ -0,0 +1,12 @@
+package com.emes.core.search.index;
+
+/**
+ * 사용자 검색 색인 필드 (ordinal = NgramIndex 필드 번호)
+ */
+public enum UserSearchField {
+    USERNAME,
+    EMAIL,
+    FULL_NAME,
+    DEPARTMENT,
+    POSITION
+}
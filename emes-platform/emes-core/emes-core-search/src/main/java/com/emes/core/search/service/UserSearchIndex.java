@@ -0,0 +1,343 @@
+package com.emes.core.search.service;
+
+import com.emes.core.domain.event.UserChangedEvent;
+import com.emes.core.domain.mapper.UserMapper;
+import com.emes.core.domain.model.User;
+import com.emes.core.search.dto.UserSearchIndexStatus;
+import com.emes.core.search.index.NgramIndex;
+import com.emes.core.search.index.UserSearchField;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 검색 색인 서비스
+ * username / email / full_name / department / position 을 NgramIndex 로 색인하여
+ * LIKE '%x%' 전체 스캔 대신 일치하는 user_id 목록을 반환
+ *
+ * - 기동 완료 후 비동기 전체 구축, 이후 UserChangedEvent 로 증분 반영 (커밋 후)
+ * - 다른 서버 / DB 직접 변경은 refresh-interval-ms 마다 row_ver 가 마지막 반영 이후인 사용자만 조회하여 반영
+ * - 동기화가 refresh-interval-ms 의 3배 이상 밀리면 색인을 쓰지 않음 (LIKE 검색으로 대체, 누락 방지)
+ * - 재구축은 새 색인을 만든 뒤 교체하며, 구축 중 들어온 변경은 보관했다가 새 색인에 재적용
+ */
+@Slf4j
+@Service
+@ConditionalOnProperty(prefix = "emes.search.user-index", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class UserSearchIndex {
+
+    private static final int FIELD_COUNT = UserSearchField.values().length;
+    private static final int LOAD_BATCH_SIZE = 5_000;
+    /** 사용자명 IN 조회 최대 건수 (SQL Server 파라미터 2100개 제한 이내) */
+    private static final int USERNAME_CHUNK_SIZE = 2_000;
+
+    private final UserMapper userMapper;
+    private final long staleAfterMillis;
+
+    private final ExecutorService rebuildExecutor =
+            Executors.newSingleThreadExecutor(new CustomizableThreadFactory("user-search-index-"));
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+    /** 색인 갱신 직렬화 (일괄 등록 반영 시 DB 조회 포함) */
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    private volatile NgramIndex index;
+    private volatile LocalDateTime lastRebuiltAt;
+    private volatile Long lastRebuildMillis;
+    /** 재구축 중에만 non-null (updateLock 으로 보호) */
+    private List<UserChangedEvent> pendingEvents;
+    /** 반영이 끝난 row_ver 상한 (이보다 작은 변경은 모두 색인에 반영됨, updateLock 으로 보호) */
+    private long syncedRowVersion;
+    /** 마지막 DB 동기화 시각 */
+    private volatile long syncedAt;
+
+    public UserSearchIndex(UserMapper userMapper,
+                           @Value("${emes.search.user-index.refresh-interval-ms:30000}") long refreshIntervalMillis) {
+        this.userMapper = userMapper;
+        this.staleAfterMillis = refreshIntervalMillis * 3;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        rebuildAsync();
+    }
+
+    /**
+     * 전체 재구축 요청 (이미 진행 중이면 false)
+     */
+    public boolean rebuildAsync() {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return false;
+        }
+        rebuildExecutor.execute(this::rebuild);
+        return true;
+    }
+
+    /**
+     * 텍스트 검색 조건에 해당하는 사용자 ID 조회
+     * @param terms 필드별 검색어 (LIKE 검색과 같은 부분 일치, 대소문자 무시)
+     * @param maxHits 최대 결과 수
+     * @return 색인으로 처리할 수 없으면 empty (미구축, 동기화 지연, 조건 없음, LIKE 와일드카드 포함, maxHits 초과)
+     */
+    public Optional<List<Long>> findUserIds(Map<UserSearchField, String> terms, int maxHits) {
+        NgramIndex current = index;
+        // 다른 서버의 변경이 빠져 있을 수 있으면 사용하지 않음 (LIKE 재확인은 잘못된 결과만 거를 수 있음)
+        if (current == null || System.currentTimeMillis() - syncedAt > staleAfterMillis) {
+            return Optional.empty();
+        }
+
+        String[] fieldTerms = new String[FIELD_COUNT];
+        boolean hasTerm = false;
+        for (Map.Entry<UserSearchField, String> entry : terms.entrySet()) {
+            String term = entry.getValue();
+            if (term == null || term.isEmpty()) {
+                continue;
+            }
+            // DB LIKE 는 %, _, [ 를 패턴으로 해석하므로 색인 결과와 의미가 달라짐
+            if (term.indexOf('%') >= 0 || term.indexOf('_') >= 0 || term.indexOf('[') >= 0) {
+                return Optional.empty();
+            }
+            fieldTerms[entry.getKey().ordinal()] = term;
+            hasTerm = true;
+        }
+        if (!hasTerm) {
+            return Optional.empty();
+        }
+
+        long[] userIds = current.search(fieldTerms, maxHits);
+        if (userIds == null) {
+            return Optional.empty();
+        }
+        return Optional.of(Arrays.stream(userIds).boxed().toList());
+    }
+
+    /**
+     * 색인 상태
+     */
+    public UserSearchIndexStatus getStatus() {
+        NgramIndex current = index;
+        return UserSearchIndexStatus.builder()
+                .ready(current != null)
+                .rebuilding(rebuilding.get())
+                .documentCount(current != null ? current.getDocumentCount() : 0)
+                .deletedCount(current != null ? current.getDeletedCount() : 0)
+                .lastRebuiltAt(lastRebuiltAt)
+                .lastRebuildMillis(lastRebuildMillis)
+                .build();
+    }
+
+    /**
+     * 사용자 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserChanged(UserChangedEvent event) {
+        NgramIndex current;
+        try {
+            updateLock.lock();
+            try {
+                if (pendingEvents != null) {
+                    pendingEvents.add(event);
+                }
+                current = index;
+                if (current != null) {
+                    apply(current, event);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        } catch (Exception e) {
+            // 커밋은 이미 끝났으므로 요청을 실패시키지 않음 (다음 재구축 때 반영)
+            log.warn("Failed to apply user change to search index: {}", event.getUserId(), e);
+            return;
+        }
+
+        if (current != null && current.needsCompaction()) {
+            rebuildAsync();
+        }
+    }
+
+    /**
+     * 다른 서버 / DB 직접 변경 반영 (재구축 중이면 재구축이 반영하므로 생략)
+     */
+    @Scheduled(fixedDelayString = "${emes.search.user-index.refresh-interval-ms:30000}",
+            initialDelayString = "${emes.search.user-index.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        NgramIndex current;
+        try {
+            updateLock.lock();
+            try {
+                current = index;
+                if (current == null || pendingEvents != null) {
+                    return;
+                }
+                int changed = loadChanges(current);
+                if (changed > 0) {
+                    log.debug("User search index refreshed: {} changed users", changed);
+                }
+            } finally {
+                updateLock.unlock();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to refresh user search index: {}", e.getMessage());
+            return;
+        }
+
+        if (current.needsCompaction()) {
+            rebuildAsync();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        rebuildExecutor.shutdownNow();
+    }
+
+    /**
+     * 전체 재구축 (user_id 순으로 나누어 조회 후 교체)
+     */
+    private void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        try {
+            updateLock.lock();
+            try {
+                pendingEvents = new ArrayList<>();
+            } finally {
+                updateLock.unlock();
+            }
+
+            // 상한을 먼저 읽음 (전체 조회 도중 변경분은 다음 확인 때 다시 반영, 같은 값이면 무시됨)
+            long rowVersion = userMapper.selectIndexRowVersionUpperBound();
+            NgramIndex fresh = new NgramIndex(FIELD_COUNT);
+            int loaded = loadAfter(fresh, 0L);
+
+            updateLock.lock();
+            try {
+                for (UserChangedEvent event : pendingEvents) {
+                    apply(fresh, event);
+                }
+                pendingEvents = null;
+                index = fresh;
+                syncedRowVersion = rowVersion;
+                syncedAt = System.currentTimeMillis();
+            } finally {
+                updateLock.unlock();
+            }
+
+            lastRebuiltAt = LocalDateTime.now();
+            lastRebuildMillis = System.currentTimeMillis() - startedAt;
+            log.info("User search index rebuilt: {} users in {} ms", loaded, lastRebuildMillis);
+        } catch (Exception e) {
+            updateLock.lock();
+            try {
+                pendingEvents = null;
+            } finally {
+                updateLock.unlock();
+            }
+            log.error("Failed to rebuild user search index", e);
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    private void apply(NgramIndex target, UserChangedEvent event) {
+        switch (event.getType()) {
+            case SAVED -> target.put(event.getUserId(), new String[]{
+                    event.getUsername(),
+                    event.getEmail(),
+                    event.getFullName(),
+                    event.getDepartment(),
+                    event.getPosition()
+            });
+            case DELETED -> target.remove(event.getUserId());
+            case BULK_INSERTED -> loadUsernames(target, event.getUsernames());
+        }
+    }
+
+    /**
+     * 사용자명으로 조회하여 색인에 추가
+     * (동시에 등록된 더 큰 ID 가 먼저 색인되었을 수 있으므로 최대 ID 이후 조회로는 누락될 수 있음)
+     */
+    private void loadUsernames(NgramIndex target, List<String> usernames) {
+        for (int from = 0; from < usernames.size(); from += USERNAME_CHUNK_SIZE) {
+            List<String> chunk = usernames.subList(from, Math.min(from + USERNAME_CHUNK_SIZE, usernames.size()));
+            for (User user : userMapper.selectIndexByUsernames(chunk)) {
+                put(target, user);
+            }
+        }
+    }
+
+    /**
+     * syncedRowVersion 이후 변경된 사용자 반영 (삭제된 사용자는 제거, updateLock 을 가진 상태에서 호출)
+     * @return 조회한 사용자 수
+     */
+    private int loadChanges(NgramIndex target) {
+        // 상한을 먼저 읽음 (진행 중인 트랜잭션의 변경은 커밋 후 다음 확인 때 반영)
+        long upperRowVersion = userMapper.selectIndexRowVersionUpperBound();
+        long fromRowVersion = syncedRowVersion;
+        int changed = 0;
+        while (fromRowVersion < upperRowVersion) {
+            List<User> users = userMapper.selectIndexChanges(fromRowVersion, upperRowVersion, LOAD_BATCH_SIZE);
+            for (User user : users) {
+                if (user.getDeletedAt() != null) {
+                    target.remove(user.getUserId());
+                } else {
+                    put(target, user);
+                }
+            }
+            changed += users.size();
+            if (users.size() < LOAD_BATCH_SIZE) {
+                break;
+            }
+            fromRowVersion = users.get(users.size() - 1).getRowVersion() + 1;
+        }
+        syncedRowVersion = upperRowVersion;
+        syncedAt = System.currentTimeMillis();
+        return changed;
+    }
+
+    /**
+     * afterUserId 보다 큰 사용자를 모두 색인에 추가
+     * @return 추가한 사용자 수
+     */
+    private int loadAfter(NgramIndex target, long afterUserId) {
+        int loaded = 0;
+        long lastUserId = afterUserId;
+        while (true) {
+            List<User> users = userMapper.selectIndexBatch(lastUserId, LOAD_BATCH_SIZE);
+            for (User user : users) {
+                put(target, user);
+            }
+            loaded += users.size();
+            if (users.size() < LOAD_BATCH_SIZE) {
+                return loaded;
+            }
+            lastUserId = users.get(users.size() - 1).getUserId();
+        }
+    }
+
+    private void put(NgramIndex target, User user) {
+        target.put(user.getUserId(), new String[]{
+                user.getUsername(),
+                user.getEmail(),
+                user.getFullName(),
+                user.getDepartment(),
+                user.getPosition()
+        });
+    }
+}
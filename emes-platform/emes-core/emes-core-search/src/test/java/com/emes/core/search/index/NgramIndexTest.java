@@ -0,0 +1,113 @@
+package com.emes.core.search.index;
+
+import org.junit.jupiter.api.Test;
+
+import java.text.Normalizer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NgramIndexTest {
+
+    private static final int USERNAME = 0;
+    private static final int DEPARTMENT = 1;
+
+    private NgramIndex index() {
+        NgramIndex index = new NgramIndex(2);
+        index.put(1L, new String[]{"홍길동", "생산관리팀"});
+        index.put(2L, new String[]{"김철수", "품질관리팀"});
+        index.put(3L, new String[]{"Admin", null});
+        return index;
+    }
+
+    private static String[] terms(String username, String department) {
+        String[] terms = new String[2];
+        terms[USERNAME] = username;
+        terms[DEPARTMENT] = department;
+        return terms;
+    }
+
+    @Test
+    void findsKoreanSubstrings() {
+        NgramIndex index = index();
+
+        assertThat(index.search(terms(null, "관리"), 10)).containsExactly(1L, 2L);
+        assertThat(index.search(terms(null, "생산관"), 10)).containsExactly(1L);
+        assertThat(index.search(terms("길동", null), 10)).containsExactly(1L);
+        assertThat(index.search(terms("길동", "품질"), 10)).isEmpty();
+    }
+
+    @Test
+    void singleCharacterQueryUsesUnigrams() {
+        NgramIndex index = index();
+
+        assertThat(index.search(terms("동", null), 10)).containsExactly(1L);
+        assertThat(index.search(terms(null, "팀"), 10)).containsExactly(1L, 2L);
+        assertThat(index.search(terms("x", null), 10)).isEmpty();
+    }
+
+    @Test
+    void decomposedJamoAndCaseAreNormalized() {
+        NgramIndex index = index();
+
+        // 분리된 자모 (NFD) 로 입력해도 음절로 결합되어 일치
+        String decomposed = Normalizer.normalize("길동", Normalizer.Form.NFD);
+        assertThat(decomposed).hasSizeGreaterThan(2);
+        assertThat(index.search(terms(decomposed, null), 10)).containsExactly(1L);
+
+        assertThat(index.search(terms("ADM", null), 10)).containsExactly(3L);
+    }
+
+    @Test
+    void candidatesAreVerifiedAgainstOriginalValue() {
+        NgramIndex index = new NgramIndex(2);
+        // "생산" / "산팀" bigram 은 모두 있지만 "생산팀" 은 없음
+        index.put(1L, new String[]{"a", "생산 산팀"});
+
+        assertThat(index.search(terms(null, "생산팀"), 10)).isEmpty();
+        assertThat(index.search(terms(null, "산팀"), 10)).containsExactly(1L);
+    }
+
+    @Test
+    void replacedAndRemovedDocumentsAreNotReturned() {
+        NgramIndex index = index();
+
+        index.put(1L, new String[]{"홍길순", "생산관리팀"});
+        assertThat(index.search(terms("길동", null), 10)).isEmpty();
+        assertThat(index.search(terms("길순", null), 10)).containsExactly(1L);
+
+        assertThat(index.remove(2L)).isTrue();
+        assertThat(index.remove(2L)).isFalse();
+        assertThat(index.search(terms(null, "관리"), 10)).containsExactly(1L);
+        assertThat(index.getDocumentCount()).isEqualTo(2);
+        assertThat(index.getDeletedCount()).isEqualTo(2);
+    }
+
+    @Test
+    void putWithSameValuesDoesNotMarkDeleted() {
+        NgramIndex index = index();
+
+        // 색인 필드가 같은 값으로 다시 반영되어도 (로그인 등) 삭제 표시가 쌓이지 않음 (대소문자는 정규화 후 비교)
+        index.put(1L, new String[]{"홍길동", "생산관리팀"});
+        index.put(3L, new String[]{"ADMIN", null});
+
+        assertThat(index.getDeletedCount()).isZero();
+        assertThat(index.search(terms("admin", null), 10)).containsExactly(3L);
+    }
+
+    @Test
+    void returnsNullWhenHitsExceedLimit() {
+        NgramIndex index = index();
+
+        assertThat(index.search(terms(null, "관리"), 1)).isNull();
+        assertThat(index.search(terms(null, "관리"), 2)).containsExactly(1L, 2L);
+    }
+
+    @Test
+    void rejectsQueryWithoutTerms() {
+        NgramIndex index = index();
+
+        assertThatThrownBy(() -> index.search(terms(null, ""), 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
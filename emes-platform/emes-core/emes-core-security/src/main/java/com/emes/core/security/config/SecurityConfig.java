@@ -1,5 +1,9 @@
 package com.emes.core.security.config;
 
+import com.emes.core.security.password.BCryptCostCalibrator;
+import com.emes.core.security.password.OffloadingPasswordEncoder;
+import com.emes.core.security.password.PasswordHashingExecutor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -23,11 +27,17 @@ public class SecurityConfig {
 
     /**
      * Password Encoder Bean
-     * BCrypt 알고리즘 사용 (strength 12)
+     * BCrypt 알고리즘 사용 (strength 미지정 시 기동 시 목표 해시 시간에 맞춰 보정)
+     * 해시 연산은 PasswordHashingExecutor 에서 실행
      */
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder(12);
+    public PasswordEncoder passwordEncoder(
+            PasswordHashingExecutor passwordHashingExecutor,
+            @Value("${emes.security.password-hashing.bcrypt-strength:0}") int strength,
+            @Value("${emes.security.password-hashing.target-millis:250}") long targetMillis) {
+        int bcryptStrength = strength > 0 ? strength : BCryptCostCalibrator.calibrate(targetMillis);
+        return new OffloadingPasswordEncoder(
+                new BCryptPasswordEncoder(bcryptStrength), passwordHashingExecutor, bcryptStrength);
     }
 
     /**
@@ -1,5 +1,6 @@
 package com.emes.core.security.filter;
 
+import com.emes.core.security.jwt.JwtPrincipal;
 import com.emes.core.security.jwt.JwtTokenProvider;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -7,7 +8,6 @@ import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
@@ -33,22 +33,20 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
             HttpServletResponse response,
             FilterChain filterChain) throws ServletException, IOException {
 
-        try {
-            // 1. Request Header에서 JWT 토큰 추출
-            String token = resolveToken(request);
+        // 1. Request Header에서 JWT 토큰 추출
+        String token = resolveToken(request);
 
-            // 2. 토큰 유효성 검증
-            if (StringUtils.hasText(token) && jwtTokenProvider.validateToken(token)) {
-                // 3. 토큰에서 Authentication 정보 추출
-                Authentication authentication = jwtTokenProvider.getAuthentication(token);
+        if (StringUtils.hasText(token)) {
+            // 2. 토큰 검증 (서명 검증 1회, 캐시된 토큰은 검증 생략)
+            JwtPrincipal principal = jwtTokenProvider.verify(token);
 
-                // 4. SecurityContext에 Authentication 정보 저장
-                SecurityContextHolder.getContext().setAuthentication(authentication);
-
-                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", authentication.getName());
+            // 3. SecurityContext에 Authentication 정보 저장
+            if (principal != null) {
+                SecurityContextHolder.getContext().setAuthentication(principal.toAuthentication());
+                log.debug("Security Context에 '{}' 인증 정보를 저장했습니다.", principal.getUsername());
+            } else {
+                log.debug("유효하지 않은 JWT 토큰입니다: {}", request.getRequestURI());
             }
-        } catch (Exception e) {
-            log.error("Security Context에 인증 정보를 저장할 수 없습니다: {}", e.getMessage());
         }
 
         filterChain.doFilter(request, response);
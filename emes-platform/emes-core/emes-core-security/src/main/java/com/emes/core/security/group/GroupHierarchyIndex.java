@@ -0,0 +1,341 @@
+package com.emes.core.security.group;
+
+import com.emes.core.domain.event.UserGroupChangedEvent;
+import com.emes.core.domain.mapper.UserGroupMapper;
+import com.emes.core.domain.mapper.UserMapper;
+import com.emes.core.domain.model.GroupRole;
+import com.emes.core.domain.model.UserGroup;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 사용자 그룹 계층 색인 (메모리 closure)
+ * 그룹별 상위 그룹 체인(자기 자신 → 최상위)과 그룹별 역할을 미리 계산해 두어
+ * 사용자의 유효 역할(직접 역할 + 소속 그룹과 그 상위 그룹의 역할)을 재귀 CTE 없이 O(깊이) 로 계산
+ *
+ * - 그룹 이동 / 활성 변경 시 해당 그룹과 하위 그룹의 체인만 다시 계산
+ * - 그룹-역할 변경 시 해당 그룹의 역할만 다시 조회
+ * - 이벤트 없이 DB 에서 직접 / 다른 서버에서 바뀐 경우는 refresh-interval-ms 마다 체크섬을 비교하여 전체 다시 로드
+ * - 비활성 / 삭제된 그룹은 색인에서 빠지며, 그 하위 그룹은 해당 그룹 위로 상속받지 않음
+ * - 변경은 새 상태를 만들어 교체하므로 조회는 잠금 없음
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class GroupHierarchyIndex {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final UserGroupMapper userGroupMapper;
+    private final UserMapper userMapper;
+
+    private volatile State state;
+    private volatile String changeToken;
+    /** 상태 교체 직렬화 */
+    private final ReentrantLock updateLock = new ReentrantLock();
+
+    /**
+     * 사용자 유효 역할 ID (직접 역할 + 그룹 상속 역할)
+     */
+    public List<Long> resolveRoleIds(Long userId) {
+        return effectiveRoleIds(userMapper.selectRoleIdsByUserId(userId), userMapper.selectGroupIdsByUserId(userId));
+    }
+
+    /**
+     * 사용자명으로 유효 역할 ID 조회
+     */
+    public List<Long> resolveRoleIdsByUsername(String username) {
+        return effectiveRoleIds(userMapper.selectRoleIdsByUsername(username),
+                userMapper.selectGroupIdsByUsername(username));
+    }
+
+    /**
+     * 직접 역할과 소속 그룹으로 유효 역할 계산 (메모리)
+     */
+    public List<Long> effectiveRoleIds(Collection<Long> directRoleIds, Collection<Long> groupIds) {
+        Set<Long> roleIds = new LinkedHashSet<>(directRoleIds);
+        if (groupIds.isEmpty()) {
+            return List.copyOf(roleIds);
+        }
+
+        State current = current();
+        for (Long groupId : groupIds) {
+            for (long ancestorId : current.ancestors.getOrDefault(groupId, EMPTY)) {
+                for (long roleId : current.roles.getOrDefault(ancestorId, EMPTY)) {
+                    roleIds.add(roleId);
+                }
+            }
+        }
+        return List.copyOf(roleIds);
+    }
+
+    /**
+     * 상위 그룹 체인 (자기 자신 포함, 가까운 순, 비활성 그룹이면 빈 목록)
+     */
+    public List<Long> ancestorsOf(Long groupId) {
+        long[] chain = current().ancestors.getOrDefault(groupId, EMPTY);
+        List<Long> result = new ArrayList<>(chain.length);
+        for (long id : chain) {
+            result.add(id);
+        }
+        return result;
+    }
+
+    /**
+     * 하위 그룹 전체 (자기 자신 포함)
+     */
+    public Set<Long> descendantsOf(Long groupId) {
+        return current().subtree(groupId);
+    }
+
+    /**
+     * 그룹 변경 반영 (커밋 후)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onUserGroupChanged(UserGroupChangedEvent event) {
+        if (state == null) {
+            return;
+        }
+        if (event.getGroupId() == null) {
+            reload();
+        } else if (event.getType() == UserGroupChangedEvent.Type.STRUCTURE) {
+            updateGroup(event.getGroupId());
+        } else {
+            updateRoles(event.getGroupId());
+        }
+    }
+
+    /**
+     * 다른 서버 / DB 직접 변경 확인 (체크섬이 바뀐 경우만 다시 로드)
+     */
+    @Scheduled(fixedDelayString = "${emes.group.refresh-interval-ms:30000}",
+            initialDelayString = "${emes.group.refresh-interval-ms:30000}")
+    public void refreshIfChanged() {
+        if (state == null) {
+            return;
+        }
+        try {
+            if (!Objects.equals(userGroupMapper.selectChangeToken(), changeToken)) {
+                reload();
+            }
+        } catch (Exception e) {
+            log.warn("Failed to check group changes: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 전체 다시 로드
+     */
+    public void reload() {
+        updateLock.lock();
+        try {
+            // 변경 토큰을 먼저 읽어 로드 도중 변경분은 다음 확인 때 반영
+            String token = userGroupMapper.selectChangeToken();
+            List<UserGroup> groups = userGroupMapper.selectActiveGroups();
+            List<GroupRole> groupRoles = userGroupMapper.selectAllGroupRoles();
+
+            Map<Long, Long> parents = new HashMap<>();
+            Map<Long, List<Long>> children = new HashMap<>();
+            for (UserGroup group : groups) {
+                parents.put(group.getGroupId(), group.getParentGroupId());
+                if (group.getParentGroupId() != null) {
+                    children.computeIfAbsent(group.getParentGroupId(), id -> new ArrayList<>()).add(group.getGroupId());
+                }
+            }
+
+            Map<Long, long[]> ancestors = new HashMap<>();
+            for (Long groupId : parents.keySet()) {
+                ancestors.put(groupId, chainOf(groupId, parents));
+            }
+
+            Map<Long, List<Long>> rolesByGroup = new HashMap<>();
+            for (GroupRole groupRole : groupRoles) {
+                rolesByGroup.computeIfAbsent(groupRole.getGroupId(), id -> new ArrayList<>()).add(groupRole.getRoleId());
+            }
+            Map<Long, long[]> roles = new HashMap<>();
+            rolesByGroup.forEach((groupId, roleIds) -> roles.put(groupId, toArray(roleIds)));
+
+            state = new State(parents, children, ancestors, roles);
+            changeToken = token;
+            log.info("Group hierarchy loaded: {} groups, {} group roles", groups.size(), groupRoles.size());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    private State current() {
+        State current = state;
+        if (current != null) {
+            return current;
+        }
+        updateLock.lock();
+        try {
+            // 잠금 대기 중 다른 스레드가 먼저 로드했으면 다시 조회하지 않음
+            if (state == null) {
+                reload();
+            }
+            return state;
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 그룹 하나의 위치 / 활성 변경 반영 (해당 그룹과 하위 그룹의 체인만 다시 계산)
+     */
+    private void updateGroup(Long groupId) {
+        updateLock.lock();
+        try {
+            State current = state;
+            UserGroup group = userGroupMapper.selectActiveGroupById(groupId);
+
+            // 1. 상위 / 하위 관계 갱신 (바뀐 목록만 복사)
+            Map<Long, Long> parents = new HashMap<>(current.parents);
+            Map<Long, List<Long>> children = new HashMap<>(current.children);
+            Long oldParent = current.parents.get(groupId);
+            if (oldParent != null && children.containsKey(oldParent)) {
+                List<Long> siblings = new ArrayList<>(children.get(oldParent));
+                siblings.remove(groupId);
+                children.put(oldParent, siblings);
+            }
+            if (group != null) {
+                parents.put(groupId, group.getParentGroupId());
+                if (group.getParentGroupId() != null) {
+                    List<Long> siblings = new ArrayList<>(children.getOrDefault(group.getParentGroupId(), List.of()));
+                    siblings.add(groupId);
+                    children.put(group.getParentGroupId(), siblings);
+                }
+            } else {
+                parents.remove(groupId);
+            }
+
+            // 2. 하위 그룹 체인 다시 계산
+            Map<Long, long[]> ancestors = new HashMap<>(current.ancestors);
+            Set<Long> subtree = subtree(groupId, children);
+            for (Long id : subtree) {
+                if (parents.containsKey(id)) {
+                    ancestors.put(id, chainOf(id, parents));
+                } else {
+                    ancestors.remove(id);
+                }
+            }
+
+            state = new State(parents, children, ancestors, current.roles);
+            log.debug("Group hierarchy updated: {} ({} groups recalculated)", groupId, subtree.size());
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 그룹 하나의 역할 다시 조회
+     */
+    private void updateRoles(Long groupId) {
+        updateLock.lock();
+        try {
+            State current = state;
+            Map<Long, long[]> roles = new HashMap<>(current.roles);
+            roles.put(groupId, toArray(userGroupMapper.selectRoleIdsByGroupId(groupId)));
+            state = new State(current.parents, current.children, current.ancestors, roles);
+            log.debug("Group roles updated: {}", groupId);
+        } finally {
+            updateLock.unlock();
+        }
+    }
+
+    /**
+     * 자기 자신부터 최상위까지 (상위가 비활성이면 거기서 끊기고, 순환이면 중단)
+     */
+    private static long[] chainOf(Long groupId, Map<Long, Long> parents) {
+        List<Long> chain = new ArrayList<>();
+        Set<Long> visited = new HashSet<>();
+        Long current = groupId;
+        while (current != null && parents.containsKey(current) && visited.add(current)) {
+            chain.add(current);
+            current = parents.get(current);
+        }
+        if (current != null && visited.contains(current)) {
+            log.warn("Cycle detected in group hierarchy at group {}", current);
+        }
+        return toArray(chain);
+    }
+
+    private static Set<Long> subtree(Long groupId, Map<Long, List<Long>> children) {
+        Set<Long> result = new LinkedHashSet<>();
+        Deque<Long> queue = new ArrayDeque<>();
+        queue.add(groupId);
+        while (!queue.isEmpty()) {
+            Long id = queue.poll();
+            if (result.add(id)) {
+                queue.addAll(children.getOrDefault(id, List.of()));
+            }
+        }
+        return result;
+    }
+
+    private static long[] toArray(List<Long> values) {
+        long[] result = new long[values.size()];
+        for (int i = 0; i < result.length; i++) {
+            result[i] = values.get(i);
+        }
+        return result;
+    }
+
+    /**
+     * 색인 상태 (교체 후 수정하지 않음)
+     */
+    private static final class State {
+
+        /** 활성 그룹 → 상위 그룹 ID (최상위면 null) */
+        private final Map<Long, Long> parents;
+        /** 그룹 → 하위 그룹 ID (비활성 그룹의 하위도 유지하여 재활성 시 사용) */
+        private final Map<Long, List<Long>> children;
+        /** 활성 그룹 → 상위 그룹 체인 (자기 자신 포함) */
+        private final Map<Long, long[]> ancestors;
+        /** 그룹 → 역할 ID */
+        private final Map<Long, long[]> roles;
+
+        private State(Map<Long, Long> parents, Map<Long, List<Long>> children,
+                      Map<Long, long[]> ancestors, Map<Long, long[]> roles) {
+            this.parents = Collections.unmodifiableMap(parents);
+            this.children = Collections.unmodifiableMap(children);
+            this.ancestors = Collections.unmodifiableMap(ancestors);
+            this.roles = Collections.unmodifiableMap(roles);
+        }
+
+        private Set<Long> subtree(Long groupId) {
+            if (!parents.containsKey(groupId)) {
+                return Set.of();
+            }
+            Set<Long> result = GroupHierarchyIndex.subtree(groupId, children);
+            result.removeIf(id -> !ancestors.containsKey(id) || !contains(ancestors.get(id), groupId));
+            return Collections.unmodifiableSet(result);
+        }
+
+        private static boolean contains(long[] chain, long groupId) {
+            for (long id : chain) {
+                if (id == groupId) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
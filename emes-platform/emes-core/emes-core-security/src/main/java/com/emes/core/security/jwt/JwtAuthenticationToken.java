@@ -5,6 +5,7 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 
 import java.util.Arrays;
+import java.util.BitSet;
 import java.util.Collection;
 import java.util.stream.Collectors;
 
@@ -15,15 +16,42 @@ public class JwtAuthenticationToken extends AbstractAuthenticationToken {
 
     private final String principal;
     private String credentials;
+    /** 권한 비트셋 (권한 번호 = permission_id, 없으면 authorities 로만 판단) */
+    private final BitSet permissions;
 
     public JwtAuthenticationToken(String principal, String authorities) {
-        super(parseAuthorities(authorities));
+        this(principal, parseAuthorities(authorities));
+    }
+
+    public JwtAuthenticationToken(String principal, Collection<? extends GrantedAuthority> authorities) {
+        this(principal, authorities, null);
+    }
+
+    public JwtAuthenticationToken(String principal, Collection<? extends GrantedAuthority> authorities,
+                                  BitSet permissions) {
+        super(authorities);
         this.principal = principal;
         this.credentials = null;
+        this.permissions = permissions;
         setAuthenticated(true);
     }
 
-    private static Collection<? extends GrantedAuthority> parseAuthorities(String authorities) {
+    /**
+     * 권한 보유 여부 (비트셋이 있으면 비트 조회, 없으면 authorities 비교)
+     */
+    public boolean hasPermission(int ordinal, String permissionCode) {
+        if (permissions != null) {
+            return ordinal >= 0 && permissions.get(ordinal);
+        }
+        for (GrantedAuthority authority : getAuthorities()) {
+            if (authority.getAuthority().equals(permissionCode)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    static Collection<? extends GrantedAuthority> parseAuthorities(String authorities) {
         if (authorities == null || authorities.isEmpty()) {
             return Arrays.asList();
         }
@@ -0,0 +1,33 @@
+package com.emes.core.security.jwt;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.time.Instant;
+import java.util.BitSet;
+import java.util.List;
+
+/**
+ * 서명 검증이 끝난 JWT 주체 (불변 - 검증 캐시에 그대로 보관)
+ */
+@Getter
+@AllArgsConstructor
+public class JwtPrincipal {
+
+    private final String username;
+    private final List<GrantedAuthority> authorities;
+    /** 권한 비트셋 (권한 번호 = permission_id, 이전 형식 토큰이면 null) - 읽기 전용으로만 사용 */
+    @Getter(AccessLevel.NONE)
+    private final BitSet permissions;
+    private final Instant expiresAt;
+
+    /**
+     * SecurityContext 에 저장할 Authentication 생성 (권한 목록은 재파싱 없이 공유)
+     */
+    public Authentication toAuthentication() {
+        return new JwtAuthenticationToken(username, authorities, permissions);
+    }
+}
@@ -1,5 +1,9 @@
 package com.emes.core.security.jwt;
 
+import com.emes.core.security.permission.PermissionRegistry;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
 import lombok.extern.slf4j.Slf4j;
@@ -10,28 +14,89 @@ import org.springframework.stereotype.Component;
 
 import javax.crypto.SecretKey;
 import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.BitSet;
 import java.util.Date;
-import java.util.stream.Collectors;
+import java.util.List;
+import java.util.UUID;
 
 /**
  * JWT Token Provider
  * JWT 토큰 생성 및 검증을 담당
+ *
+ * 검증은 verify 한 번으로 끝나며 결과(JwtPrincipal)를 토큰 해시 기준으로 캐시
+ * - 검증 캐시: 토큰 만료 시각(최대 VERIFIED_CACHE_MAX_TTL)까지 보관
+ * - 실패 캐시: 위조/형식 오류 토큰을 잠시 보관하여 같은 토큰 반복 시 파싱 생략
+ *
+ * 권한은 PermissionRegistry 의 비트셋(perm)과 비트별 체크값(pc)으로 담고,
+ * 레지스트리에 없는 권한(ROLE_* 등)만 문자열(auth)로 담음
+ * 레지스트리 버전(pv)은 체크값을 모르는 이전 버전 서버와의 호환(롤링 배포)을 위해 함께 담음
  */
 @Slf4j
 @Component
 public class JwtTokenProvider {
 
+    private static final String AUTHORITIES_CLAIM = "auth";
+    private static final String PERMISSIONS_CLAIM = "perm";
+    private static final String PERMISSION_CHECKS_CLAIM = "pc";
+    private static final String REGISTRY_VERSION_CLAIM = "pv";
+    private static final Duration VERIFIED_CACHE_MAX_TTL = Duration.ofMinutes(10);
+    private static final Duration REJECTED_CACHE_TTL = Duration.ofMinutes(5);
+
+    private final PermissionRegistry permissionRegistry;
     private final SecretKey secretKey;
+    private final JwtParser jwtParser;
     private final long accessTokenValidityInMilliseconds;
     private final long refreshTokenValidityInMilliseconds;
 
+    private final Cache<String, JwtPrincipal> verifiedTokens;
+    private final Cache<String, Boolean> rejectedTokens;
+
     public JwtTokenProvider(
+            PermissionRegistry permissionRegistry,
             @Value("${jwt.secret}") String secret,
             @Value("${jwt.access-token-validity-in-seconds}") long accessTokenValidityInSeconds,
-            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds) {
+            @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+            @Value("${jwt.verified-cache-size:10000}") long verifiedCacheSize) {
+        this.permissionRegistry = permissionRegistry;
         this.secretKey = Keys.hmacShaKeyFor(secret.getBytes(StandardCharsets.UTF_8));
+        // JwtParser 는 불변/스레드 안전하므로 한 번만 생성
+        this.jwtParser = Jwts.parser()
+                .verifyWith(secretKey)
+                .build();
         this.accessTokenValidityInMilliseconds = accessTokenValidityInSeconds * 1000;
         this.refreshTokenValidityInMilliseconds = refreshTokenValidityInSeconds * 1000;
+
+        this.verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfter(new Expiry<String, JwtPrincipal>() {
+                    @Override
+                    public long expireAfterCreate(String key, JwtPrincipal principal, long currentTime) {
+                        Duration untilExpiry = Duration.between(Instant.now(), principal.getExpiresAt());
+                        long nanos = Math.min(untilExpiry.toNanos(), VERIFIED_CACHE_MAX_TTL.toNanos());
+                        return Math.max(nanos, 0L);
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, JwtPrincipal principal, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+        this.rejectedTokens = Caffeine.newBuilder()
+                .maximumSize(verifiedCacheSize)
+                .expireAfterWrite(REJECTED_CACHE_TTL)
+                .build();
     }
 
     /**
@@ -39,16 +104,22 @@ public class JwtTokenProvider {
      */
     public String createAccessToken(Authentication authentication) {
         String username = authentication.getName();
-        String authorities = authentication.getAuthorities().stream()
-                .map(GrantedAuthority::getAuthority)
-                .collect(Collectors.joining(","));
+
+        // 1. 권한 → 비트셋 (레지스트리에 없는 권한은 문자열로)
+        PermissionRegistry.Snapshot registry = permissionRegistry.current();
+        List<String> otherAuthorities = new ArrayList<>();
+        BitSet permissions = registry.encode(authentication.getAuthorities(), otherAuthorities);
 
         Date now = new Date();
         Date validity = new Date(now.getTime() + accessTokenValidityInMilliseconds);
 
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
         return Jwts.builder()
                 .subject(username)
-                .claim("auth", authorities)
+                .claim(PERMISSIONS_CLAIM, encoder.encodeToString(permissions.toByteArray()))
+                .claim(PERMISSION_CHECKS_CLAIM, encoder.encodeToString(registry.checksOf(permissions)))
+                .claim(REGISTRY_VERSION_CLAIM, registry.getVersion())
+                .claim(AUTHORITIES_CLAIM, String.join(",", otherAuthorities))
                 .issuedAt(now)
                 .expiration(validity)
                 .signWith(secretKey)
@@ -62,7 +133,9 @@ public class JwtTokenProvider {
         Date now = new Date();
         Date validity = new Date(now.getTime() + refreshTokenValidityInMilliseconds);
 
+        // jti: 같은 초에 여러 번 발급해도 토큰(저장 해시)이 겹치지 않도록
         return Jwts.builder()
+                .id(UUID.randomUUID().toString())
                 .subject(username)
                 .issuedAt(now)
                 .expiration(validity)
@@ -70,15 +143,85 @@ public class JwtTokenProvider {
                 .compact();
     }
 
+    /**
+     * Token 검증 (서명 + 만료 확인 후 주체 반환)
+     * @return 유효하지 않거나 만료된 토큰이면 null
+     */
+    public JwtPrincipal verify(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+
+        // 1. 캐시 조회 (검증 완료 / 거부된 토큰)
+        String key = hashToken(token);
+        JwtPrincipal cached = verifiedTokens.getIfPresent(key);
+        if (cached != null) {
+            return cached;
+        }
+        if (rejectedTokens.getIfPresent(key) != null) {
+            return null;
+        }
+
+        // 2. 서명 검증 및 Claims 파싱
+        Claims claims;
+        try {
+            claims = jwtParser.parseSignedClaims(token).getPayload();
+        } catch (ExpiredJwtException e) {
+            // 만료는 시간이 지나도 바뀌지 않지만 정상 사용 흐름이므로 실패 캐시에 넣지 않음
+            log.debug("Expired JWT token: {}", e.getMessage());
+            return null;
+        } catch (JwtException | IllegalArgumentException e) {
+            // 위조/형식 오류 토큰이 대량으로 들어와도 로그가 쌓이지 않도록 debug 레벨
+            log.debug("Invalid JWT token: {}", e.getMessage());
+            rejectedTokens.put(key, Boolean.TRUE);
+            return null;
+        }
+
+        // 3. 주체 생성 후 캐시 (만료 시각까지, 발급 토큰은 항상 exp 포함)
+        if (claims.getExpiration() == null) {
+            log.debug("JWT token without expiration: {}", claims.getSubject());
+            rejectedTokens.put(key, Boolean.TRUE);
+            return null;
+        }
+        List<GrantedAuthority> authorities =
+                new ArrayList<>(JwtAuthenticationToken.parseAuthorities(claims.get(AUTHORITIES_CLAIM, String.class)));
+        BitSet permissions = null;
+        String encodedPermissions = claims.get(PERMISSIONS_CLAIM, String.class);
+        if (encodedPermissions != null) {
+            // 4. ID 기준으로 해석 (모르는 ID / 코드가 바뀐 ID 의 비트는 제외)
+            //    체크값이 없는 이전 형식 토큰은 발급 시점 레지스트리 버전이 같을 때만 해석
+            //    레지스트리 갱신 후 다시 유효해질 수 있으므로 실패 캐시에는 넣지 않음
+            permissions = BitSet.valueOf(Base64.getUrlDecoder().decode(encodedPermissions));
+            String encodedChecks = claims.get(PERMISSION_CHECKS_CLAIM, String.class);
+            PermissionRegistry.Snapshot registry = encodedChecks != null
+                    ? permissionRegistry.decode(permissions, Base64.getUrlDecoder().decode(encodedChecks))
+                    : permissionRegistry.forVersion(claims.get(REGISTRY_VERSION_CLAIM, String.class));
+            if (registry == null) {
+                log.debug("JWT token permissions could not be decoded: {}", claims.getSubject());
+                return null;
+            }
+            authorities.addAll(registry.toAuthorities(permissions));
+        }
+
+        JwtPrincipal principal = new JwtPrincipal(
+                claims.getSubject(),
+                List.copyOf(authorities),
+                permissions,
+                claims.getExpiration().toInstant()
+        );
+        verifiedTokens.put(key, principal);
+        return principal;
+    }
+
     /**
      * Token에서 Authentication 정보 추출
      */
     public Authentication getAuthentication(String token) {
-        Claims claims = parseClaims(token);
-        String username = claims.getSubject();
-        String authorities = claims.get("auth", String.class);
-
-        return new JwtAuthenticationToken(username, authorities);
+        JwtPrincipal principal = verify(token);
+        if (principal == null) {
+            throw new JwtException("Invalid JWT token");
+        }
+        return principal.toAuthentication();
     }
 
     /**
@@ -92,34 +235,15 @@ public class JwtTokenProvider {
      * Token 유효성 검증
      */
     public boolean validateToken(String token) {
-        try {
-            Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token);
-            return true;
-        } catch (SecurityException | MalformedJwtException e) {
-            log.error("Invalid JWT signature: {}", e.getMessage());
-        } catch (ExpiredJwtException e) {
-            log.error("Expired JWT token: {}", e.getMessage());
-        } catch (UnsupportedJwtException e) {
-            log.error("Unsupported JWT token: {}", e.getMessage());
-        } catch (IllegalArgumentException e) {
-            log.error("JWT token compact of handler are invalid: {}", e.getMessage());
-        }
-        return false;
+        return verify(token) != null;
     }
 
     /**
-     * Token에서 Claims 파싱
+     * Token에서 Claims 파싱 (만료된 토큰도 Claims 반환)
      */
     private Claims parseClaims(String token) {
         try {
-            return Jwts.parser()
-                    .verifyWith(secretKey)
-                    .build()
-                    .parseSignedClaims(token)
-                    .getPayload();
+            return jwtParser.parseSignedClaims(token).getPayload();
         } catch (ExpiredJwtException e) {
             return e.getClaims();
         }
@@ -139,4 +263,17 @@ public class JwtTokenProvider {
         Date expiration = getExpirationDate(token);
         return expiration.getTime() - System.currentTimeMillis();
     }
+
+    /**
+     * 토큰 해시 (토큰 원문을 메모리/DB 에 보관하지 않도록 SHA-256 해시 사용)
+     */
+    public static String hashToken(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] hashed = digest.digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hashed);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
 }
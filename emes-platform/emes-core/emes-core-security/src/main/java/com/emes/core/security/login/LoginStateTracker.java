@@ -0,0 +1,203 @@
+package com.emes.core.security.login;
+
+import com.emes.core.domain.mapper.UserMapper;
+import com.emes.core.domain.model.LoginState;
+import com.emes.core.domain.model.User;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 로그인 상태 추적기
+ * 로그인 실패 횟수 / 마지막 로그인 일시를 메모리에서 갱신하고 주기적으로 모아서 UPDATE
+ * (로그인마다 TB_CORE_USER 행을 UPDATE 하지 않아 관리자 수정과의 잠금 경합을 줄임)
+ *
+ * - 사용자 ID 기준 stripe 로 나누어 잠금 (사용자 간 경합 없음)
+ * - 실패 횟수가 max-failed-attempts 에 도달하면 즉시 계정 잠금 (잠금은 바로 DB 반영)
+ * - 종료 시 남은 변경을 모두 반영
+ */
+@Slf4j
+@Component
+public class LoginStateTracker {
+
+    private static final int STRIPE_COUNT = 64;
+    /** 한 문장의 최대 행 수 (행당 파라미터 3개, SQL Server 제한 2100) */
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    private final UserMapper userMapper;
+    private final int maxFailedAttempts;
+    private final Stripe[] stripes = new Stripe[STRIPE_COUNT];
+    /** flush 직렬화 (DB 반영을 포함하므로 ReentrantLock) */
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public LoginStateTracker(UserMapper userMapper,
+                             @Value("${emes.security.login.max-failed-attempts:5}") int maxFailedAttempts) {
+        this.userMapper = userMapper;
+        this.maxFailedAttempts = maxFailedAttempts;
+        for (int i = 0; i < STRIPE_COUNT; i++) {
+            stripes[i] = new Stripe();
+        }
+    }
+
+    /**
+     * 로그인 실패 기록
+     * 트랜잭션 밖에서 호출 (잠금 UPDATE 는 자동 커밋, REQUIRES_NEW 처럼 커넥션을 두 개 잡아 풀이 고갈되지 않도록)
+     * @return 이번 실패로 계정이 잠겼으면 true
+     */
+    public boolean recordFailure(User user) {
+        if (Boolean.TRUE.equals(user.getIsLocked())) {
+            return false;
+        }
+
+        boolean lockNow;
+        Stripe stripe = stripeOf(user.getUserId());
+        synchronized (stripe) {
+            // 메모리에 없으면 DB 값에서 시작 (아직 반영되지 않은 변경은 메모리 값이 최신)
+            Entry entry = stripe.entries.computeIfAbsent(user.getUserId(), id -> {
+                Entry created = new Entry();
+                created.failedAttempts = user.getFailedLoginAttempts() != null ? user.getFailedLoginAttempts() : 0;
+                return created;
+            });
+            if (entry.locked) {
+                return false;
+            }
+            entry.failedAttempts++;
+            entry.dirty = true;
+            lockNow = entry.failedAttempts >= maxFailedAttempts;
+            if (lockNow) {
+                entry.locked = true;
+            }
+        }
+
+        if (lockNow) {
+            userMapper.lockAccount(user.getUserId());
+            log.warn("Account locked after {} failed login attempts: {}", maxFailedAttempts, user.getUsername());
+        }
+        return lockNow;
+    }
+
+    /**
+     * 로그인 성공 기록 (실패 횟수 초기화 + 마지막 로그인 일시)
+     */
+    public void recordSuccess(Long userId) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            Entry entry = stripe.entries.computeIfAbsent(userId, id -> new Entry());
+            entry.failedAttempts = 0;
+            entry.lastLoginAt = LocalDateTime.now();
+            entry.locked = false;
+            entry.dirty = true;
+        }
+    }
+
+    /**
+     * 관리자 잠금 해제 시 실패 횟수 초기화
+     */
+    public void reset(Long userId) {
+        Stripe stripe = stripeOf(userId);
+        synchronized (stripe) {
+            Entry entry = stripe.entries.computeIfAbsent(userId, id -> new Entry());
+            entry.failedAttempts = 0;
+            entry.locked = false;
+            entry.dirty = true;
+        }
+    }
+
+    /**
+     * 변경된 로그인 상태 일괄 반영
+     */
+    @Scheduled(fixedDelayString = "${emes.security.login.flush-interval-ms:5000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            // 1. stripe 별로 변경분 복사 (잠금 구간 최소화)
+            List<LoginState> changes = new ArrayList<>();
+            for (Stripe stripe : stripes) {
+                synchronized (stripe) {
+                    stripe.entries.forEach((userId, entry) -> {
+                        if (entry.dirty) {
+                            entry.dirty = false;
+                            changes.add(new LoginState(userId, entry.failedAttempts, entry.lastLoginAt));
+                        }
+                    });
+                }
+            }
+
+            // 2. 다중 행 UPDATE
+            for (int from = 0; from < changes.size(); from += FLUSH_BATCH_SIZE) {
+                List<LoginState> batch = changes.subList(from, Math.min(from + FLUSH_BATCH_SIZE, changes.size()));
+                try {
+                    userMapper.updateLoginStates(batch);
+                } catch (Exception e) {
+                    log.warn("Failed to flush {} login states, will retry", batch.size(), e);
+                    markDirty(batch);
+                    continue;
+                }
+                evictFlushed(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 반영 실패 시 다음 flush 때 다시 반영
+     */
+    private void markDirty(List<LoginState> batch) {
+        for (LoginState state : batch) {
+            Stripe stripe = stripeOf(state.getUserId());
+            synchronized (stripe) {
+                Entry entry = stripe.entries.get(state.getUserId());
+                if (entry != null) {
+                    entry.dirty = true;
+                }
+            }
+        }
+    }
+
+    /**
+     * 반영 후 변경 없는 항목은 메모리에서 제거 (다음 이벤트 때 DB 값에서 다시 시작)
+     */
+    private void evictFlushed(List<LoginState> batch) {
+        for (LoginState state : batch) {
+            Stripe stripe = stripeOf(state.getUserId());
+            synchronized (stripe) {
+                Entry entry = stripe.entries.get(state.getUserId());
+                if (entry != null && !entry.dirty) {
+                    stripe.entries.remove(state.getUserId());
+                }
+            }
+        }
+    }
+
+    private Stripe stripeOf(Long userId) {
+        return stripes[(int) (userId & (STRIPE_COUNT - 1))];
+    }
+
+    private static final class Stripe {
+
+        private final Map<Long, Entry> entries = new HashMap<>();
+    }
+
+    private static final class Entry {
+
+        private int failedAttempts;
+        private LocalDateTime lastLoginAt;
+        private boolean locked;
+        private boolean dirty;
+    }
+}
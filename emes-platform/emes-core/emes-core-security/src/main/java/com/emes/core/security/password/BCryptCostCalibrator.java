@@ -0,0 +1,55 @@
+package com.emes.core.security.password;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+
+import java.util.Arrays;
+
+/**
+ * BCrypt cost 보정
+ * 측정용 cost 의 해시 시간을 측정한 뒤 cost 가 1 오를 때마다 시간이 2배가 되는 성질로
+ * 목표 시간 이내에서 가장 큰 cost 를 선택
+ * 기동 시 부하로 측정이 느려도 이전 고정 cost(12) 아래로는 내리지 않음
+ */
+@Slf4j
+public final class BCryptCostCalibrator {
+
+    /** 최소 cost (보정 도입 전 고정값) */
+    public static final int MIN_STRENGTH = 12;
+    public static final int MAX_STRENGTH = 14;
+    /** 측정용 cost (기동 시간을 줄이기 위해 낮은 cost 로 측정) */
+    private static final int MEASURE_STRENGTH = 10;
+    private static final int SAMPLES = 3;
+
+    private BCryptCostCalibrator() {
+    }
+
+    /**
+     * 목표 해시 시간에 맞는 cost
+     */
+    public static int calibrate(long targetMillis) {
+        BCryptPasswordEncoder encoder = new BCryptPasswordEncoder(MEASURE_STRENGTH);
+        String sample = "calibration-" + System.nanoTime();
+
+        // 1. 워밍업 후 중앙값 측정
+        encoder.encode(sample);
+        long[] nanos = new long[SAMPLES];
+        for (int i = 0; i < SAMPLES; i++) {
+            long startedAt = System.nanoTime();
+            encoder.encode(sample);
+            nanos[i] = System.nanoTime() - startedAt;
+        }
+        Arrays.sort(nanos);
+        double baseMillis = nanos[SAMPLES / 2] / 1_000_000.0;
+
+        // 2. 목표 시간을 넘지 않는 최대 cost (MIN_STRENGTH 이상)
+        int strength = MIN_STRENGTH;
+        while (strength < MAX_STRENGTH && baseMillis * (1L << (strength + 1 - MEASURE_STRENGTH)) <= targetMillis) {
+            strength++;
+        }
+
+        log.info("BCrypt cost calibrated: {} (cost {} = {} ms, target {} ms)",
+                strength, MEASURE_STRENGTH, String.format("%.1f", baseMillis), targetMillis);
+        return strength;
+    }
+}
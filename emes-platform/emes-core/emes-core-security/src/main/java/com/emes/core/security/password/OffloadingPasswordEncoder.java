@@ -0,0 +1,58 @@
+package com.emes.core.security.password;
+
+import com.emes.core.security.password.PasswordHashingExecutor.Operation;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 해시 연산을 PasswordHashingExecutor 에서 실행하는 PasswordEncoder
+ * 저장된 해시의 BCrypt cost 가 현재 설정보다 낮으면 upgradeEncoding 이 true 를 반환하여
+ * 로그인 성공 시 UserDetailsPasswordService 로 다시 해시
+ * (높은 cost 는 낮추지 않음 - 서버마다 보정 결과가 달라도 같은 계정을 번갈아 재해시하지 않도록)
+ */
+public class OffloadingPasswordEncoder implements PasswordEncoder {
+
+    private static final Pattern BCRYPT_PATTERN = Pattern.compile("^\\$2[aby]?\\$(\\d\\d)\\$");
+
+    private final PasswordEncoder delegate;
+    private final PasswordHashingExecutor executor;
+    private final int strength;
+
+    public OffloadingPasswordEncoder(PasswordEncoder delegate, PasswordHashingExecutor executor, int strength) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.strength = strength;
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return executor.execute(Operation.ENCODE, () -> delegate.encode(rawPassword));
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        return executor.execute(Operation.MATCHES, () -> delegate.matches(rawPassword, encodedPassword));
+    }
+
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        if (encodedPassword == null) {
+            return false;
+        }
+        Matcher matcher = BCRYPT_PATTERN.matcher(encodedPassword);
+        return matcher.find() && Integer.parseInt(matcher.group(1)) < strength;
+    }
+
+    /**
+     * 실행기를 거치지 않는 원본 인코더 (이미 별도 풀에서 실행되는 백그라운드 작업용)
+     */
+    public PasswordEncoder getDelegate() {
+        return delegate;
+    }
+
+    public int getStrength() {
+        return strength;
+    }
+}
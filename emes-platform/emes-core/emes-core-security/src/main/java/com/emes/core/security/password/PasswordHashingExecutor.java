@@ -0,0 +1,131 @@
+package com.emes.core.security.password;
+
+import com.emes.core.common.exception.BusinessException;
+import com.emes.core.common.exception.ErrorCode;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 비밀번호 해시 전용 실행기
+ * BCrypt 연산을 CPU 코어 수 크기의 풀에서만 실행하여 로그인 폭주 시에도 요청 스레드의 CPU 를 독점하지 않음
+ *
+ * - 대기열이 가득 차거나 max-wait-ms 안에 끝나지 않으면 429 (재시도 가능)
+ * - 메트릭: emes.security.password.hash (실행 시간), .wait (대기 시간), .rejected, .queue, .active
+ */
+@Slf4j
+@Component
+public class PasswordHashingExecutor {
+
+    private static final String METRIC_NAME = "emes.security.password.hash";
+
+    private final ThreadPoolExecutor executor;
+    private final long maxWaitMillis;
+
+    private final Map<Operation, Timer> executionTimers = new EnumMap<>(Operation.class);
+    private final Timer waitTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordHashingExecutor(MeterRegistry meterRegistry,
+                                   @Value("${emes.security.password-hashing.threads:0}") int threads,
+                                   @Value("${emes.security.password-hashing.queue-capacity:64}") int queueCapacity,
+                                   @Value("${emes.security.password-hashing.max-wait-ms:5000}") long maxWaitMillis) {
+        int poolSize = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolExecutor(
+                poolSize, poolSize, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("password-hash-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        this.maxWaitMillis = maxWaitMillis;
+
+        for (Operation operation : Operation.values()) {
+            executionTimers.put(operation, Timer.builder(METRIC_NAME)
+                    .tag("operation", operation.name().toLowerCase())
+                    .description("Password hashing execution time")
+                    .register(meterRegistry));
+        }
+        this.waitTimer = Timer.builder(METRIC_NAME + ".wait")
+                .description("Time password hashing tasks spend queued")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder(METRIC_NAME + ".rejected")
+                .description("Password hashing tasks rejected (queue full or wait timeout)")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".queue", executor, e -> e.getQueue().size())
+                .description("Queued password hashing tasks")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("Running password hashing tasks")
+                .register(meterRegistry);
+
+        log.info("Password hashing executor: {} threads, queue {}", poolSize, queueCapacity);
+    }
+
+    /**
+     * 해시 연산 실행 후 결과 대기
+     * @throws BusinessException 대기열 초과 또는 대기 시간 초과 시 TOO_MANY_REQUESTS
+     */
+    public <T> T execute(Operation operation, Supplier<T> task) {
+        Timer executionTimer = executionTimers.get(operation);
+
+        // 1. 제출 (대기열이 가득 차면 즉시 거부)
+        long submittedAt = System.nanoTime();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                waitTimer.record(System.nanoTime() - submittedAt, TimeUnit.NANOSECONDS);
+                return executionTimer.record(task);
+            });
+        } catch (RejectedExecutionException e) {
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        }
+
+        // 2. 결과 대기 (시간 초과 시 아직 시작 전이면 실행되지 않도록 취소)
+        try {
+            return future.get(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(false);
+            rejectedCounter.increment();
+            throw new BusinessException(ErrorCode.TOO_MANY_REQUESTS);
+        } catch (InterruptedException e) {
+            future.cancel(false);
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, e.getCause());
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * 해시 연산 종류 (메트릭 태그)
+     */
+    public enum Operation {
+        ENCODE,
+        MATCHES
+    }
+}
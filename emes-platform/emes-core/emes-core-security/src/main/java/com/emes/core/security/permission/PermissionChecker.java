@@ -0,0 +1,42 @@
+package com.emes.core.security.permission;
+
+import com.emes.core.security.jwt.JwtAuthenticationToken;
+import lombok.RequiredArgsConstructor;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+/**
+ * 권한 검사 (@PreAuthorize("@permission.has('USER_READ')") 형태로 사용)
+ * JWT 인증이면 토큰의 권한 비트셋을 직접 조회하여 권한 문자열 목록을 순회하지 않음
+ */
+@Component("permission")
+@RequiredArgsConstructor
+public class PermissionChecker {
+
+    private final PermissionRegistry permissionRegistry;
+
+    /**
+     * 현재 사용자의 권한 보유 여부
+     */
+    public boolean has(String permissionCode) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return false;
+        }
+
+        // permission_id 를 권한 번호로 사용하므로 토큰 발급 시점의 레지스트리와 번호가 같음
+        if (authentication instanceof JwtAuthenticationToken jwtAuthentication) {
+            int ordinal = permissionRegistry.current().ordinalOf(permissionCode);
+            return jwtAuthentication.hasPermission(ordinal, permissionCode);
+        }
+
+        for (GrantedAuthority authority : authentication.getAuthorities()) {
+            if (permissionCode.equals(authority.getAuthority())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,282 @@
+package com.emes.core.security.permission;
+
+import com.emes.core.domain.event.RolePermissionChangedEvent;
+import com.emes.core.domain.mapper.PermissionMapper;
+import com.emes.core.domain.model.Permission;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * 권한 레지스트리
+ * TB_CORE_PERMISSION 의 permission_id 를 권한 번호(비트 위치)로 사용하여
+ * 권한 목록을 비트셋으로 인코딩 / 디코딩 (ID 는 재사용되지 않으므로 번호가 바뀌지 않음)
+ *
+ * 토큰에는 비트셋과 함께 켜진 비트마다 (permission_id, permission_code) 의 2바이트 체크값을 담음
+ * - 권한 추가는 기존 토큰에 영향 없음 (각 노드가 서로 다른 시점에 다시 로드해도 호환)
+ * - 레지스트리에 없는 ID(삭제 / 아직 로드 전)나 코드가 바뀐 ID 의 비트는 무시 (권한이 줄어드는 방향만 허용)
+ *
+ * version 은 전체 (permission_id, permission_code) 목록의 해시로, 체크값이 없는 이전 형식 토큰 검증에만 사용
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PermissionRegistry {
+
+    /** 비트셋 최대 크기 (이보다 큰 permission_id 는 문자열 권한으로 처리) */
+    static final int MAX_ORDINAL = 1 << 16;
+    private static final long MIN_RELOAD_INTERVAL_MILLIS = 30_000L;
+
+    private final PermissionMapper permissionMapper;
+
+    private volatile Snapshot snapshot;
+    private volatile long lastLoadedAt;
+    /** 다시 로드 직렬화 (요청 스레드에서도 호출되므로 가상 스레드 고정 방지용 ReentrantLock) */
+    private final ReentrantLock reloadLock = new ReentrantLock();
+
+    /**
+     * 현재 레지스트리 (최초 호출 시 로드)
+     */
+    public Snapshot current() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        reloadLock.lock();
+        try {
+            // 잠금 대기 중 다른 스레드가 먼저 로드했으면 그대로 사용 (동시 최초 호출 시 한 번만 조회)
+            current = snapshot;
+            return current != null ? current : reload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 토큰 비트셋 해석 (ID 기준, 모르는 ID / 코드가 바뀐 ID 의 비트는 제거)
+     * 다른 서버에서 먼저 추가된 권한일 수 있으므로 현재 최대 ID 보다 큰 비트가 있으면 한 번 다시 로드 (최소 간격 제한)
+     * @param bits 토큰의 비트셋 (해석 결과로 변경됨)
+     * @param checks 켜진 비트별 체크값
+     * @return 체크값 형식이 맞지 않으면 null
+     */
+    public Snapshot decode(BitSet bits, byte[] checks) {
+        long loadedAt = lastLoadedAt;
+        Snapshot current = current();
+        if (bits.length() - 1 > current.maxOrdinal
+                && System.currentTimeMillis() - loadedAt >= MIN_RELOAD_INTERVAL_MILLIS) {
+            current = reloadIfNotLoadedSince(loadedAt);
+        }
+        return current.retainValid(bits, checks) ? current : null;
+    }
+
+    /**
+     * 이전 형식 토큰(체크값 없음)의 레지스트리 버전과 맞는 스냅샷 조회
+     * 다른 서버에서 먼저 갱신되었을 수 있으므로 버전이 다르면 한 번 다시 로드 (최소 간격 제한)
+     * @return 버전이 일치하지 않으면 null
+     */
+    public Snapshot forVersion(String version) {
+        long loadedAt = lastLoadedAt;
+        Snapshot current = current();
+        if (current.getVersion().equals(version)) {
+            return current;
+        }
+        if (System.currentTimeMillis() - loadedAt < MIN_RELOAD_INTERVAL_MILLIS) {
+            return null;
+        }
+        current = reloadIfNotLoadedSince(loadedAt);
+        return current.getVersion().equals(version) ? current : null;
+    }
+
+    /**
+     * 레지스트리 다시 로드
+     */
+    public Snapshot reload() {
+        reloadLock.lock();
+        try {
+            List<Permission> permissions = permissionMapper.selectAll();
+            Snapshot loaded = new Snapshot(permissions);
+            snapshot = loaded;
+            lastLoadedAt = System.currentTimeMillis();
+            log.info("Permission registry loaded: {} permissions (version {})", permissions.size(), loaded.getVersion());
+            return loaded;
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 확인 시점 이후 다른 스레드가 다시 로드하지 않은 경우에만 다시 로드 (같은 토큰이 동시에 들어와도 한 번만 조회)
+     */
+    private Snapshot reloadIfNotLoadedSince(long loadedAt) {
+        reloadLock.lock();
+        try {
+            Snapshot current = snapshot;
+            return current != null && lastLoadedAt != loadedAt ? current : reload();
+        } finally {
+            reloadLock.unlock();
+        }
+    }
+
+    /**
+     * 전체 권한 변경 시 다음 사용 때 다시 로드
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolePermissionChanged(RolePermissionChangedEvent event) {
+        if (event.getRoleId() == null) {
+            snapshot = null;
+        }
+    }
+
+    /**
+     * 레지스트리 스냅샷 (불변)
+     */
+    public static final class Snapshot {
+
+        private final String version;
+        private final Map<String, Integer> ordinalByCode;
+        /** 권한 번호별 GrantedAuthority (요청마다 새로 만들지 않고 공유) */
+        private final GrantedAuthority[] authorities;
+        /** 권한 번호별 체크값 ((permission_id, permission_code) 해시 앞 2바이트) */
+        private final short[] checks;
+        private final int maxOrdinal;
+
+        private Snapshot(List<Permission> permissions) {
+            Map<String, Integer> ordinals = new HashMap<>();
+            int maxOrdinal = 0;
+            for (Permission permission : permissions) {
+                long id = permission.getPermissionId();
+                if (id > 0 && id < MAX_ORDINAL) {
+                    ordinals.put(permission.getPermissionCode(), (int) id);
+                    maxOrdinal = Math.max(maxOrdinal, (int) id);
+                }
+            }
+
+            GrantedAuthority[] byOrdinal = new GrantedAuthority[maxOrdinal + 1];
+            short[] checksByOrdinal = new short[maxOrdinal + 1];
+            ordinals.forEach((code, ordinal) -> {
+                byOrdinal[ordinal] = new SimpleGrantedAuthority(code);
+                checksByOrdinal[ordinal] = checkOf(ordinal, code);
+            });
+
+            this.ordinalByCode = Collections.unmodifiableMap(ordinals);
+            this.authorities = byOrdinal;
+            this.checks = checksByOrdinal;
+            this.maxOrdinal = maxOrdinal;
+            this.version = computeVersion(permissions);
+        }
+
+        public String getVersion() {
+            return version;
+        }
+
+        /**
+         * 권한 번호 (레지스트리에 없으면 -1)
+         */
+        public int ordinalOf(String permissionCode) {
+            Integer ordinal = ordinalByCode.get(permissionCode);
+            return ordinal != null ? ordinal : -1;
+        }
+
+        /**
+         * 권한 목록 → 비트셋 (레지스트리에 없는 권한은 others 에 추가)
+         */
+        public BitSet encode(Collection<? extends GrantedAuthority> grantedAuthorities, List<String> others) {
+            BitSet bits = new BitSet();
+            for (GrantedAuthority authority : grantedAuthorities) {
+                int ordinal = ordinalOf(authority.getAuthority());
+                if (ordinal >= 0) {
+                    bits.set(ordinal);
+                } else {
+                    others.add(authority.getAuthority());
+                }
+            }
+            return bits;
+        }
+
+        /**
+         * 켜진 비트별 체크값 (비트 순서대로 2바이트씩)
+         */
+        public byte[] checksOf(BitSet bits) {
+            byte[] result = new byte[bits.cardinality() * 2];
+            int index = 0;
+            for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+                short check = ordinal < checks.length ? checks[ordinal] : 0;
+                result[index++] = (byte) (check >> 8);
+                result[index++] = (byte) check;
+            }
+            return result;
+        }
+
+        /**
+         * 레지스트리에 없거나 체크값이 다른(코드가 바뀐) 비트 제거
+         * @return 체크값 길이가 비트 수와 맞지 않으면 false
+         */
+        boolean retainValid(BitSet bits, byte[] tokenChecks) {
+            if (tokenChecks.length != bits.cardinality() * 2) {
+                return false;
+            }
+            int index = 0;
+            for (int ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+                short check = (short) (((tokenChecks[index] & 0xFF) << 8) | (tokenChecks[index + 1] & 0xFF));
+                index += 2;
+                if (ordinal >= authorities.length || authorities[ordinal] == null || checks[ordinal] != check) {
+                    bits.clear(ordinal);
+                }
+            }
+            return true;
+        }
+
+        /**
+         * 비트셋 → 공유 GrantedAuthority 목록
+         */
+        public List<GrantedAuthority> toAuthorities(BitSet bits) {
+            List<GrantedAuthority> result = new ArrayList<>(bits.cardinality());
+            for (int ordinal = bits.nextSetBit(0); ordinal >= 0 && ordinal < authorities.length; ordinal = bits.nextSetBit(ordinal + 1)) {
+                if (authorities[ordinal] != null) {
+                    result.add(authorities[ordinal]);
+                }
+            }
+            return result;
+        }
+
+        private static short checkOf(int ordinal, String code) {
+            byte[] hash = sha256().digest((ordinal + ":" + code).getBytes(StandardCharsets.UTF_8));
+            return (short) (((hash[0] & 0xFF) << 8) | (hash[1] & 0xFF));
+        }
+
+        private static MessageDigest sha256() {
+            try {
+                return MessageDigest.getInstance("SHA-256");
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 is not available", e);
+            }
+        }
+
+        private static String computeVersion(List<Permission> permissions) {
+            MessageDigest digest = sha256();
+            for (Permission permission : permissions) {
+                digest.update((permission.getPermissionId() + ":" + permission.getPermissionCode() + "\n")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            byte[] hash = Arrays.copyOf(digest.digest(), 8);
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        }
+    }
+}
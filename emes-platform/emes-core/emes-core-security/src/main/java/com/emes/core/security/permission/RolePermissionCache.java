@@ -0,0 +1,170 @@
+package com.emes.core.security.permission;
+
+import com.emes.core.domain.event.RolePermissionChangedEvent;
+import com.emes.core.domain.mapper.RolePermissionMapper;
+import com.emes.core.domain.model.RolePermission;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 역할별 권한 캐시
+ * 역할 → 권한 코드 집합(불변)을 메모리에 보관하여 로그인마다 3개 테이블 조인을 반복하지 않음
+ * RolePermissionChangedEvent 로 무효화하며, DB 를 직접 수정하는 경우에 대비해 TTL 후 다시 조회
+ */
+@Slf4j
+@Component
+public class RolePermissionCache {
+
+    private static final String METRIC_NAME = "emes.security.role.permission.cache";
+
+    private final RolePermissionMapper rolePermissionMapper;
+    private final long ttlMillis;
+    private final Map<Long, Entry> cache = new ConcurrentHashMap<>();
+    /** 무효화 세대 (조회 도중 무효화된 결과가 캐시에 남지 않도록 비교) */
+    private final AtomicLong generation = new AtomicLong();
+
+    private final Counter hitCounter;
+    private final Counter missCounter;
+    private final Counter invalidationCounter;
+
+    public RolePermissionCache(RolePermissionMapper rolePermissionMapper,
+                               MeterRegistry meterRegistry,
+                               @Value("${emes.security.permission-cache.ttl-seconds:600}") long ttlSeconds) {
+        this.rolePermissionMapper = rolePermissionMapper;
+        this.ttlMillis = ttlSeconds * 1000;
+
+        this.hitCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "hit")
+                .description("Role permission cache lookups")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder(METRIC_NAME)
+                .tag("result", "miss")
+                .description("Role permission cache lookups")
+                .register(meterRegistry);
+        this.invalidationCounter = Counter.builder(METRIC_NAME + ".invalidations")
+                .description("Role permission cache invalidations")
+                .register(meterRegistry);
+        Gauge.builder(METRIC_NAME + ".size", cache, Map::size)
+                .description("Cached roles")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 역할 목록의 권한 코드 합집합 (캐시에 없는 역할만 한 번에 조회)
+     */
+    public Set<String> getPermissions(Collection<Long> roleIds) {
+        if (roleIds == null || roleIds.isEmpty()) {
+            return Collections.emptySet();
+        }
+
+        long now = System.currentTimeMillis();
+        Set<String> permissions = new HashSet<>();
+        List<Long> missedRoleIds = null;
+        for (Long roleId : roleIds) {
+            Entry entry = cache.get(roleId);
+            if (entry != null && entry.expiresAt > now) {
+                hitCounter.increment();
+                permissions.addAll(entry.permissions);
+            } else {
+                missCounter.increment();
+                if (missedRoleIds == null) {
+                    missedRoleIds = new ArrayList<>();
+                }
+                missedRoleIds.add(roleId);
+            }
+        }
+
+        if (missedRoleIds != null) {
+            load(missedRoleIds).values().forEach(permissions::addAll);
+        }
+        return Collections.unmodifiableSet(permissions);
+    }
+
+    /**
+     * 역할 캐시 무효화
+     */
+    public void invalidate(Long roleId) {
+        generation.incrementAndGet();
+        cache.remove(roleId);
+        invalidationCounter.increment();
+        log.debug("Role permission cache invalidated: {}", roleId);
+    }
+
+    /**
+     * 전체 캐시 무효화
+     */
+    public void invalidateAll() {
+        generation.incrementAndGet();
+        cache.clear();
+        invalidationCounter.increment();
+        log.debug("Role permission cache invalidated: all");
+    }
+
+    /**
+     * 역할-권한 변경 반영 (트랜잭션 커밋 후, 트랜잭션 밖에서 발행되면 즉시)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onRolePermissionChanged(RolePermissionChangedEvent event) {
+        if (event.getRoleId() == null) {
+            invalidateAll();
+        } else {
+            invalidate(event.getRoleId());
+        }
+    }
+
+    /**
+     * 역할별 권한 조회 후 캐시 적재 (권한이 없는 역할도 빈 집합으로 적재)
+     */
+    private Map<Long, Set<String>> load(List<Long> roleIds) {
+        long loadGeneration = generation.get();
+
+        Map<Long, Set<String>> grouped = new HashMap<>();
+        for (Long roleId : roleIds) {
+            grouped.put(roleId, new HashSet<>());
+        }
+        for (RolePermission rolePermission : rolePermissionMapper.selectByRoleIds(roleIds)) {
+            grouped.get(rolePermission.getRoleId()).add(rolePermission.getPermissionCode());
+        }
+
+        long expiresAt = System.currentTimeMillis() + ttlMillis;
+        Map<Long, Set<String>> loaded = new HashMap<>();
+        grouped.forEach((roleId, permissions) -> {
+            Set<String> immutablePermissions = Set.copyOf(permissions);
+            loaded.put(roleId, immutablePermissions);
+
+            cache.put(roleId, new Entry(immutablePermissions, expiresAt));
+            // 조회 도중 무효화되었으면 방금 적재한 값은 이전 데이터일 수 있으므로 제거
+            if (generation.get() != loadGeneration) {
+                cache.remove(roleId);
+            }
+        });
+        return loaded;
+    }
+
+    private static final class Entry {
+
+        private final Set<String> permissions;
+        private final long expiresAt;
+
+        private Entry(Set<String> permissions, long expiresAt) {
+            this.permissions = permissions;
+            this.expiresAt = expiresAt;
+        }
+    }
+}
@@ -7,7 +7,10 @@ import com.emes.core.domain.model.User;
 import com.emes.core.security.dto.LoginRequest;
 import com.emes.core.security.dto.LoginResponse;
 import com.emes.core.security.dto.RefreshTokenRequest;
+import com.emes.core.security.jwt.JwtPrincipal;
 import com.emes.core.security.jwt.JwtTokenProvider;
+import com.emes.core.security.login.LoginStateTracker;
+import com.emes.core.security.token.RefreshTokenStore;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -28,11 +31,13 @@ public class AuthService {
     private final AuthenticationManager authenticationManager;
     private final JwtTokenProvider jwtTokenProvider;
     private final UserMapper userMapper;
+    private final RefreshTokenStore refreshTokenStore;
+    private final LoginStateTracker loginStateTracker;
 
     /**
      * 로그인
+     * 트랜잭션 없이 실행 (BCrypt 비교 동안 커넥션을 잡고 있지 않고, 실패 시 잠금은 단건 UPDATE 로 바로 커밋)
      */
-    @Transactional
     public LoginResponse login(LoginRequest request) {
         try {
             // 1. 사용자 인증
@@ -49,14 +54,17 @@ public class AuthService {
                 throw new BusinessException(ErrorCode.USER_NOT_FOUND);
             }
 
-            // 3. JWT 토큰 생성
+            // 3. 로그인 성공 기록 (실패 횟수 초기화, 마지막 로그인 일시는 일괄 반영)
+            loginStateTracker.recordSuccess(user.getUserId());
+
+            // 4. JWT 토큰 생성
             String accessToken = jwtTokenProvider.createAccessToken(authentication);
             String refreshToken = jwtTokenProvider.createRefreshToken(user.getUsername());
 
-            // 4. Refresh Token 저장 (DB 또는 Redis)
-            // TODO: RefreshToken을 DB에 저장하는 로직 추가
+            // 5. Refresh Token 저장 (write-behind, 응답 전에 INSERT 를 기다리지 않음)
+            refreshTokenStore.save(user.getUserId(), refreshToken);
 
-            // 5. 응답 생성
+            // 6. 응답 생성
             return LoginResponse.builder()
                     .accessToken(accessToken)
                     .refreshToken(refreshToken)
@@ -72,6 +80,12 @@ public class AuthService {
 
         } catch (AuthenticationException e) {
             log.error("Login failed for user: {} - {}", request.getUsername(), e.getMessage(), e);
+
+            // 실패 횟수 기록 (임계치 도달 시 즉시 잠금)
+            User user = userMapper.selectByUsername(request.getUsername());
+            if (user != null) {
+                loginStateTracker.recordFailure(user);
+            }
             throw new BusinessException(ErrorCode.INVALID_CREDENTIALS);
         }
     }
@@ -83,23 +97,26 @@ public class AuthService {
     public LoginResponse refresh(RefreshTokenRequest request) {
         String refreshToken = request.getRefreshToken();
 
-        // 1. Refresh Token 유효성 검증
-        if (!jwtTokenProvider.validateToken(refreshToken)) {
+        // 1. Refresh Token 검증 (서명 검증 1회로 사용자명까지 추출)
+        JwtPrincipal principal = jwtTokenProvider.verify(refreshToken);
+        if (principal == null) {
             throw new BusinessException(ErrorCode.INVALID_TOKEN);
         }
 
         // 2. Refresh Token에서 사용자명 추출
-        String username = jwtTokenProvider.getUsername(refreshToken);
+        String username = principal.getUsername();
 
-        // 3. DB에서 Refresh Token 검증
-        // TODO: DB에 저장된 Refresh Token과 비교하는 로직 추가
-
-        // 4. 사용자 정보 조회
+        // 3. 사용자 정보 조회
         User user = userMapper.selectByUsername(username);
         if (user == null) {
             throw new BusinessException(ErrorCode.USER_NOT_FOUND);
         }
 
+        // 4. 저장된 Refresh Token 확인 (폐기 목록 → 저장 대기 → DB)
+        if (!refreshTokenStore.isActive(user.getUserId(), refreshToken)) {
+            throw new BusinessException(ErrorCode.INVALID_TOKEN);
+        }
+
         // 5. 새로운 Access Token 생성
         Authentication authentication = new UsernamePasswordAuthenticationToken(
                 username, null, null);
@@ -125,7 +142,10 @@ public class AuthService {
      */
     @Transactional
     public void logout(String refreshToken) {
-        // TODO: DB에서 Refresh Token 삭제
+        // 서명이 유효한 토큰만 폐기 목록에 추가 (임의 문자열로 폐기 목록이 채워지지 않도록)
+        if (jwtTokenProvider.verify(refreshToken) != null) {
+            refreshTokenStore.revoke(refreshToken);
+        }
         log.info("User logged out");
     }
 }
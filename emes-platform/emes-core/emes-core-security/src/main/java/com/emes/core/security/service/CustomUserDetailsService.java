@@ -4,28 +4,35 @@ import com.emes.core.common.exception.BusinessException;
 import com.emes.core.common.exception.ErrorCode;
 import com.emes.core.domain.mapper.UserMapper;
 import com.emes.core.domain.model.User;
+import com.emes.core.security.group.GroupHierarchyIndex;
+import com.emes.core.security.permission.RolePermissionCache;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 
 /**
  * Custom UserDetailsService
  * Spring Security에서 사용자 정보를 로드
+ * 저장된 해시의 BCrypt cost 가 현재 설정과 다르면 로그인 성공 시 새 해시로 교체 (UserDetailsPasswordService)
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
 
     private final UserMapper userMapper;
+    private final RolePermissionCache rolePermissionCache;
+    private final GroupHierarchyIndex groupHierarchyIndex;
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
@@ -51,13 +58,32 @@ public class CustomUserDetailsService implements UserDetailsService {
         return createUserDetails(user);
     }
 
+    /**
+     * 로그인 성공 후 비밀번호 재해시 결과 저장 (비밀번호 변경 일시는 유지)
+     */
+    @Override
+    public UserDetails updatePassword(UserDetails userDetails, String newPassword) {
+        User user = userMapper.selectByUsername(userDetails.getUsername());
+        if (user == null) {
+            return userDetails;
+        }
+        userMapper.updatePasswordHash(user.getUserId(), newPassword);
+        log.debug("비밀번호 해시 갱신: {}", userDetails.getUsername());
+
+        return org.springframework.security.core.userdetails.User.withUserDetails(userDetails)
+                .password(newPassword)
+                .build();
+    }
+
     /**
      * User 객체를 Spring Security UserDetails로 변환
+     * 사용자 → 역할 / 그룹은 단일 테이블 조회, 그룹 상속 역할과 역할 → 권한은 메모리에서 계산
      */
     private UserDetails createUserDetails(User user) {
-        List<String> permissions = userMapper.selectPermissionsByUserId(user.getUserId());
+        List<Long> roleIds = groupHierarchyIndex.resolveRoleIds(user.getUserId());
+        Set<String> permissions = rolePermissionCache.getPermissions(roleIds);
 
-        List<GrantedAuthority> authorities = new ArrayList<>();
+        List<GrantedAuthority> authorities = new ArrayList<>(permissions.size() + 1);
         authorities.add(new SimpleGrantedAuthority("ROLE_USER"));
         for (String perm : permissions) {
             authorities.add(new SimpleGrantedAuthority(perm));
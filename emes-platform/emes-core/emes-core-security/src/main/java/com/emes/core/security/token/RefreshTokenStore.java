@@ -0,0 +1,210 @@
+package com.emes.core.security.token;
+
+import com.emes.core.domain.mapper.RefreshTokenMapper;
+import com.emes.core.domain.model.RefreshToken;
+import com.emes.core.security.jwt.JwtTokenProvider;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Refresh Token 저장소
+ * TB_CORE_REFRESH_TOKEN 에 토큰 해시를 저장하며, 로그인 응답 경로에서 INSERT 를 기다리지 않도록 write-behind 로 처리
+ *
+ * - 저장: 대기 목록에 넣고 주기적으로 다중 행 INSERT (flush-interval-ms)
+ *   저장 전 서버가 비정상 종료되면 해당 토큰은 재발급 불가 (재로그인 필요)
+ * - 폐기: 메모리 폐기 목록 + DB 갱신, 재발급 시 폐기 목록을 먼저 확인
+ * - 만료 정리: 만료된 행을 sweep-batch-size 건씩 나누어 삭제
+ */
+@Slf4j
+@Component
+public class RefreshTokenStore {
+
+    /** 다중 행 INSERT 한 문장의 최대 행 수 (행당 파라미터 6개, SQL Server 제한 2100) */
+    private static final int INSERT_BATCH_SIZE = 300;
+    /** 대기 토큰이 이 수를 넘으면 호출 스레드에서 바로 저장 (DB 장애 시 메모리 무한 증가 방지) */
+    private static final int MAX_PENDING = 10_000;
+    /** 한 번의 만료 정리에서 실행할 최대 DELETE 횟수 */
+    private static final int MAX_SWEEP_BATCHES = 100;
+
+    private final RefreshTokenMapper refreshTokenMapper;
+    private final Duration refreshTokenValidity;
+    private final int sweepBatchSize;
+
+    /** 저장 대기 토큰 (토큰 해시 → 행) */
+    private final Map<String, RefreshToken> pendingTokens = new ConcurrentHashMap<>();
+    /** 폐기된 토큰 해시 (토큰 유효 기간 동안만 보관) */
+    private final Cache<String, Boolean> revokedTokens;
+    private final ReentrantLock flushLock = new ReentrantLock();
+
+    public RefreshTokenStore(RefreshTokenMapper refreshTokenMapper,
+                             @Value("${jwt.refresh-token-validity-in-seconds}") long refreshTokenValidityInSeconds,
+                             @Value("${emes.security.refresh-token.sweep-batch-size:1000}") int sweepBatchSize,
+                             @Value("${emes.security.refresh-token.max-revoked:100000}") long maxRevoked) {
+        this.refreshTokenMapper = refreshTokenMapper;
+        this.refreshTokenValidity = Duration.ofSeconds(refreshTokenValidityInSeconds);
+        this.sweepBatchSize = sweepBatchSize;
+        this.revokedTokens = Caffeine.newBuilder()
+                .maximumSize(maxRevoked)
+                .expireAfterWrite(refreshTokenValidity)
+                .build();
+    }
+
+    /**
+     * 토큰 저장 요청 (다음 flush 때 INSERT)
+     */
+    public void save(Long userId, String refreshToken) {
+        LocalDateTime now = LocalDateTime.now();
+        String tokenValue = JwtTokenProvider.hashToken(refreshToken);
+        pendingTokens.put(tokenValue, RefreshToken.builder()
+                .userId(userId)
+                .tokenValue(tokenValue)
+                .expiresAt(now.plus(refreshTokenValidity))
+                .isRevoked(false)
+                .createdAt(now)
+                .build());
+
+        if (pendingTokens.size() >= MAX_PENDING) {
+            flush();
+        }
+    }
+
+    /**
+     * 재발급에 사용할 수 있는 토큰인지 확인
+     * @return 폐기/만료되었거나 다른 사용자의 토큰이면 false
+     */
+    public boolean isActive(Long userId, String refreshToken) {
+        String tokenValue = JwtTokenProvider.hashToken(refreshToken);
+
+        // 1. 폐기 목록 (DB 조회 없이 거부)
+        if (revokedTokens.getIfPresent(tokenValue) != null) {
+            return false;
+        }
+
+        // 2. 아직 저장되지 않은 토큰
+        RefreshToken pending = pendingTokens.get(tokenValue);
+        if (pending != null) {
+            return pending.getUserId().equals(userId);
+        }
+
+        // 3. DB (다른 서버에서 폐기된 경우 포함)
+        RefreshToken stored = refreshTokenMapper.selectActiveByTokenValue(tokenValue, LocalDateTime.now());
+        return stored != null && stored.getUserId().equals(userId);
+    }
+
+    /**
+     * 토큰 폐기
+     */
+    public void revoke(String refreshToken) {
+        String tokenValue = JwtTokenProvider.hashToken(refreshToken);
+        revokedTokens.put(tokenValue, Boolean.TRUE);
+
+        // 저장 전이면 INSERT 하지 않고 버림
+        if (pendingTokens.remove(tokenValue) != null) {
+            return;
+        }
+        refreshTokenMapper.revokeByTokenValue(tokenValue, LocalDateTime.now());
+    }
+
+    /**
+     * 대기 토큰 저장 (다중 행 INSERT)
+     */
+    @Scheduled(fixedDelayString = "${emes.security.refresh-token.flush-interval-ms:1000}")
+    public void flush() {
+        flushLock.lock();
+        try {
+            if (pendingTokens.isEmpty()) {
+                return;
+            }
+
+            List<RefreshToken> batch = new ArrayList<>(INSERT_BATCH_SIZE);
+            for (RefreshToken token : pendingTokens.values()) {
+                batch.add(token);
+                if (batch.size() == INSERT_BATCH_SIZE) {
+                    insert(batch);
+                    batch = new ArrayList<>(INSERT_BATCH_SIZE);
+                }
+            }
+            if (!batch.isEmpty()) {
+                insert(batch);
+            }
+        } finally {
+            flushLock.unlock();
+        }
+    }
+
+    /**
+     * 만료 토큰 정리 (sweep-batch-size 건씩 나누어 삭제)
+     */
+    @Scheduled(fixedDelayString = "${emes.security.refresh-token.sweep-interval-ms:600000}",
+            initialDelayString = "${emes.security.refresh-token.sweep-interval-ms:600000}")
+    public void sweepExpired() {
+        LocalDateTime now = LocalDateTime.now();
+        int deleted = 0;
+        try {
+            for (int i = 0; i < MAX_SWEEP_BATCHES; i++) {
+                int count = refreshTokenMapper.deleteExpired(now, sweepBatchSize);
+                deleted += count;
+                if (count < sweepBatchSize) {
+                    break;
+                }
+            }
+        } catch (Exception e) {
+            log.warn("Failed to sweep expired refresh tokens", e);
+        }
+        if (deleted > 0) {
+            log.info("Expired refresh tokens deleted: {}", deleted);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    private void insert(List<RefreshToken> batch) {
+        try {
+            refreshTokenMapper.insertBatch(batch);
+        } catch (DuplicateKeyException e) {
+            // 이미 저장된 토큰이 섞인 경우 한 건씩 저장하고 중복은 버림
+            for (RefreshToken token : batch) {
+                try {
+                    refreshTokenMapper.insertBatch(List.of(token));
+                } catch (DuplicateKeyException duplicate) {
+                    log.debug("Refresh token already stored: user {}", token.getUserId());
+                } catch (Exception retryFailure) {
+                    log.warn("Failed to store refresh token, will retry: user {}", token.getUserId(), retryFailure);
+                    continue;
+                }
+                pendingTokens.remove(token.getTokenValue(), token);
+            }
+            return;
+        } catch (Exception e) {
+            // 대기 목록에 그대로 두고 다음 flush 때 재시도
+            log.warn("Failed to store {} refresh tokens, will retry", batch.size(), e);
+            return;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        for (RefreshToken token : batch) {
+            pendingTokens.remove(token.getTokenValue(), token);
+            // INSERT 도중 폐기된 토큰은 DB 에도 폐기 반영
+            if (revokedTokens.getIfPresent(token.getTokenValue()) != null) {
+                refreshTokenMapper.revokeByTokenValue(token.getTokenValue(), now);
+            }
+        }
+    }
+}
@@ -0,0 +1,52 @@
+#!/usr/bin/env bash
+# 플랫폼 스레드 / 가상 스레드 모드를 차례로 기동하여 같은 부하를 주고 처리량과 p99 를 비교
+#
+# 사용법: ./run-comparison.sh [emes-api jar 경로]
+#   필요: k6, jq, 실행 중인 MS SQL Server (docker-compose.yml)
+#   VUS / DURATION / BASE_URL 환경 변수는 user-api.js 로 그대로 전달
+set -euo pipefail
+
+SCRIPT_DIR="$(cd "$(dirname "$0")" && pwd)"
+JAR="${1:-$SCRIPT_DIR/../../emes-api/build/libs/emes-api-1.0.0-SNAPSHOT.jar}"
+RESULT_DIR="$SCRIPT_DIR/results"
+PORT="${PORT:-8080}"
+export BASE_URL="${BASE_URL:-http://localhost:$PORT}"
+
+mkdir -p "$RESULT_DIR"
+
+run_mode() {
+  local mode="$1" virtual="$2"
+  echo "=== $mode (spring.threads.virtual.enabled=$virtual)"
+
+  # 가상 스레드 고정(pinning) 발생 시 스택을 로그로 남김
+  EMES_VIRTUAL_THREADS="$virtual" java -Djdk.tracePinnedThreads=short -jar "$JAR" \
+    --server.port="$PORT" --logging.level.com.emes=INFO --logging.level.org.springframework.web=INFO \
+    > "$RESULT_DIR/$mode-server.log" 2>&1 &
+  local pid=$!
+  trap 'kill $pid 2>/dev/null || true' RETURN
+
+  for _ in $(seq 1 60); do
+    curl -sf "$BASE_URL/actuator/health" > /dev/null && break
+    sleep 2
+  done
+
+  # 워밍업 후 측정
+  DURATION=15s k6 run --quiet "$SCRIPT_DIR/user-api.js" > /dev/null
+  k6 run --summary-export "$RESULT_DIR/$mode.json" "$SCRIPT_DIR/user-api.js"
+
+  kill "$pid"
+  wait "$pid" 2>/dev/null || true
+}
+
+run_mode platform false
+run_mode virtual true
+
+echo
+printf '%-10s %12s %10s %10s %8s\n' mode "req/s" "p50(ms)" "p99(ms)" pinned
+for mode in platform virtual; do
+  printf '%-10s %12.1f %10.1f %10.1f %8s\n' "$mode" \
+    "$(jq '.metrics.http_reqs.rate' "$RESULT_DIR/$mode.json")" \
+    "$(jq '.metrics.http_req_duration["p(50)"]' "$RESULT_DIR/$mode.json")" \
+    "$(jq '.metrics.http_req_duration["p(99)"]' "$RESULT_DIR/$mode.json")" \
+    "$(grep -c 'pinned' "$RESULT_DIR/$mode-server.log" || true)"
+done
@@ -0,0 +1,61 @@
+// 플랫폼 스레드 / 가상 스레드 모드 비교용 부하 시나리오 (k6)
+// 사용자 목록(검색 + 페이징)과 사용자 상세 조회를 섞어 DB 대기가 대부분인 요청을 발생시킴
+//
+// 환경 변수
+//   BASE_URL   대상 서버 (기본값 http://localhost:8080)
+//   USERNAME / PASSWORD   로그인 계정 (기본값 admin / admin123!)
+//   VUS        동시 사용자 수 (기본값 200)
+//   DURATION   측정 시간 (기본값 60s)
+import http from 'k6/http';
+import { check } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8080';
+
+export const options = {
+  scenarios: {
+    users: {
+      executor: 'constant-vus',
+      vus: Number(__ENV.VUS || 200),
+      duration: __ENV.DURATION || '60s',
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+};
+
+export function setup() {
+  const response = http.post(
+    `${BASE_URL}/api/v1/auth/login`,
+    JSON.stringify({
+      username: __ENV.USERNAME || 'admin',
+      password: __ENV.PASSWORD || 'admin123!',
+    }),
+    { headers: { 'Content-Type': 'application/json' } }
+  );
+  check(response, { 'login succeeded': (r) => r.status === 200 });
+
+  const token = response.json('data.accessToken');
+  const page = http.get(`${BASE_URL}/api/v1/admin/users?page=0&size=100&withTotal=false`, {
+    headers: { Authorization: `Bearer ${token}` },
+  });
+  const userIds = (page.json('data.content') || []).map((user) => user.userId);
+  return { token, userIds: userIds.length > 0 ? userIds : [1] };
+}
+
+export default function (data) {
+  const params = { headers: { Authorization: `Bearer ${data.token}` } };
+
+  if (Math.random() < 0.5) {
+    const response = http.get(`${BASE_URL}/api/v1/admin/users?page=0&size=20&withTotal=false`, {
+      ...params,
+      tags: { name: 'searchUsers' },
+    });
+    check(response, { 'search 200': (r) => r.status === 200 });
+  } else {
+    const userId = data.userIds[Math.floor(Math.random() * data.userIds.length)];
+    const response = http.get(`${BASE_URL}/api/v1/admin/users/${userId}`, {
+      ...params,
+      tags: { name: 'getUser' },
+    });
+    check(response, { 'get 200': (r) => r.status === 200 });
+  }
+}